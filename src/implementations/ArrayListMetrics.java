@@ -0,0 +1,126 @@
+package implementations;
+
+import utilities.ResizeMetrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects {@link ResizeMetrics} for one or more {@link MyArrayList}s.
+ * <p>
+ * Metrics are off unless they are attached, either to a single list with
+ * {@link MyArrayList#setMetrics(ArrayListMetrics)} or to every list created
+ * afterwards with {@link MyArrayList#setDefaultMetrics(ArrayListMetrics)}. A
+ * list without metrics pays only a null check on its resize and shift paths.
+ * The counters are safe to update from several threads, so one instance can
+ * be shared by lists that are used on different threads.
+ * </p>
+ * <p>
+ * {@link #register(String)} publishes the counters as a standard MBean on the
+ * platform MBean server, where JConsole or any other JMX client can read them.
+ * </p>
+ */
+public class ArrayListMetrics implements ResizeMetrics {
+
+    /** Bytes per element reference, assuming a 64-bit JVM with compressed references. */
+    private static final int REFERENCE_BYTES = 4;
+
+    private final LongAdder resizes = new LongAdder();
+    private final LongAdder shrinks = new LongAdder();
+    private final LongAdder copied = new LongAdder();
+    private final LongAdder wasted = new LongAdder();
+    private final LongAdder shifts = new LongAdder();
+    private final AtomicLong peakCapacity = new AtomicLong();
+
+    /** Records that a backing array of <code>capacity</code> elements is in use. */
+    void recordCapacity(int capacity){
+        long peak = peakCapacity.get();
+        while (capacity > peak && !peakCapacity.compareAndSet(peak, capacity))
+            peak = peakCapacity.get();
+    }
+
+    /**
+     * Records that a backing array of <code>oldCapacity</code> was replaced by
+     * one of <code>newCapacity</code>, copying <code>count</code> elements into
+     * a list of <code>size</code> elements.
+     */
+    void recordResize(int oldCapacity, int newCapacity, int count, int size){
+        if (newCapacity > oldCapacity) resizes.increment();
+        else if (newCapacity < oldCapacity) shrinks.increment();
+        copied.add((long) count * REFERENCE_BYTES);
+        wasted.add(newCapacity - size);
+        recordCapacity(newCapacity);
+    }
+
+    /** Records that <code>count</code> elements were moved within a backing array. */
+    void recordShifts(int count){
+        if (count > 0) shifts.add(count);
+    }
+
+    @Override
+    public long getResizeCount() {
+        return resizes.sum();
+    }
+
+    @Override
+    public long getShrinkCount() {
+        return shrinks.sum();
+    }
+
+    @Override
+    public long getBytesCopied() {
+        return copied.sum();
+    }
+
+    @Override
+    public long getPeakCapacity() {
+        return peakCapacity.get();
+    }
+
+    @Override
+    public long getWastedSlots() {
+        return wasted.sum();
+    }
+
+    @Override
+    public long getElementShifts() {
+        return shifts.sum();
+    }
+
+    @Override
+    public void reset() {
+        resizes.reset();
+        shrinks.reset();
+        copied.reset();
+        wasted.reset();
+        shifts.reset();
+        peakCapacity.set(0);
+    }
+
+    /**
+     * Registers these metrics on the platform MBean server.
+     * @param name the object name to register under, such as
+     *             <code>"implementations:type=ArrayListMetrics,name=orders"</code>
+     * @return the registered object name
+     * @throws JMException if the name is malformed or already registered
+     */
+    public ObjectName register(String name) throws JMException {
+        ObjectName objectName = new ObjectName(name);
+        ManagementFactory.getPlatformMBeanServer()
+                .registerMBean(new StandardMBean(this, ResizeMetrics.class), objectName);
+        return objectName;
+    }
+
+    /**
+     * Removes metrics registered by {@link #register(String)} from the platform MBean server.
+     * @param name the object name they were registered under
+     * @throws JMException if nothing is registered under the name
+     */
+    public static void unregister(ObjectName name) throws JMException {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+    }
+}
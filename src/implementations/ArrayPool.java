@@ -0,0 +1,177 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A pool of <code>Object[]</code> backing arrays that lists can borrow from
+ * instead of allocating, and hand back when they no longer need them.
+ * <p>
+ * Each thread has its own arrays, so borrowing and recycling never
+ * synchronize, and an array recycled on one thread is only reused on that
+ * thread. The arrays are grouped in power-of-two size classes: a request for
+ * <code>n</code> slots is served by a pooled array of at least <code>n</code>
+ * and less than <code>2n</code> slots, or by a new array of exactly
+ * <code>n</code> slots when the class has none. Each class keeps a bounded
+ * number of arrays and arrays above a maximum length are never kept, so an
+ * idle pool holds a bounded amount of memory per thread.
+ * </p>
+ * <p>
+ * The hit and miss counters are shared by all threads and are meant for
+ * tuning: a low {@link #hitRate()} means the lists using the pool are rarely
+ * released or that the size classes are too small to keep their arrays.
+ * </p>
+ */
+public final class ArrayPool {
+
+    private static final int DEFAULT_ARRAYS_PER_CLASS = 8;
+    private static final int DEFAULT_MAX_LENGTH = 1 << 16;
+    private static final Object[] EMPTY = new Object[0];
+
+    private final int arraysPerClass;
+    private final int maxLength;
+    private final ThreadLocal<Classes> classes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder recycled = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+
+    /** Constructs a pool that keeps up to 8 arrays of up to 65536 slots per size class and thread. */
+    public ArrayPool(){
+        this(DEFAULT_ARRAYS_PER_CLASS, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Constructs a pool.
+     * @param arraysPerClass the most arrays each thread keeps in one size class
+     * @param maxLength      the longest array the pool keeps
+     * @throws IllegalArgumentException if either limit is below 1
+     */
+    public ArrayPool(int arraysPerClass, int maxLength) throws IllegalArgumentException {
+        if (arraysPerClass < 1) throw new IllegalArgumentException("arrays per class must be at least 1: " + arraysPerClass);
+        if (maxLength < 1) throw new IllegalArgumentException("maximum length must be at least 1: " + maxLength);
+        this.arraysPerClass = arraysPerClass;
+        this.maxLength = maxLength;
+        final int classCount = sizeClass(maxLength) + 1;
+        classes = ThreadLocal.withInitial(() -> new Classes(classCount, arraysPerClass));
+    }
+
+    /** @return the size class of arrays of <code>length</code> slots: the floor of its base 2 logarithm */
+    private static int sizeClass(int length){
+        return 31 - Integer.numberOfLeadingZeros(length);
+    }
+
+    /**
+     * Borrows an array of at least <code>minLength</code> slots, all null.
+     * @param minLength the number of slots needed
+     * @return a pooled array shorter than twice <code>minLength</code>, or a new array of exactly <code>minLength</code>
+     * @throws IllegalArgumentException if the length is negative
+     */
+    public Object[] borrow(int minLength) throws IllegalArgumentException {
+        return borrow(minLength, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Borrows an array of at least <code>minLength</code> and at most
+     * <code>maxLength</code> slots, all null.
+     * @param minLength the number of slots needed
+     * @param maxLength the most slots the array may have
+     * @return a pooled array that fits both bounds, or a new array of exactly <code>minLength</code>
+     * @throws IllegalArgumentException if the length is negative or the bounds are reversed
+     */
+    public Object[] borrow(int minLength, int maxLength) throws IllegalArgumentException {
+        if (minLength < 0) throw new IllegalArgumentException("length cannot be negative: " + minLength);
+        if (maxLength < minLength)
+            throw new IllegalArgumentException("maximum length " + maxLength + " is below minimum length " + minLength);
+        if (minLength == 0) return EMPTY;
+        if (minLength <= this.maxLength) {
+            Classes pool = classes.get();
+            int k = sizeClass(minLength);
+            Object[][] arrays = pool.arrays[k];
+            int count = pool.counts[k];
+            for (int i = count - 1; i >= 0; i--) {
+                Object[] array = arrays[i];
+                if (array.length >= minLength && array.length <= maxLength) {
+                    arrays[i] = arrays[count - 1];
+                    arrays[count - 1] = null;
+                    pool.counts[k] = count - 1;
+                    hits.increment();
+                    return array;
+                }
+            }
+        }
+        misses.increment();
+        return new Object[minLength];
+    }
+
+    /**
+     * Hands an array back to the pool of the calling thread. Its slots are
+     * cleared first so that the pool does not keep elements reachable. The
+     * caller must not use the array afterwards.
+     * @param array the array to recycle
+     * @throws NullPointerException if the array is null
+     */
+    public void recycle(Object[] array) throws NullPointerException {
+        if (array == null) throw new NullPointerException("cannot recycle a null array");
+        if (array.length == 0) return;
+        if (array.length > maxLength) {
+            discarded.increment();
+            return;
+        }
+        Classes pool = classes.get();
+        int k = sizeClass(array.length);
+        if (pool.counts[k] == arraysPerClass) {
+            discarded.increment();
+            return;
+        }
+        Arrays.fill(array, null);
+        pool.arrays[k][pool.counts[k]++] = array;
+        recycled.increment();
+    }
+
+    /** @return the number of borrows served by a pooled array */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /** @return the number of borrows that had to allocate a new array */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /** @return the number of arrays the pool kept when they were recycled */
+    public long getRecycled() {
+        return recycled.sum();
+    }
+
+    /** @return the number of recycled arrays the pool dropped because they were too long or their class was full */
+    public long getDiscarded() {
+        return discarded.sum();
+    }
+
+    /** @return the share of borrows served by a pooled array, or 0 before the first borrow */
+    public double hitRate() {
+        long served = hits.sum();
+        long total = served + misses.sum();
+        return total == 0 ? 0 : (double) served / total;
+    }
+
+    /** Sets every counter back to zero. The pooled arrays are kept. */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        recycled.reset();
+        discarded.reset();
+    }
+
+    /** The arrays one thread has pooled, by size class. */
+    private static final class Classes {
+        private final Object[][][] arrays;
+        private final int[] counts;
+
+        private Classes(int classCount, int arraysPerClass){
+            arrays = new Object[classCount][arraysPerClass][];
+            counts = new int[classCount];
+        }
+    }
+}
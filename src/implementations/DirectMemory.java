@@ -0,0 +1,49 @@
+package implementations;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Releases the memory behind a direct or mapped buffer without waiting for
+ * the garbage collector. Java 8 has no public API for this, so the JDK's
+ * cleaner is reached by reflection. If that fails the buffer is simply left
+ * for the garbage collector.
+ */
+final class DirectMemory {
+
+    private DirectMemory() {
+    }
+
+    /**
+     * Frees a direct or mapped buffer. The buffer, and every view of it, must
+     * never be used again: touching freed memory crashes the JVM.
+     * @param buffer the buffer to free; null and heap buffers are ignored
+     */
+    static void free(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect()) return;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+        } catch (NoSuchMethodException e) {
+            freeJava8(buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // left for the garbage collector
+        }
+    }
+
+    private static void freeJava8(ByteBuffer buffer) {
+        try {
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null)
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // left for the garbage collector
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package implementations;
+
+import utilities.BinaryCodec;
+import utilities.DoubleIterator;
+import utilities.DoubleListADT;
+import utilities.IntIterator;
+import utilities.IntListADT;
+import utilities.Iterator;
+import utilities.ListADT;
+import utilities.LongIterator;
+import utilities.LongListADT;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Codecs for common element types, and methods that write a whole list
+ * through a codec for checkpointing and restore it later.
+ * <p>
+ * A list is written as its size followed by each element, with nothing else:
+ * no class descriptors, no back references and no per-element headers. The
+ * primitive lists are written straight from their values without boxing.
+ * Wrap the underlying streams in buffered streams for best throughput.
+ * </p>
+ */
+public final class ListCodecs {
+
+    /**
+     * The most slots allocated up front from a count read off a stream. A
+     * corrupt count cannot force a larger allocation before the elements
+     * actually arrive; longer data grows as it is read.
+     */
+    private static final int MAX_PRESIZE = 1 << 16;
+
+    /** Writes an <code>Integer</code> as 4 bytes. */
+    public static final BinaryCodec<Integer> INTEGER = new BinaryCodec<Integer>() {
+        @Override
+        public void write(DataOutput out, Integer element) throws IOException {
+            out.writeInt(element);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    /** Writes a <code>Long</code> as 8 bytes. */
+    public static final BinaryCodec<Long> LONG = new BinaryCodec<Long>() {
+        @Override
+        public void write(DataOutput out, Long element) throws IOException {
+            out.writeLong(element);
+        }
+
+        @Override
+        public Long read(DataInput in) throws IOException {
+            return in.readLong();
+        }
+    };
+
+    /** Writes a <code>Double</code> as 8 bytes. */
+    public static final BinaryCodec<Double> DOUBLE = new BinaryCodec<Double>() {
+        @Override
+        public void write(DataOutput out, Double element) throws IOException {
+            out.writeDouble(element);
+        }
+
+        @Override
+        public Double read(DataInput in) throws IOException {
+            return in.readDouble();
+        }
+    };
+
+    /**
+     * Writes a <code>String</code> as its UTF-8 byte count followed by the
+     * bytes. Unlike <code>DataOutput.writeUTF</code> it has no 64 KB limit.
+     */
+    public static final BinaryCodec<String> STRING = new BinaryCodec<String>() {
+        @Override
+        public void write(DataOutput out, String element) throws IOException {
+            byte[] bytes = element.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            int length = readCount(in);
+            byte[] bytes = new byte[Math.min(length, MAX_PRESIZE)];
+            for (int read = 0; read < length; ) {
+                if (read == bytes.length)
+                    bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+                in.readFully(bytes, read, bytes.length - read);
+                read = bytes.length;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    private ListCodecs() {
+    }
+
+    private static int readCount(DataInput in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) throw new StreamCorruptedException("negative count: " + count);
+        return count;
+    }
+
+    /**
+     * Writes a list as its size followed by each element.
+     * @param out   the stream to write to
+     * @param list  the list to write
+     * @param codec writes each element
+     * @param <E>   the type of elements in the list
+     * @throws IOException if the stream fails
+     * @throws NullPointerException if any argument is null
+     */
+    public static <E> void writeList(DataOutput out, ListADT<? extends E> list, BinaryCodec<? super E> codec)
+            throws IOException, NullPointerException {
+        if (out == null || list == null || codec == null) throw new NullPointerException("arguments cannot be null");
+        out.writeInt(list.size());
+        Iterator<? extends E> it = list.iterator();
+        while (it.hasNext())
+            codec.write(out, it.next());
+    }
+
+    /**
+     * Reads a list written by {@link #writeList(DataOutput, ListADT, BinaryCodec)}
+     * and appends its elements to <code>into</code>.
+     * @param in    the stream to read from
+     * @param into  the list to append the elements to
+     * @param codec reads each element
+     * @param <E>   the type of elements in the list
+     * @return the number of elements read
+     * @throws IOException if the stream fails, ends early or holds a negative size
+     * @throws NullPointerException if any argument is null
+     */
+    public static <E> int readList(DataInput in, ListADT<? super E> into, BinaryCodec<? extends E> codec)
+            throws IOException, NullPointerException {
+        if (in == null || into == null || codec == null) throw new NullPointerException("arguments cannot be null");
+        int count = readCount(in);
+        if (into instanceof MyArrayList)
+            ((MyArrayList<?>) into).ensureCapacity(into.size() + Math.min(count, MAX_PRESIZE));
+        for (int i = 0; i < count; i++)
+            into.add(codec.read(in));
+        return count;
+    }
+
+    /**
+     * Writes an <code>int</code> list as its size followed by each value.
+     * @param out  the stream to write to
+     * @param list the list to write
+     * @throws IOException if the stream fails
+     * @throws NullPointerException if any argument is null
+     */
+    public static void writeInts(DataOutput out, IntListADT list) throws IOException, NullPointerException {
+        if (out == null || list == null) throw new NullPointerException("arguments cannot be null");
+        out.writeInt(list.size());
+        IntIterator it = list.iterator();
+        while (it.hasNext())
+            out.writeInt(it.nextInt());
+    }
+
+    /**
+     * Reads an <code>int</code> list written by {@link #writeInts(DataOutput, IntListADT)}.
+     * @param in   the stream to read from
+     * @param into the list to append the values to
+     * @return the number of values read
+     * @throws IOException if the stream fails, ends early or holds a negative size
+     * @throws NullPointerException if any argument is null
+     */
+    public static int readInts(DataInput in, IntListADT into) throws IOException, NullPointerException {
+        if (in == null || into == null) throw new NullPointerException("arguments cannot be null");
+        int count = readCount(in);
+        for (int i = 0; i < count; i++)
+            into.add(in.readInt());
+        return count;
+    }
+
+    /**
+     * Writes a <code>long</code> list as its size followed by each value.
+     * @param out  the stream to write to
+     * @param list the list to write
+     * @throws IOException if the stream fails
+     * @throws NullPointerException if any argument is null
+     */
+    public static void writeLongs(DataOutput out, LongListADT list) throws IOException, NullPointerException {
+        if (out == null || list == null) throw new NullPointerException("arguments cannot be null");
+        out.writeInt(list.size());
+        LongIterator it = list.iterator();
+        while (it.hasNext())
+            out.writeLong(it.nextLong());
+    }
+
+    /**
+     * Reads a <code>long</code> list written by {@link #writeLongs(DataOutput, LongListADT)}.
+     * @param in   the stream to read from
+     * @param into the list to append the values to
+     * @return the number of values read
+     * @throws IOException if the stream fails, ends early or holds a negative size
+     * @throws NullPointerException if any argument is null
+     */
+    public static int readLongs(DataInput in, LongListADT into) throws IOException, NullPointerException {
+        if (in == null || into == null) throw new NullPointerException("arguments cannot be null");
+        int count = readCount(in);
+        for (int i = 0; i < count; i++)
+            into.add(in.readLong());
+        return count;
+    }
+
+    /**
+     * Writes a <code>double</code> list as its size followed by each value.
+     * @param out  the stream to write to
+     * @param list the list to write
+     * @throws IOException if the stream fails
+     * @throws NullPointerException if any argument is null
+     */
+    public static void writeDoubles(DataOutput out, DoubleListADT list) throws IOException, NullPointerException {
+        if (out == null || list == null) throw new NullPointerException("arguments cannot be null");
+        out.writeInt(list.size());
+        DoubleIterator it = list.iterator();
+        while (it.hasNext())
+            out.writeDouble(it.nextDouble());
+    }
+
+    /**
+     * Reads a <code>double</code> list written by {@link #writeDoubles(DataOutput, DoubleListADT)}.
+     * @param in   the stream to read from
+     * @param into the list to append the values to
+     * @return the number of values read
+     * @throws IOException if the stream fails, ends early or holds a negative size
+     * @throws NullPointerException if any argument is null
+     */
+    public static int readDoubles(DataInput in, DoubleListADT into) throws IOException, NullPointerException {
+        if (in == null || into == null) throw new NullPointerException("arguments cannot be null");
+        int count = readCount(in);
+        for (int i = 0; i < count; i++)
+            into.add(in.readDouble());
+        return count;
+    }
+}
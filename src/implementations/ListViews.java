@@ -0,0 +1,635 @@
+package implementations;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Lazy views that transform a list or an iterator without copying it.
+ * <p>
+ * Each method returns a read-only view that computes its elements when they
+ * are asked for, so a chain such as
+ * <code>limit(map(filter(list, p), f), 10)</code> builds no intermediate list
+ * and stops calling <code>p</code> and <code>f</code> once ten elements have
+ * been produced. List views read through to their source every time, so they
+ * see later changes to it.
+ * </p>
+ * <p>
+ * <code>map</code>, <code>skip</code>, <code>limit</code>, <code>concat</code>
+ * and <code>zip</code> keep indexes, so their <code>get</code> is a constant
+ * number of <code>get</code> calls on the source: O(1) over an array list.
+ * A filtered view has to scan its source for <code>get</code> and
+ * <code>size</code>; walk it with its iterator instead. Stacked views of the
+ * same kind are fused into one: two maps become one composed function, skips
+ * and limits become one range, and two filters become one predicate.
+ * </p>
+ * <p>
+ * Views throw <code>UnsupportedOperationException</code> from every method
+ * that would change them, and are not serializable; copy a view into a list
+ * with <code>addAll</code> to keep or send it.
+ * </p>
+ */
+public final class ListViews {
+
+    private ListViews(){
+    }
+
+    /**
+     * Returns a view of a list with a function applied to each element.
+     * @param source   the list to view
+     * @param function maps each element; it must not return null
+     * @param <T>      the type of elements in the source
+     * @param <R>      the type of elements in the view
+     * @return a view with the same size as the source
+     * @throws NullPointerException if either argument is null
+     */
+    public static <T, R> ListADT<R> map(ListADT<T> source, Function<? super T, ? extends R> function) throws NullPointerException {
+        if (source == null) throw new NullPointerException("source list cannot be null");
+        if (function == null) throw new NullPointerException("function cannot be null");
+        if (source instanceof Mapped) return fuse((Mapped<?, ? extends T>) source, function);
+        return new Mapped<>(source, function);
+    }
+
+    /** Composes two maps, keeping the inner map's null check on the intermediate result. */
+    private static <S, T, R> ListADT<R> fuse(Mapped<S, ? extends T> inner, Function<? super T, ? extends R> function){
+        return new Mapped<S, R>(inner.source, element -> function.apply(inner.apply(element)));
+    }
+
+    /**
+     * Returns a view of the elements of a list that match a predicate.
+     * @param source the list to view
+     * @param filter decides which elements to keep
+     * @param <E>    the type of elements in the list
+     * @return a view whose <code>get</code> and <code>size</code> scan the source
+     * @throws NullPointerException if either argument is null
+     */
+    public static <E> ListADT<E> filter(ListADT<E> source, Predicate<? super E> filter) throws NullPointerException {
+        if (source == null) throw new NullPointerException("source list cannot be null");
+        if (filter == null) throw new NullPointerException("filter cannot be null");
+        if (source instanceof Filtered) {
+            Filtered<E> inner = (Filtered<E>) source;
+            Predicate<? super E> first = inner.filter;
+            return new Filtered<E>(inner.source, element -> first.test(element) && filter.test(element));
+        }
+        return new Filtered<>(source, filter);
+    }
+
+    /**
+     * Returns a view of the first elements of a list.
+     * @param source  the list to view
+     * @param maxSize the most elements the view has
+     * @param <E>     the type of elements in the list
+     * @return a view of at most <code>maxSize</code> elements
+     * @throws NullPointerException if the list is null
+     * @throws IllegalArgumentException if <code>maxSize</code> is negative
+     */
+    public static <E> ListADT<E> limit(ListADT<E> source, int maxSize) throws NullPointerException, IllegalArgumentException {
+        if (source == null) throw new NullPointerException("source list cannot be null");
+        if (maxSize < 0) throw new IllegalArgumentException("limit cannot be negative: " + maxSize);
+        if (source instanceof Range) {
+            Range<E> inner = (Range<E>) source;
+            return new Range<>(inner.source, inner.from, Math.min(inner.maxSize, maxSize));
+        }
+        return new Range<>(source, 0, maxSize);
+    }
+
+    /**
+     * Returns a view of a list without its first elements.
+     * @param source the list to view
+     * @param count  the number of elements to leave out
+     * @param <E>    the type of elements in the list
+     * @return a view that starts at index <code>count</code> of the source
+     * @throws NullPointerException if the list is null
+     * @throws IllegalArgumentException if <code>count</code> is negative
+     */
+    public static <E> ListADT<E> skip(ListADT<E> source, int count) throws NullPointerException, IllegalArgumentException {
+        if (source == null) throw new NullPointerException("source list cannot be null");
+        if (count < 0) throw new IllegalArgumentException("skip count cannot be negative: " + count);
+        if (source instanceof Range) {
+            Range<E> inner = (Range<E>) source;
+            int from = (int) Math.min(Integer.MAX_VALUE, (long) inner.from + count);
+            return new Range<>(inner.source, from, Math.max(0, inner.maxSize - count));
+        }
+        return new Range<>(source, count, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a view of one list followed by another.
+     * @param first  the list whose elements come first
+     * @param second the list whose elements follow
+     * @param <E>    the type of elements in the lists
+     * @return a view whose size is the sum of both sizes
+     * @throws NullPointerException if either list is null
+     */
+    public static <E> ListADT<E> concat(ListADT<? extends E> first, ListADT<? extends E> second) throws NullPointerException {
+        if (first == null || second == null) throw new NullPointerException("cannot concatenate a null list");
+        return new Concatenated<>(first, second);
+    }
+
+    /**
+     * Returns a view that combines the elements of two lists at the same index.
+     * @param first    the list of first arguments
+     * @param second   the list of second arguments
+     * @param combiner combines a pair of elements; it must not return null
+     * @param <A>      the type of elements in the first list
+     * @param <B>      the type of elements in the second list
+     * @param <R>      the type of elements in the view
+     * @return a view as long as the shorter list
+     * @throws NullPointerException if any argument is null
+     */
+    public static <A, B, R> ListADT<R> zip(ListADT<A> first, ListADT<B> second,
+            BiFunction<? super A, ? super B, ? extends R> combiner) throws NullPointerException {
+        if (first == null || second == null) throw new NullPointerException("cannot zip a null list");
+        if (combiner == null) throw new NullPointerException("combiner cannot be null");
+        return new Zipped<>(first, second, combiner);
+    }
+
+    /**
+     * Returns an iterator that applies a function to each element of another.
+     * @param source   the iterator to read from
+     * @param function maps each element
+     * @param <T>      the type of elements read
+     * @param <R>      the type of elements returned
+     * @return a lazy iterator
+     * @throws NullPointerException if either argument is null
+     */
+    public static <T, R> Iterator<R> map(Iterator<T> source, Function<? super T, ? extends R> function) throws NullPointerException {
+        if (source == null) throw new NullPointerException("source iterator cannot be null");
+        if (function == null) throw new NullPointerException("function cannot be null");
+        return new Iterator<R>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public R next() throws NoSuchElementException {
+                return function.apply(source.next());
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator over the elements of another that match a predicate.
+     * @param source the iterator to read from
+     * @param filter decides which elements to return
+     * @param <E>    the type of elements
+     * @return a lazy iterator that reads ahead by at most one element
+     * @throws NullPointerException if either argument is null
+     */
+    public static <E> Iterator<E> filter(Iterator<E> source, Predicate<? super E> filter) throws NullPointerException {
+        if (source == null) throw new NullPointerException("source iterator cannot be null");
+        if (filter == null) throw new NullPointerException("filter cannot be null");
+        return new FilterItr<>(source, filter);
+    }
+
+    /**
+     * Returns an iterator over at most the first <code>maxSize</code> elements of another.
+     * @param source  the iterator to read from
+     * @param maxSize the most elements to return
+     * @param <E>     the type of elements
+     * @return a lazy iterator that stops reading the source once the limit is reached
+     * @throws NullPointerException if the iterator is null
+     * @throws IllegalArgumentException if <code>maxSize</code> is negative
+     */
+    public static <E> Iterator<E> limit(Iterator<E> source, long maxSize) throws NullPointerException, IllegalArgumentException {
+        if (source == null) throw new NullPointerException("source iterator cannot be null");
+        if (maxSize < 0) throw new IllegalArgumentException("limit cannot be negative: " + maxSize);
+        return new Iterator<E>() {
+            private long remaining = maxSize;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0 && source.hasNext();
+            }
+
+            @Override
+            public E next() throws NoSuchElementException {
+                if (remaining <= 0) throw new NoSuchElementException();
+                E element = source.next();
+                remaining--;
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator that leaves out the first <code>count</code> elements of another.
+     * The elements are skipped the first time the iterator is used.
+     * @param source the iterator to read from
+     * @param count  the number of elements to leave out
+     * @param <E>    the type of elements
+     * @return a lazy iterator
+     * @throws NullPointerException if the iterator is null
+     * @throws IllegalArgumentException if <code>count</code> is negative
+     */
+    public static <E> Iterator<E> skip(Iterator<E> source, long count) throws NullPointerException, IllegalArgumentException {
+        if (source == null) throw new NullPointerException("source iterator cannot be null");
+        if (count < 0) throw new IllegalArgumentException("skip count cannot be negative: " + count);
+        return new Iterator<E>() {
+            private long toSkip = count;
+
+            private void skipAhead(){
+                while (toSkip > 0 && source.hasNext()) {
+                    source.next();
+                    toSkip--;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                skipAhead();
+                return source.hasNext();
+            }
+
+            @Override
+            public E next() throws NoSuchElementException {
+                skipAhead();
+                return source.next();
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator over the elements of one iterator followed by another.
+     * @param first  the iterator read first
+     * @param second the iterator read once the first is exhausted
+     * @param <E>    the type of elements
+     * @return a lazy iterator
+     * @throws NullPointerException if either iterator is null
+     */
+    public static <E> Iterator<E> concat(Iterator<? extends E> first, Iterator<? extends E> second) throws NullPointerException {
+        if (first == null || second == null) throw new NullPointerException("cannot concatenate a null iterator");
+        return new Iterator<E>() {
+            @Override
+            public boolean hasNext() {
+                return first.hasNext() || second.hasNext();
+            }
+
+            @Override
+            public E next() throws NoSuchElementException {
+                return first.hasNext() ? first.next() : second.next();
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator that combines the elements of two iterators in step.
+     * @param first    the iterator of first arguments
+     * @param second   the iterator of second arguments
+     * @param combiner combines a pair of elements
+     * @param <A>      the type of elements in the first iterator
+     * @param <B>      the type of elements in the second iterator
+     * @param <R>      the type of elements returned
+     * @return a lazy iterator that ends when either source does
+     * @throws NullPointerException if any argument is null
+     */
+    public static <A, B, R> Iterator<R> zip(Iterator<A> first, Iterator<B> second,
+            BiFunction<? super A, ? super B, ? extends R> combiner) throws NullPointerException {
+        if (first == null || second == null) throw new NullPointerException("cannot zip a null iterator");
+        if (combiner == null) throw new NullPointerException("combiner cannot be null");
+        return new Iterator<R>() {
+            @Override
+            public boolean hasNext() {
+                return first.hasNext() && second.hasNext();
+            }
+
+            @Override
+            public R next() throws NoSuchElementException {
+                if (!hasNext()) throw new NoSuchElementException();
+                return combiner.apply(first.next(), second.next());
+            }
+        };
+    }
+
+    /** Iterator that reads ahead to the next element that matches. */
+    private static class FilterItr<E> implements Iterator<E> {
+        private final Iterator<E> source;
+        private final Predicate<? super E> filter;
+        private E next;
+        private boolean found;
+
+        private FilterItr(Iterator<E> source, Predicate<? super E> filter){
+            this.source = source;
+            this.filter = filter;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!found && source.hasNext()) {
+                next = source.next();
+                found = filter.test(next);
+            }
+            return found;
+        }
+
+        @Override
+        public E next() throws NoSuchElementException {
+            if (!hasNext()) throw new NoSuchElementException();
+            E element = next;
+            next = null;
+            found = false;
+            return element;
+        }
+    }
+
+    /**
+     * Base class of the list views. Every mutator throws, and the queries are
+     * built on <code>iterator()</code>, which each view implements.
+     */
+    private abstract static class View<E> implements ListADT<E> {
+        private static final long serialVersionUID = 1L;
+
+        private static UnsupportedOperationException readOnly(){
+            return new UnsupportedOperationException("a list view cannot be changed; change its source instead");
+        }
+
+        void checkIndexInRange(int index, int size) throws IndexOutOfBoundsException{
+            if(index >= size || index < 0)
+                throw new IndexOutOfBoundsException("index of " + index + "is out of range for list of size " + size);
+        }
+
+        /** Views read through to their source and cannot be serialized; copy them first. */
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            throw new NotSerializableException(getClass().getName());
+        }
+
+        @Override
+        public void clear() {
+            throw readOnly();
+        }
+
+        @Override
+        public boolean add(int index, E toAdd) {
+            throw readOnly();
+        }
+
+        @Override
+        public boolean add(E toAdd) {
+            throw readOnly();
+        }
+
+        @Override
+        public boolean addAll(ListADT<? extends E> toAdd) {
+            throw readOnly();
+        }
+
+        @Override
+        public E remove(int index) {
+            throw readOnly();
+        }
+
+        @Override
+        public E remove(E toRemove) {
+            throw readOnly();
+        }
+
+        @Override
+        public E set(int index, E toChange) {
+            throw readOnly();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !iterator().hasNext();
+        }
+
+        @Override
+        public boolean contains(E toFind) throws NullPointerException {
+            if (toFind == null) throw new NullPointerException("Cannot search for null value");
+            Iterator<E> it = iterator();
+            while (it.hasNext()) {
+                if (toFind.equals(it.next())) return true;
+            }
+            return false;
+        }
+
+        @Override
+        public E[] toArray(E[] toHold) throws NullPointerException {
+            if (toHold == null) throw new NullPointerException("toHold cannot be null");
+            Object[] elements = toArray();
+            if (toHold.length < elements.length) toHold = Arrays.copyOf(toHold, elements.length);
+            System.arraycopy(elements, 0, toHold, 0, elements.length);
+            return toHold;
+        }
+
+        @Override
+        public Object[] toArray() {
+            Object[] elements = new Object[16];
+            int count = 0;
+            Iterator<E> it = iterator();
+            while (it.hasNext()) {
+                if (count == elements.length) elements = Arrays.copyOf(elements, count * 2);
+                elements[count++] = it.next();
+            }
+            return Arrays.copyOf(elements, count);
+        }
+    }
+
+    private static class Mapped<T, R> extends View<R> {
+        private static final long serialVersionUID = 1L;
+        private final ListADT<T> source;
+        private final Function<? super T, ? extends R> function;
+
+        private Mapped(ListADT<T> source, Function<? super T, ? extends R> function){
+            this.source = source;
+            this.function = function;
+        }
+
+        private R apply(T element){
+            R mapped = function.apply(element);
+            if (mapped == null) throw new NullPointerException("function returned null for " + element);
+            return mapped;
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return source.isEmpty();
+        }
+
+        @Override
+        public R get(int index) throws IndexOutOfBoundsException {
+            return apply(source.get(index));
+        }
+
+        /** Walks the source's own iterator, which is faster than indexing a linked source. */
+        @Override
+        public Iterator<R> iterator() {
+            Iterator<T> it = source.iterator();
+            return new Iterator<R>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public R next() throws NoSuchElementException {
+                    return apply(it.next());
+                }
+            };
+        }
+    }
+
+    private static class Filtered<E> extends View<E> {
+        private static final long serialVersionUID = 1L;
+        private final ListADT<E> source;
+        private final Predicate<? super E> filter;
+
+        private Filtered(ListADT<E> source, Predicate<? super E> filter){
+            this.source = source;
+            this.filter = filter;
+        }
+
+        /** Counts the matching elements, testing every element of the source. */
+        @Override
+        public int size() {
+            int count = 0;
+            Iterator<E> it = source.iterator();
+            while (it.hasNext()) {
+                if (filter.test(it.next())) count++;
+            }
+            return count;
+        }
+
+        /** Scans the source up to the <code>index</code>th matching element. */
+        @Override
+        public E get(int index) throws IndexOutOfBoundsException {
+            if (index < 0) checkIndexInRange(index, size());
+            int seen = 0;
+            Iterator<E> it = source.iterator();
+            while (it.hasNext()) {
+                E element = it.next();
+                if (filter.test(element) && seen++ == index) return element;
+            }
+            throw new IndexOutOfBoundsException("index of " + index + "is out of range for list of size " + seen);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new FilterItr<>(source.iterator(), filter);
+        }
+    }
+
+    /** The elements of a source from index <code>from</code>, at most <code>maxSize</code> of them. */
+    private static class Range<E> extends View<E> {
+        private static final long serialVersionUID = 1L;
+        private final ListADT<E> source;
+        private final int from;
+        private final int maxSize;
+
+        private Range(ListADT<E> source, int from, int maxSize){
+            this.source = source;
+            this.from = from;
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int size() {
+            return Math.max(0, Math.min(maxSize, source.size() - from));
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+
+        @Override
+        public E get(int index) throws IndexOutOfBoundsException {
+            checkIndexInRange(index, size());
+            return source.get(from + index);
+        }
+
+        /** Walks the source's own iterator, so a linked source is not indexed element by element. */
+        @Override
+        public Iterator<E> iterator() {
+            return limit(skip(source.iterator(), from), maxSize);
+        }
+    }
+
+    private static class Concatenated<E> extends View<E> {
+        private static final long serialVersionUID = 1L;
+        private final ListADT<? extends E> first;
+        private final ListADT<? extends E> second;
+
+        private Concatenated(ListADT<? extends E> first, ListADT<? extends E> second){
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public int size() {
+            return first.size() + second.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return first.isEmpty() && second.isEmpty();
+        }
+
+        @Override
+        public E get(int index) throws IndexOutOfBoundsException {
+            int split = first.size();
+            if (index < split) return first.get(index);
+            checkIndexInRange(index, split + second.size());
+            return second.get(index - split);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return concat(first.iterator(), second.iterator());
+        }
+    }
+
+    private static class Zipped<A, B, R> extends View<R> {
+        private static final long serialVersionUID = 1L;
+        private final ListADT<A> first;
+        private final ListADT<B> second;
+        private final BiFunction<? super A, ? super B, ? extends R> combiner;
+
+        private Zipped(ListADT<A> first, ListADT<B> second, BiFunction<? super A, ? super B, ? extends R> combiner){
+            this.first = first;
+            this.second = second;
+            this.combiner = combiner;
+        }
+
+        private R combine(A a, B b){
+            R combined = combiner.apply(a, b);
+            if (combined == null) throw new NullPointerException("combiner returned null for " + a + " and " + b);
+            return combined;
+        }
+
+        @Override
+        public int size() {
+            return Math.min(first.size(), second.size());
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return first.isEmpty() || second.isEmpty();
+        }
+
+        @Override
+        public R get(int index) throws IndexOutOfBoundsException {
+            checkIndexInRange(index, size());
+            return combine(first.get(index), second.get(index));
+        }
+
+        @Override
+        public Iterator<R> iterator() {
+            return zip(first.iterator(), second.iterator(), this::combine);
+        }
+    }
+}
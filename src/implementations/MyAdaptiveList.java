@@ -0,0 +1,297 @@
+package implementations;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A list that keeps its elements in a {@link MyArrayList} or a {@link MyDLL}
+ * and moves them to the other one when its recent operations would have been
+ * cheaper there.
+ * <p>
+ * Every indexed <code>get</code>, <code>set</code>, <code>add</code> and
+ * <code>remove</code> is charged to a simple cost model for both
+ * representations. In the array, reading any index costs one step and an
+ * edit also moves every element after it, at a fraction of a step each. In
+ * the linked list, every operation walks from the nearer end, one step per
+ * node. After every 1024 sampled operations the list compares the two
+ * totals. It migrates when the other representation would have saved more
+ * than copying all the elements costs, so a mix that is only slightly
+ * better elsewhere does not make the list switch back and forth.
+ * </p>
+ * <p>
+ * Random reads therefore pull the list into an array, and edits near the
+ * front of a long list pull it into a linked list. If a workload only ever
+ * edits both ends, a circular <code>MyArrayList</code> is cheaper than
+ * either and needs no sampling. The counters behind each decision are
+ * available through the getters, and {@link #convertTo(Representation)}
+ * and {@link #setAdaptive(boolean)} override the model.
+ * </p>
+ * @param <E> the type of elements in this list
+ */
+public class MyAdaptiveList<E> implements ListADT<E> {
+
+    private static final long serialVersionUID = 2360415829710438813L;
+    private static final int WINDOW = 1 << 10;
+    /** Cost of moving one array element, relative to following one link. */
+    private static final double SHIFT_COST = 0.125;
+    /** Cost of copying one element when migrating. */
+    private static final double MIGRATION_COST = 1;
+
+    /** The two ways this list can store its elements. */
+    public enum Representation {
+        /** Elements in a {@link MyArrayList}. */
+        ARRAY,
+        /** Elements in a {@link MyDLL}. */
+        LINKED
+    }
+
+    private ListADT<E> storage;
+    private Representation representation;
+    private boolean adaptive;
+
+    private transient int sampled;
+    private transient double arrayCost;
+    private transient double linkedCost;
+    private transient double lastArrayCost;
+    private transient double lastLinkedCost;
+    private transient long randomAccesses;
+    private transient long endEdits;
+    private transient long middleEdits;
+    private transient int migrations;
+
+    /** Constructs an empty list that starts as an array. */
+    public MyAdaptiveList(){
+        this(Representation.ARRAY);
+    }
+
+    /**
+     * Constructs an empty list.
+     * @param initial the representation to start with
+     * @throws NullPointerException if the representation is null
+     */
+    public MyAdaptiveList(Representation initial) throws NullPointerException {
+        if (initial == null) throw new NullPointerException("representation cannot be null");
+        representation = initial;
+        storage = initial == Representation.ARRAY ? MyArrayList.<E>internal() : new MyDLL<>();
+        adaptive = true;
+    }
+
+    /** @return the representation the elements are stored in now */
+    public Representation getRepresentation() {
+        return representation;
+    }
+
+    /** @return true if the list migrates on its own */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Turns sampling and automatic migration on or off. A list that is not
+     * adaptive keeps its current representation and pays nothing for the model.
+     * @param adaptive false to keep the current representation
+     */
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+        sampled = 0;
+        arrayCost = 0;
+        linkedCost = 0;
+    }
+
+    /** @return the number of times the list has changed representation */
+    public int getMigrationCount() {
+        return migrations;
+    }
+
+    /** @return the number of sampled <code>get</code> and <code>set</code> calls */
+    public long getRandomAccessCount() {
+        return randomAccesses;
+    }
+
+    /** @return the number of sampled inserts and removals at the first or last index */
+    public long getEndEditCount() {
+        return endEdits;
+    }
+
+    /** @return the number of sampled inserts and removals anywhere else */
+    public long getMiddleEditCount() {
+        return middleEdits;
+    }
+
+    /** @return the modelled cost of the last complete window as an array, or 0 before the first one */
+    public double getLastArrayCost() {
+        return lastArrayCost;
+    }
+
+    /** @return the modelled cost of the last complete window as a linked list, or 0 before the first one */
+    public double getLastLinkedCost() {
+        return lastLinkedCost;
+    }
+
+    /**
+     * Moves the elements into the given representation, whatever the model says.
+     * Does nothing if they are already stored that way.
+     * @param target the representation to use
+     * @throws NullPointerException if the representation is null
+     */
+    public void convertTo(Representation target) throws NullPointerException {
+        if (target == null) throw new NullPointerException("representation cannot be null");
+        if (target == representation) return;
+        ListADT<E> converted;
+        if (target == Representation.ARRAY) {
+            MyArrayList<E> array = MyArrayList.internal();
+            array.ensureCapacity(storage.size());
+            converted = array;
+        } else {
+            converted = new MyDLL<>();
+        }
+        converted.addAll(storage);
+        storage = converted;
+        representation = target;
+        migrations++;
+    }
+
+    /** Charges an operation at <code>index</code> to both models and decides at the end of each window. */
+    private void sample(int index, boolean edit){
+        int size = storage.size();
+        int walk = Math.min(index, size - index);
+        if (edit) {
+            if (index == 0 || index >= size - 1) endEdits++;
+            else middleEdits++;
+            arrayCost += 1 + SHIFT_COST * (size - index);
+        } else {
+            randomAccesses++;
+            arrayCost += 1;
+        }
+        linkedCost += 1 + walk;
+        if (++sampled == WINDOW) decide();
+    }
+
+    private void decide(){
+        lastArrayCost = arrayCost;
+        lastLinkedCost = linkedCost;
+        double migration = MIGRATION_COST * storage.size();
+        if (representation == Representation.ARRAY && arrayCost - linkedCost > migration)
+            convertTo(Representation.LINKED);
+        else if (representation == Representation.LINKED && linkedCost - arrayCost > migration)
+            convertTo(Representation.ARRAY);
+        sampled = 0;
+        arrayCost = 0;
+        linkedCost = 0;
+    }
+
+    /** @return the number of elements in the list */
+    @Override
+    public int size() {
+        return storage.size();
+    }
+
+    /** Clears the list, keeping its representation. */
+    @Override
+    public void clear() {
+        storage.clear();
+    }
+
+    /** Adds an element at a specific index. */
+    @Override
+    public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+        if (adaptive && index >= 0 && index <= storage.size()) sample(index, true);
+        return storage.add(index, toAdd);
+    }
+
+    /** Adds an element to the end of the list. Appends are cheap in both representations and are not sampled. */
+    @Override
+    public boolean add(E toAdd) throws NullPointerException {
+        return storage.add(toAdd);
+    }
+
+    /** Adds all elements from another list. */
+    @Override
+    public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+        if (toAdd == this) {
+            MyArrayList<E> snapshot = MyArrayList.internal(size());
+            snapshot.addAll(storage);
+            return storage.addAll(snapshot);
+        }
+        return storage.addAll(toAdd);
+    }
+
+    /** Gets an element at a given index. */
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        if (adaptive && index >= 0 && index < storage.size()) sample(index, false);
+        return storage.get(index);
+    }
+
+    /** Removes an element by index. */
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        if (adaptive && index >= 0 && index < storage.size()) sample(index, true);
+        return storage.remove(index);
+    }
+
+    /** Removes the first occurrence of an element. */
+    @Override
+    public E remove(E toRemove) throws NullPointerException {
+        return storage.remove(toRemove);
+    }
+
+    /** Replaces an element at a specific index. */
+    @Override
+    public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+        if (adaptive && index >= 0 && index < storage.size()) sample(index, false);
+        return storage.set(index, toChange);
+    }
+
+    /** @return true if list is empty */
+    @Override
+    public boolean isEmpty() {
+        return storage.isEmpty();
+    }
+
+    /** Checks if list contains an element. */
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        return storage.contains(toFind);
+    }
+
+    /** Converts list to array of type E. */
+    @Override
+    public E[] toArray(E[] toHold) throws NullPointerException {
+        return storage.toArray(toHold);
+    }
+
+    /** Converts list to Object array. */
+    @Override
+    public Object[] toArray() {
+        return storage.toArray();
+    }
+
+    /** @return an iterator over the current representation */
+    @Override
+    public Iterator<E> iterator() {
+        return storage.iterator();
+    }
+
+    /** Performs an action on every element, in order, with the representation's own loop. */
+    @Override
+    public void forEach(Consumer<? super E> action) throws NullPointerException {
+        storage.forEach(action);
+    }
+
+    /** Replaces every element with the result of the operator, with the representation's own loop. */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) throws NullPointerException {
+        storage.replaceAll(operator);
+    }
+
+    /** Removes every element that matches the predicate in one pass over the representation. */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) throws NullPointerException {
+        return storage.removeIf(filter);
+    }
+}
@@ -1,28 +1,192 @@
 package implementations;
 
+import utilities.GrowthPolicy;
 import utilities.Iterator;
 import utilities.ListADT;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * A simplified custom ArrayList implementation.
+ * <p>
+ * A list constructed in circular mode keeps its elements in a ring buffer that
+ * starts at a moving head offset and wraps around the end of the backing
+ * array. Adding or removing at either end is then O(1), and inserts and
+ * removals in the middle move whichever side of the index is shorter.
+ * </p>
+ * <p>
+ * How the backing array grows and shrinks is decided by a {@link GrowthPolicy};
+ * {@link ScalingGrowthPolicy#DEFAULT} is used unless another one is given.
+ * <code>clear()</code> keeps the current capacity, so a list that is filled
+ * and cleared repeatedly stops allocating once it has reached its working size.
+ * A list constructed with an {@link ArrayPool} borrows its backing arrays from
+ * the pool and hands back every array it outgrows; {@link #release()} hands
+ * back the current one too, for lists that are dropped rather than cleared.
+ * </p>
+ * <p>
+ * {@link #enableIndex()} adds a hash index from each element to its positions,
+ * which makes <code>contains</code> and <code>indexOf</code> O(1) expected. An
+ * edit updates the positions of whichever side of it is shorter, so edits
+ * anywhere but the ends of the list get slower by a constant factor, and
+ * edits at either end of a circular list stay O(1).
+ * </p>
+ * <p>
+ * Resizes and element shifts can be counted by attaching
+ * {@link ArrayListMetrics} to one list or, through
+ * {@link #setDefaultMetrics(ArrayListMetrics)}, to every new list. Without
+ * them the counting costs a null check.
+ * </p>
+ * <p>
+ * The serialized form is the size followed by the elements in list order. It
+ * leaves out the unused capacity and the ring offset, and a deserialized list
+ * gets a backing array of exactly its size. The hash index is rebuilt rather
+ * than written.
+ * </p>
  * @param <E> the type of elements in this list
  */
 public class MyArrayList<E> implements ListADT<E> {
 
-    private static final int MIN_CAPACITY = 10;
-    private static final double RESIZE_SCALING = 1.5;
-    private static final double MIN_FILL_PERCENTAGE = 0.5/Math.pow(RESIZE_SCALING, 2);
+    private static final long serialVersionUID = 6942815730215849260L;
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+    private static volatile ArrayListMetrics defaultMetrics;
 
-    private E[] list;
-    private int size;
+    private final GrowthPolicy policy;
+    private final boolean circular;
+    private transient E[] list;
+    private transient int head;
+    private transient int size;
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+    private transient PositionIndex<E> elementIndex;
+    /** Counts the structural changes to the list, so that sub lists can detect they are stale. */
+    private transient int modCount;
+    private transient ArrayListMetrics metrics;
+    private transient ArrayPool pool;
 
     /** Constructs an empty list. */
     public MyArrayList(){
-        list = getNewArray(MIN_CAPACITY);
+        this(ScalingGrowthPolicy.DEFAULT, false);
+    }
+
+    /**
+     * Constructs an empty list.
+     * @param circular true to store the elements in a ring buffer so that both
+     *                 ends of the list can be edited in constant time
+     */
+    public MyArrayList(boolean circular){
+        this(ScalingGrowthPolicy.DEFAULT, circular);
+    }
+
+    /**
+     * Constructs an empty list with room for the given number of elements.
+     * @param initialCapacity the capacity of the backing array
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public MyArrayList(int initialCapacity) throws IllegalArgumentException {
+        this(new ScalingGrowthPolicy(initialCapacity), false);
+    }
+
+    /**
+     * Constructs an empty list.
+     * @param policy   decides how the backing array grows and shrinks
+     * @param circular true to store the elements in a ring buffer
+     * @throws NullPointerException if the policy is null
+     */
+    public MyArrayList(GrowthPolicy policy, boolean circular) throws NullPointerException {
+        this(policy, circular, null);
+    }
+
+    /**
+     * Constructs an empty list that borrows its backing arrays from a pool.
+     * Every array the list outgrows or shrinks away from goes back to the
+     * pool, and {@link #release()} returns the current one.
+     * @param policy   decides how the backing array grows and shrinks
+     * @param circular true to store the elements in a ring buffer
+     * @param pool     the pool to borrow from, or null to allocate every array
+     * @throws NullPointerException if the policy is null
+     */
+    public MyArrayList(GrowthPolicy policy, boolean circular, ArrayPool pool) throws NullPointerException {
+        this(policy, circular, pool, defaultMetrics);
+    }
+
+    private MyArrayList(GrowthPolicy policy, boolean circular, ArrayPool pool, ArrayListMetrics metrics)
+            throws NullPointerException {
+        if (policy == null) throw new NullPointerException("growth policy cannot be null");
+        this.policy = policy;
+        this.circular = circular;
+        this.pool = pool;
+        list = newBackingArray(policy.initialCapacity());
+        head = 0;
         size = 0;
+        setMetrics(metrics);
+    }
+
+    /**
+     * Constructs an empty list that other classes in this package use as an
+     * implementation detail. It does not report to the default metrics, so
+     * the counters only show lists that callers created themselves.
+     * @param <E> the type of elements in the list
+     * @return a new list without metrics
+     */
+    static <E> MyArrayList<E> internal() {
+        return new MyArrayList<>(ScalingGrowthPolicy.DEFAULT, false, null, null);
+    }
+
+    /**
+     * Constructs an empty list like {@link #internal()} with room for the given number of elements.
+     * @param initialCapacity the capacity of the backing array
+     * @param <E> the type of elements in the list
+     * @return a new list without metrics
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    static <E> MyArrayList<E> internal(int initialCapacity) throws IllegalArgumentException {
+        return new MyArrayList<>(new ScalingGrowthPolicy(initialCapacity), false, null, null);
+    }
+
+    /**
+     * Sets the metrics that lists constructed from now on report to. Lists
+     * that already exist keep their own setting.
+     * @param metrics the metrics to share, or null to construct lists without metrics
+     */
+    public static void setDefaultMetrics(ArrayListMetrics metrics) {
+        defaultMetrics = metrics;
+    }
+
+    /** @return the metrics new lists report to, or null if they are constructed without metrics */
+    public static ArrayListMetrics getDefaultMetrics() {
+        return defaultMetrics;
+    }
+
+    /**
+     * Starts or stops reporting resizes and element shifts of this list.
+     * @param metrics the metrics to report to, possibly shared with other lists, or null to stop
+     */
+    public void setMetrics(ArrayListMetrics metrics) {
+        this.metrics = metrics;
+        if (metrics != null) metrics.recordCapacity(list.length);
+    }
+
+    /** @return the metrics this list reports to, or null if it has none */
+    public ArrayListMetrics getMetrics() {
+        return metrics;
+    }
+
+    /** @return true if this list was constructed in circular mode */
+    public boolean isCircular() {
+        return circular;
     }
 
     /** @return the number of elements in the list */
@@ -31,11 +195,48 @@ public class MyArrayList<E> implements ListADT<E> {
         return size;
     }
 
-    /** Clears the list. */
+    /** Clears the list, keeping the backing array for reuse. */
     @Override
     public void clear() {
-        list = getNewArray(MIN_CAPACITY);
+        int firstPart = Math.min(size, list.length - head);
+        Arrays.fill(list, head, head + firstPart, null);
+        Arrays.fill(list, 0, size - firstPart, null);
+        head = 0;
         size = 0;
+        modCount++;
+        if (elementIndex != null) elementIndex.clear();
+    }
+
+    /** @return the number of elements the backing array can hold without growing */
+    public int capacity() {
+        return list.length;
+    }
+
+    /**
+     * Grows the backing array, if needed, so it can hold at least the given number of elements.
+     * @param minCapacity the number of elements to make room for
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > list.length)
+            resize(policy.grow(list.length, minCapacity));
+    }
+
+    /** Shrinks the backing array to exactly the size of the list. */
+    public void trimToSize() {
+        if (size < list.length)
+            replaceArray(getNewArray(size));
+    }
+
+    /**
+     * Clears the list and gives up its backing array, handing it back to the
+     * pool if the list has one. The list stays usable and starts again from
+     * the policy's initial capacity.
+     */
+    public void release() {
+        clear();
+        E[] released = list;
+        list = newBackingArray(policy.initialCapacity());
+        if (pool != null) pool.recycle(released);
     }
 
     @SuppressWarnings("unchecked")
@@ -43,34 +244,187 @@ public class MyArrayList<E> implements ListADT<E> {
         return (E[]) (new Object[size]);
     }
 
+    /** Allocates an array of <code>capacity</code> slots, or borrows one that is still smaller than the current one. */
+    @SuppressWarnings("unchecked")
+    private E[] shrunkArray(int capacity){
+        return pool == null ? getNewArray(capacity) : (E[]) pool.borrow(capacity, list.length - 1);
+    }
+
+    /** Allocates a backing array, or borrows one from the pool if the list has one. */
+    @SuppressWarnings("unchecked")
+    private E[] newBackingArray(int capacity){
+        return pool == null ? getNewArray(capacity) : (E[]) pool.borrow(capacity);
+    }
+
+    /** Maps a list index to its slot in the backing array. */
+    private int physical(int index){
+        int slot = head + index;
+        return slot >= list.length ? slot - list.length : slot;
+    }
+
+    /** Copies <code>length</code> elements starting at list index <code>from</code> into <code>dest</code>, unwrapping the ring. */
+    private void copyRange(int from, Object[] dest, int destPos, int length){
+        int start = physical(from);
+        int firstPart = Math.min(length, list.length - start);
+        System.arraycopy(list, start, dest, destPos, firstPart);
+        System.arraycopy(list, 0, dest, destPos + firstPart, length - firstPart);
+    }
+
+    /** Copies the first <code>count</code> elements of <code>source</code> into this list starting at list index <code>index</code>. */
+    private void copyFrom(MyArrayList<? extends E> source, int index, int count){
+        int start = physical(index);
+        int firstPart = Math.min(count, list.length - start);
+        source.copyRange(0, list, start, firstPart);
+        source.copyRange(firstPart, list, 0, count - firstPart);
+    }
+
+    /** Moves the elements from list index <code>index</code> to the end <code>distance</code> slots to the right. */
+    private void shiftTail(int index, int distance){
+        if (metrics != null) metrics.recordShifts(size - index);
+        if (head == 0) {
+            System.arraycopy(list, index, list, index + distance, size - index);
+        } else {
+            int i = size;
+            while(i>index){
+                --i;
+                list[physical(i + distance)] = list[physical(i)];
+            }
+        }
+    }
+
     private E[] copy(int copyCapacity){
         E[] copy = getNewArray(copyCapacity);
-        System.arraycopy(list, 0, copy, 0, size);
+        copyRange(0, copy, 0, size);
         return copy;
     }
 
     private E[] copy(int copyCapacity, int removeIndex){
-        E[] newList = getNewArray(copyCapacity);
-        System.arraycopy(list, 0, newList, 0, removeIndex);
-        System.arraycopy(list, removeIndex+1, newList, removeIndex, size-removeIndex-1);
+        E[] newList = shrunkArray(copyCapacity);
+        copyRange(0, newList, 0, removeIndex);
+        copyRange(removeIndex+1, newList, removeIndex, size-removeIndex-1);
         return newList;
     }
 
+    private void resize(int capacity){
+        replaceArray(newBackingArray(capacity));
+    }
+
+    /** Moves the elements to the start of a new backing array and recycles the old one. */
+    private void replaceArray(E[] resized){
+        copyRange(0, resized, 0, size);
+        if (metrics != null) metrics.recordResize(list.length, resized.length, size, size);
+        E[] old = list;
+        list = resized;
+        head = 0;
+        if (pool != null) pool.recycle(old);
+    }
+
     private void checkCapacity(){
         if(size == list.length)
-            list = copy((int) (list.length * RESIZE_SCALING));
+            resize(policy.grow(list.length, size + 1));
     }
 
     private void checkCapacity(int sizeIncrease){
         int newSize = size + sizeIncrease;
-        if (newSize > list.length){
-            double newCapacity = list.length;
-            do newCapacity = Math.floor(newCapacity * RESIZE_SCALING);
-            while(newCapacity < newSize);
-            list = copy((int) newCapacity);
+        if (newSize > list.length)
+            resize(policy.grow(list.length, newSize));
+    }
+
+    /**
+     * Updates the index for the elements from <code>from</code> to the end
+     * moving <code>distance</code> places. A negative distance means the
+     * elements just before <code>from</code> have already been removed from
+     * the index. If fewer elements come before the edit, the whole index is
+     * shifted and those are moved back, so an edit near the front updates as
+     * few positions as one near the end.
+     */
+    private void shiftIndex(int from, int distance){
+        int front = Math.min(from, from + distance);
+        if (front < size - from) {
+            elementIndex.shiftAll(distance);
+            if (distance > 0) {
+                for (int i = 0; i < front; i++)
+                    elementIndex.move(list[physical(i)], i + distance, i);
+            } else {
+                for (int i = front - 1; i >= 0; i--)
+                    elementIndex.move(list[physical(i)], i + distance, i);
+            }
+        } else if (distance > 0) {
+            for (int i = size - 1; i >= from; i--)
+                elementIndex.move(list[physical(i)], i, i + distance);
+        } else {
+            for (int i = from; i < size; i++)
+                elementIndex.move(list[physical(i)], i, i + distance);
         }
     }
 
+    /** Adds the elements from <code>from</code> to <code>to</code> to the index. */
+    private void indexRange(int from, int to){
+        for (int i = from; i < to; i++)
+            elementIndex.add(list[physical(i)], i);
+    }
+
+    /**
+     * Builds a hash index of the list's elements and keeps it up to date from
+     * then on. Does nothing if the list is already indexed.
+     */
+    public void enableIndex() {
+        if (elementIndex != null) return;
+        elementIndex = new PositionIndex<>();
+        indexRange(0, size);
+    }
+
+    /** Drops the hash index, if there is one. */
+    public void disableIndex() {
+        elementIndex = null;
+    }
+
+    /** @return true if the list keeps a hash index of its elements */
+    public boolean isIndexed() {
+        return elementIndex != null;
+    }
+
+    /**
+     * Estimates the memory the hash index uses, assuming a 64-bit JVM with
+     * compressed references. Takes time proportional to the number of
+     * distinct elements.
+     * @return the estimated size of the index in bytes, or 0 if the list is not indexed
+     */
+    public long indexFootprint() {
+        return elementIndex == null ? 0 : elementIndex.footprint();
+    }
+
+    /**
+     * Writes the size, then the elements in list order, then whether the list is indexed.
+     * @serialData the size as an int, each element as an object, and the indexed flag as a boolean
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++)
+            out.writeObject(list[physical(i)]);
+        out.writeBoolean(elementIndex != null);
+    }
+
+    /** Reads the elements into an array of exactly the list's size and rebuilds the index if there was one. */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        if (count < 0) throw new InvalidObjectException("negative size: " + count);
+        E[] elements = getNewArray(count);
+        for (int i = 0; i < count; i++) {
+            @SuppressWarnings("unchecked")
+            E item = (E) in.readObject();
+            if (item == null) throw new InvalidObjectException("null element at index " + i);
+            elements[i] = item;
+        }
+        list = elements;
+        head = 0;
+        size = count;
+        if (in.readBoolean()) enableIndex();
+        setMetrics(defaultMetrics);
+    }
+
     private void checkIndexInRange(int index) throws IndexOutOfBoundsException{
         if(index >= size || index < 0)
             throw new IndexOutOfBoundsException("index of " + index + "is out of range for list of size " + size);
@@ -83,13 +437,22 @@ public class MyArrayList<E> implements ListADT<E> {
         checkIndexInRange(index);
         if(toAdd == null) throw new NullPointerException("cannot add a null element to list");
         checkCapacity();
+        if (elementIndex != null) shiftIndex(index, 1);
 
-        int i = size;
-        while(i>index){
-            list[i] = list[--i];
+        if (circular && index < size / 2) {
+            if (metrics != null) metrics.recordShifts(index);
+            head = head == 0 ? list.length - 1 : head - 1;
+            int i = 0;
+            while(i<index){
+                list[physical(i)] = list[physical(++i)];
+            }
+        } else {
+            shiftTail(index, 1);
         }
-        list[index] = toAdd;
+        list[physical(index)] = toAdd;
         size++;
+        modCount++;
+        if (elementIndex != null) elementIndex.add(toAdd, index);
         return true;
     }
 
@@ -98,21 +461,80 @@ public class MyArrayList<E> implements ListADT<E> {
     public boolean add(E toAdd) throws NullPointerException {
         if(toAdd == null) throw new NullPointerException("cannot add a null element to list");
         checkCapacity();
-        list[size++] = toAdd;
+        list[physical(size++)] = toAdd;
+        modCount++;
+        if (elementIndex != null) elementIndex.add(toAdd, size - 1);
         return true;
     }
 
-    /** Adds all elements from another list. */
+    /**
+     * Adds all elements from another list. Another MyArrayList is copied in
+     * with <code>System.arraycopy</code>; any other list is walked once with
+     * its iterator.
+     */
     @Override
     public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
         if (toAdd == null) throw new NullPointerException("cannot append null list");
-        checkCapacity(toAdd.size());
-        for (int i = 0; i < toAdd.size(); i++) {
-            E item = toAdd.get(i);
-            if(item != null){
-                list[size++] = item;
+        int count = toAdd.size();
+        int start = size;
+        checkCapacity(count);
+        if (toAdd instanceof MyArrayList) {
+            copyFrom((MyArrayList<? extends E>) toAdd, size, count);
+            size += count;
+        } else {
+            Iterator<? extends E> it = toAdd.iterator();
+            for (int i = 0; i < count && it.hasNext(); i++) {
+                E item = it.next();
+                if(item != null){
+                    list[physical(size++)] = item;
+                }
+            }
+        }
+        modCount++;
+        if (elementIndex != null) indexRange(start, size);
+        return true;
+    }
+
+    /**
+     * Inserts all elements from another list at a specific index. The tail of
+     * this list is shifted once to make room for all of them.
+     * @param index the index to insert the first element at
+     * @param toAdd the list of elements to insert
+     * @return true if the operation is successful
+     * @throws NullPointerException if the list is null or holds a null element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean addAll(int index, ListADT<? extends E> toAdd) throws NullPointerException, IndexOutOfBoundsException {
+        if (toAdd == null) throw new NullPointerException("cannot insert null list");
+        if (index == size) return addAll(toAdd);
+        checkIndexInRange(index);
+        if (toAdd == this) {
+            MyArrayList<E> snapshot = internal(size);
+            snapshot.addAll(this);
+            toAdd = snapshot;
+        }
+        int count = toAdd.size();
+        checkCapacity(count);
+        if (toAdd instanceof MyArrayList) {
+            if (elementIndex != null) shiftIndex(index, count);
+            shiftTail(index, count);
+            copyFrom((MyArrayList<? extends E>) toAdd, index, count);
+        } else {
+            E[] items = getNewArray(count);
+            Iterator<? extends E> it = toAdd.iterator();
+            for (int i = 0; i < count; i++) {
+                items[i] = it.next();
+                if (items[i] == null) throw new NullPointerException("cannot add a null element to list");
+            }
+            if (elementIndex != null) shiftIndex(index, count);
+            shiftTail(index, count);
+            for (int i = 0; i < count; i++) {
+                list[physical(index + i)] = items[i];
             }
         }
+        size += count;
+        modCount++;
+        if (elementIndex != null) indexRange(index, index + count);
         return true;
     }
 
@@ -120,35 +542,66 @@ public class MyArrayList<E> implements ListADT<E> {
     @Override
     public E get(int index) throws IndexOutOfBoundsException {
         checkIndexInRange(index);
-        return list[index];
-    }
-
-    private boolean isArrayOversized(){
-        return (size-1) < MIN_FILL_PERCENTAGE * list.length && list.length > MIN_CAPACITY;
-    }
-
-    private int reducedCapacity(){
-        double firstScale = Math.ceil(list.length/RESIZE_SCALING);
-        return Math.max(MIN_CAPACITY, (int) Math.ceil(firstScale/RESIZE_SCALING));
+        return list[physical(index)];
     }
 
     /** Removes an element by index. */
     @Override
     public E remove(int index) throws IndexOutOfBoundsException {
         checkIndexInRange(index);
-        E removed = list[index];
-        if (isArrayOversized()) {
-            list = copy(reducedCapacity(), index);
+        E removed = list[physical(index)];
+        if (elementIndex != null) {
+            elementIndex.remove(removed, index);
+            shiftIndex(index + 1, -1);
+        }
+        int reducedCapacity = policy.shrink(list.length, size - 1);
+        if (reducedCapacity < list.length && reducedCapacity >= size - 1) {
+            E[] old = list;
+            list = copy(reducedCapacity, index);
+            head = 0;
+            if (metrics != null) metrics.recordResize(old.length, list.length, size - 1, size - 1);
+            if (pool != null) pool.recycle(old);
+        } else if (circular && index < size / 2) {
+            if (metrics != null) metrics.recordShifts(index);
+            while (index > 0){
+                list[physical(index)] = list[physical(--index)];
+            }
+            list[head] = null;
+            head = physical(1);
         } else {
+            if (metrics != null) metrics.recordShifts(size - 1 - index);
             while (index < size-1){
-                list[index] = list[++index];
+                list[physical(index)] = list[physical(++index)];
             }
-            list[index] = null;
+            list[physical(index)] = null;
         }
         size--;
+        modCount++;
         return removed;
     }
 
+    /** Removes the elements from list index <code>from</code> up to but not including <code>to</code>, shifting the tail once. */
+    private void removeRange(int from, int to){
+        int count = to - from;
+        if (count == 0) return;
+        if (elementIndex != null) {
+            for (int i = from; i < to; i++)
+                elementIndex.remove(list[physical(i)], i);
+            shiftIndex(to, -count);
+        }
+        if (metrics != null) metrics.recordShifts(size - to);
+        if (head == 0) {
+            System.arraycopy(list, to, list, from, size - to);
+        } else {
+            for (int i = from; i < size - count; i++)
+                list[physical(i)] = list[physical(i + count)];
+        }
+        for (int i = size - count; i < size; i++)
+            list[physical(i)] = null;
+        size -= count;
+        modCount++;
+    }
+
     /** Removes the first occurrence of an element. */
     @Override
     public E remove(E toRemove) throws NullPointerException {
@@ -159,8 +612,9 @@ public class MyArrayList<E> implements ListADT<E> {
 
     public int indexOf(E toFind) throws NullPointerException{
         if (toFind == null) throw new NullPointerException("Cannot search for null value");
+        if (elementIndex != null) return elementIndex.first(toFind);
         for (int i = 0; i<size ; i++){
-            if(toFind.equals(list[i]))
+            if(toFind.equals(list[physical(i)]))
                 return i;
         }
         return -1;
@@ -171,11 +625,71 @@ public class MyArrayList<E> implements ListADT<E> {
     public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
         checkIndexInRange(index);
         if(toChange == null) throw new NullPointerException("cannot set element in list to null");
-        E replaced = list[index];
-        list[index] = toChange;
+        int slot = physical(index);
+        E replaced = list[slot];
+        list[slot] = toChange;
+        if (elementIndex != null) {
+            elementIndex.remove(replaced, index);
+            elementIndex.add(toChange, index);
+        }
         return replaced;
     }
 
+    /**
+     * Sorts the list in place with the JDK's TimSort, working directly on the
+     * backing array. A circular list whose elements wrap around the end of the
+     * array is unwrapped into a new array first.
+     * @param c the order to sort by, or null for the elements' natural order
+     */
+    public void sort(Comparator<? super E> c) {
+        sortBackingArray(c, false);
+    }
+
+    /**
+     * Sorts the list in place like {@link #sort(Comparator)}, but splits large
+     * lists across the common fork-join pool.
+     * @param c the order to sort by, or null for the elements' natural order
+     */
+    public void parallelSort(Comparator<? super E> c) {
+        sortBackingArray(c, true);
+    }
+
+    private void sortBackingArray(Comparator<? super E> c, boolean parallel) {
+        if (head + size > list.length) resize(list.length);
+        if (parallel) Arrays.parallelSort(list, head, head + size, c);
+        else Arrays.sort(list, head, head + size, c);
+        modCount++;
+        if (elementIndex != null) {
+            elementIndex = null;
+            enableIndex();
+        }
+    }
+
+    /**
+     * Searches a sorted list for an element by binary search.
+     * @param key the element to search for
+     * @param c   the order the list is sorted by, or null for natural order
+     * @return the index of the element if it is found; otherwise
+     *         <code>(-(insertion point) - 1)</code>, where the insertion point is
+     *         the index the element would be inserted at to keep the list sorted
+     * @throws NullPointerException if the key is null
+     */
+    @SuppressWarnings("unchecked")
+    public int binarySearch(E key, Comparator<? super E> c) throws NullPointerException {
+        if (key == null) throw new NullPointerException("Cannot search for null value");
+        Comparator<? super E> order = c != null ? c : (Comparator<? super E>) Comparator.naturalOrder();
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int compared = order.compare(list[physical(mid)], key);
+            if (compared < 0) low = mid + 1;
+            else if (compared > 0) high = mid - 1;
+            else return mid;
+        }
+        return -(low + 1);
+    }
+
     /** @return true if list is empty */
     @Override
     public boolean isEmpty() {
@@ -185,6 +699,7 @@ public class MyArrayList<E> implements ListADT<E> {
     /** Checks if list contains an element. */
     @Override
     public boolean contains(E toFind) throws NullPointerException {
+        if (elementIndex != null && toFind != null) return elementIndex.contains(toFind);
         return indexOf(toFind) != -1;
     }
 
@@ -193,7 +708,7 @@ public class MyArrayList<E> implements ListADT<E> {
     public E[] toArray(E[] toHold) throws NullPointerException {
         if (toHold == null) throw new NullPointerException("toHold cannot be null");
         if (toHold.length < size) toHold = Arrays.copyOf(toHold, size);
-        System.arraycopy(list, 0, toHold, 0, size);
+        copyRange(0, toHold, 0, size);
         return toHold;
     }
 
@@ -209,6 +724,607 @@ public class MyArrayList<E> implements ListADT<E> {
         return new Itr();
     }
 
+    /** Performs an action on every element, in order, reading the backing array directly. */
+    @Override
+    public void forEach(Consumer<? super E> action) throws NullPointerException {
+        if (action == null) throw new NullPointerException("action cannot be null");
+        int expectedModCount = modCount;
+        for (int i = 0; i < size && modCount == expectedModCount; i++)
+            action.accept(list[physical(i)]);
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    /** Replaces every element with the result of the operator, in place and in order. */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) throws NullPointerException {
+        if (operator == null) throw new NullPointerException("operator cannot be null");
+        int expectedModCount = modCount;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            int slot = physical(i);
+            E replacement = operator.apply(list[slot]);
+            if (replacement == null) throw new NullPointerException("cannot set element in list to null");
+            if (elementIndex != null) {
+                elementIndex.remove(list[slot], i);
+                elementIndex.add(replacement, i);
+            }
+            list[slot] = replacement;
+        }
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Removes every element that matches the predicate in one pass over the
+     * backing array. The predicate is tested on every element first, so a
+     * predicate that throws leaves the list unchanged. The survivors are then
+     * moved down once each, and the array is shrunk at most once.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) throws NullPointerException {
+        if (filter == null) throw new NullPointerException("filter cannot be null");
+        int expectedModCount = modCount;
+        long[] doomed = null;
+        int firstRemoved = 0;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            if (filter.test(list[physical(i)])) {
+                if (doomed == null) {
+                    doomed = new long[(size + 63) >>> 6];
+                    firstRemoved = i;
+                }
+                doomed[i >>> 6] |= 1L << i;
+            }
+        }
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        if (doomed == null) return false;
+
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if ((doomed[i >>> 6] & (1L << i)) == 0)
+                list[physical(kept++)] = list[physical(i)];
+        }
+        if (metrics != null) metrics.recordShifts(kept - firstRemoved);
+        for (int i = kept; i < size; i++)
+            list[physical(i)] = null;
+        size = kept;
+        modCount++;
+
+        int capacity = list.length;
+        int reduced;
+        while ((reduced = policy.shrink(capacity, size)) < capacity && reduced >= size)
+            capacity = reduced;
+        if (capacity < list.length) replaceArray(shrunkArray(capacity));
+        if (elementIndex != null) {
+            elementIndex.clear();
+            indexRange(0, size);
+        }
+        return true;
+    }
+
+    /** @return the largest range the parallel operations scan without splitting it further */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Sets the largest range the parallel operations scan without splitting it further.
+     * @param parallelThreshold the range size, at least 1
+     * @throws IllegalArgumentException if the threshold is below 1
+     */
+    public void setParallelThreshold(int parallelThreshold) throws IllegalArgumentException {
+        if (parallelThreshold < 1)
+            throw new IllegalArgumentException("parallel threshold must be at least 1: " + parallelThreshold);
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Finds the first occurrence of an element by scanning ranges of the
+     * backing array in parallel. Ranges above an index that has already been
+     * found are skipped.
+     * @param toFind the element to search for
+     * @return the lowest index of the element, or -1
+     * @throws NullPointerException if the element is null
+     */
+    public int parallelIndexOf(E toFind) throws NullPointerException {
+        if (toFind == null) throw new NullPointerException("Cannot search for null value");
+        AtomicInteger found = new AtomicInteger(Integer.MAX_VALUE);
+        new IndexOfTask(0, size, toFind, found).invoke();
+        return found.get() == Integer.MAX_VALUE ? -1 : found.get();
+    }
+
+    /**
+     * Counts the elements that match a predicate, scanning ranges of the backing array in parallel.
+     * @param filter the predicate to test; it may be called from several threads at once
+     * @return the number of matching elements
+     * @throws NullPointerException if the predicate is null
+     */
+    public long parallelCount(Predicate<? super E> filter) throws NullPointerException {
+        if (filter == null) throw new NullPointerException("filter cannot be null");
+        return new CountTask(0, size, filter).invoke();
+    }
+
+    /**
+     * Combines all elements with an associative operator, reducing ranges of the backing array in parallel.
+     * @param identity    the identity value of the operator, returned for an empty list
+     * @param accumulator an associative, stateless operator
+     * @return the result of the reduction
+     * @throws NullPointerException if the operator is null
+     */
+    public E parallelReduce(E identity, BinaryOperator<E> accumulator) throws NullPointerException {
+        if (accumulator == null) throw new NullPointerException("accumulator cannot be null");
+        return new ReduceTask(0, size, identity, accumulator).invoke();
+    }
+
+    /**
+     * Performs an action on every element, visiting ranges of the backing array in parallel and in no particular order.
+     * @param action the action to perform; it may be called from several threads at once
+     * @throws NullPointerException if the action is null
+     */
+    public void parallelForEach(Consumer<? super E> action) throws NullPointerException {
+        if (action == null) throw new NullPointerException("action cannot be null");
+        new ForEachTask(0, size, action).invoke();
+    }
+
+    /**
+     * Fork-join task over a range of list indexes. Ranges larger than the
+     * parallel threshold are split in half, the halves run in parallel and
+     * their results are combined.
+     * @param <R> the result type of the task
+     */
+    private abstract class RangeTask<R> extends RecursiveTask<R> {
+        private static final long serialVersionUID = 1L;
+
+        protected final int lo;
+        protected final int hi;
+
+        private RangeTask(int lo, int hi){
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        /** @return the result for a range small enough to scan directly */
+        protected abstract R scan();
+
+        protected abstract RangeTask<R> split(int lo, int hi);
+
+        protected abstract R combine(R left, R right);
+
+        @Override
+        protected R compute() {
+            if (hi - lo <= parallelThreshold) return scan();
+            int mid = (lo + hi) >>> 1;
+            RangeTask<R> left = split(lo, mid);
+            RangeTask<R> right = split(mid, hi);
+            left.fork();
+            R rightResult = right.compute();
+            return combine(left.join(), rightResult);
+        }
+    }
+
+    private class IndexOfTask extends RangeTask<Void> {
+        private static final long serialVersionUID = 1L;
+
+        private final E toFind;
+        private final AtomicInteger found;
+
+        private IndexOfTask(int lo, int hi, E toFind, AtomicInteger found){
+            super(lo, hi);
+            this.toFind = toFind;
+            this.found = found;
+        }
+
+        @Override
+        protected Void compute() {
+            return lo >= found.get() ? null : super.compute();
+        }
+
+        @Override
+        protected Void scan() {
+            for (int i = lo; i < hi; i++){
+                if (toFind.equals(list[physical(i)])) {
+                    found.accumulateAndGet(i, Math::min);
+                    break;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        protected RangeTask<Void> split(int lo, int hi) {
+            return new IndexOfTask(lo, hi, toFind, found);
+        }
+
+        @Override
+        protected Void combine(Void left, Void right) {
+            return null;
+        }
+    }
+
+    private class CountTask extends RangeTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate<? super E> filter;
+
+        private CountTask(int lo, int hi, Predicate<? super E> filter){
+            super(lo, hi);
+            this.filter = filter;
+        }
+
+        @Override
+        protected Long scan() {
+            long count = 0;
+            for (int i = lo; i < hi; i++){
+                if (filter.test(list[physical(i)]))
+                    count++;
+            }
+            return count;
+        }
+
+        @Override
+        protected RangeTask<Long> split(int lo, int hi) {
+            return new CountTask(lo, hi, filter);
+        }
+
+        @Override
+        protected Long combine(Long left, Long right) {
+            return left + right;
+        }
+    }
+
+    private class ReduceTask extends RangeTask<E> {
+        private static final long serialVersionUID = 1L;
+
+        private final E identity;
+        private final BinaryOperator<E> accumulator;
+
+        private ReduceTask(int lo, int hi, E identity, BinaryOperator<E> accumulator){
+            super(lo, hi);
+            this.identity = identity;
+            this.accumulator = accumulator;
+        }
+
+        @Override
+        protected E scan() {
+            E result = identity;
+            for (int i = lo; i < hi; i++){
+                result = accumulator.apply(result, list[physical(i)]);
+            }
+            return result;
+        }
+
+        @Override
+        protected RangeTask<E> split(int lo, int hi) {
+            return new ReduceTask(lo, hi, identity, accumulator);
+        }
+
+        @Override
+        protected E combine(E left, E right) {
+            return accumulator.apply(left, right);
+        }
+    }
+
+    private class ForEachTask extends RangeTask<Void> {
+        private static final long serialVersionUID = 1L;
+
+        private final Consumer<? super E> action;
+
+        private ForEachTask(int lo, int hi, Consumer<? super E> action){
+            super(lo, hi);
+            this.action = action;
+        }
+
+        @Override
+        protected Void scan() {
+            for (int i = lo; i < hi; i++){
+                action.accept(list[physical(i)]);
+            }
+            return null;
+        }
+
+        @Override
+        protected RangeTask<Void> split(int lo, int hi) {
+            return new ForEachTask(lo, hi, action);
+        }
+
+        @Override
+        protected Void combine(Void left, Void right) {
+            return null;
+        }
+    }
+
+    /** @return a spliterator that splits the backing array by index */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new Splitr(0, size, false);
+    }
+
+    /** @return a spliterator over the list from the last element to the first */
+    Spliterator<E> reverseSpliterator() {
+        return new Splitr(0, size, true);
+    }
+
+    /**
+     * Spliterator over a range of positions in the backing array. Positions
+     * count from the last element instead of the first when reversed.
+     */
+    private class Splitr implements Spliterator<E> {
+        private final boolean reversed;
+        private final int last;
+        private int index;
+        private final int fence;
+
+        private Splitr(int index, int fence, boolean reversed){
+            this(index, fence, size - 1, reversed);
+        }
+
+        private Splitr(int index, int fence, int last, boolean reversed){
+            this.index = index;
+            this.fence = fence;
+            this.last = last;
+            this.reversed = reversed;
+        }
+
+        private E element(int position){
+            return list[physical(reversed ? last - position : position)];
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            if (index >= fence) return false;
+            action.accept(element(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            while (index < fence) {
+                action.accept(element(index++));
+            }
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) return null;
+            Splitr prefix = new Splitr(index, mid, last, reversed);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+
+    /**
+     * Returns a view of the elements from <code>fromIndex</code> up to but not
+     * including <code>toIndex</code>. The view reads and writes the backing
+     * array of this list directly; nothing is copied. Changes made through the
+     * view show up in this list. Any structural change made to this list other
+     * than through the view makes the view stale, and every later use of it
+     * throws <code>ConcurrentModificationException</code>.
+     * @param fromIndex the first index of the view
+     * @param toIndex   the index after the last element of the view
+     * @return a list view of the range
+     * @throws IndexOutOfBoundsException if the range is out of bounds or reversed
+     */
+    public SubList subList(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+        checkRange(fromIndex, toIndex, size);
+        return new SubList(null, fromIndex, toIndex - fromIndex);
+    }
+
+    private static void checkRange(int fromIndex, int toIndex, int size) throws IndexOutOfBoundsException {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("range " + fromIndex + " to " + toIndex + " is out of range for list of size " + size);
+    }
+
+    /**
+     * A view over a range of this list. Reads go straight to the backing
+     * array; edits go through the list so that its index and growth policy
+     * stay in charge. Views of views pass their size changes up the chain.
+     */
+    public class SubList implements ListADT<E> {
+        private static final long serialVersionUID = -6012758043316209472L;
+        private final SubList parent;
+        private final int offset;
+        private int size;
+        private int expectedModCount;
+
+        private SubList(SubList parent, int offset, int size){
+            this.parent = parent;
+            this.offset = offset;
+            this.size = size;
+            this.expectedModCount = modCount;
+        }
+
+        private void checkForComodification() throws ConcurrentModificationException {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        private void checkIndexInRange(int index) throws IndexOutOfBoundsException {
+            if(index >= size || index < 0)
+                throw new IndexOutOfBoundsException("index of " + index + "is out of range for list of size " + size);
+        }
+
+        /** Records a structural change of <code>sizeChange</code> elements made through this view. */
+        private void updateSize(int sizeChange){
+            for (SubList view = this; view != null; view = view.parent) {
+                view.size += sizeChange;
+                view.expectedModCount = modCount;
+            }
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            checkForComodification();
+            removeRange(offset, offset + size);
+            updateSize(-size);
+        }
+
+        @Override
+        public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+            checkForComodification();
+            if (index != size) checkIndexInRange(index);
+            MyArrayList.this.add(offset + index, toAdd);
+            updateSize(1);
+            return true;
+        }
+
+        @Override
+        public boolean add(E toAdd) throws NullPointerException {
+            return add(size, toAdd);
+        }
+
+        @Override
+        public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+            checkForComodification();
+            if (toAdd == null) throw new NullPointerException("cannot append null list");
+            if (toAdd == this) {
+                MyArrayList<E> snapshot = internal(size);
+                snapshot.addAll(this);
+                toAdd = snapshot;
+            }
+            int before = MyArrayList.this.size;
+            MyArrayList.this.addAll(offset + size, toAdd);
+            updateSize(MyArrayList.this.size - before);
+            return true;
+        }
+
+        @Override
+        public E get(int index) throws IndexOutOfBoundsException {
+            checkForComodification();
+            checkIndexInRange(index);
+            return list[physical(offset + index)];
+        }
+
+        @Override
+        public E remove(int index) throws IndexOutOfBoundsException {
+            checkForComodification();
+            checkIndexInRange(index);
+            E removed = MyArrayList.this.remove(offset + index);
+            updateSize(-1);
+            return removed;
+        }
+
+        @Override
+        public E remove(E toRemove) throws NullPointerException {
+            int index = indexOf(toRemove);
+            if (index == -1) return null;
+            return remove(index);
+        }
+
+        @Override
+        public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+            checkForComodification();
+            checkIndexInRange(index);
+            return MyArrayList.this.set(offset + index, toChange);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+
+        /**
+         * Returns the index of the first occurrence of an element within the view.
+         * @param toFind the element to search for
+         * @return the lowest index of the element in the view, or -1
+         * @throws NullPointerException if the element is null
+         */
+        public int indexOf(E toFind) throws NullPointerException {
+            checkForComodification();
+            if (toFind == null) throw new NullPointerException("Cannot search for null value");
+            for (int i = 0; i < size; i++){
+                if(toFind.equals(list[physical(offset + i)]))
+                    return i;
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean contains(E toFind) throws NullPointerException {
+            return indexOf(toFind) != -1;
+        }
+
+        /** Performs an action on every element of the view, in order. */
+        @Override
+        public void forEach(Consumer<? super E> action) throws NullPointerException {
+            checkForComodification();
+            if (action == null) throw new NullPointerException("action cannot be null");
+            for (int i = 0; i < size; i++)
+                action.accept(list[physical(offset + i)]);
+            checkForComodification();
+        }
+
+        @Override
+        public E[] toArray(E[] toHold) throws NullPointerException {
+            checkForComodification();
+            if (toHold == null) throw new NullPointerException("toHold cannot be null");
+            if (toHold.length < size) toHold = Arrays.copyOf(toHold, size);
+            copyRange(offset, toHold, 0, size);
+            return toHold;
+        }
+
+        @Override
+        public Object[] toArray() {
+            checkForComodification();
+            Object[] array = new Object[size];
+            copyRange(offset, array, 0, size);
+            return array;
+        }
+
+        /**
+         * Returns a view of a range of this view.
+         * @param fromIndex the first index of the view
+         * @param toIndex   the index after the last element of the view
+         * @return a list view of the range
+         * @throws IndexOutOfBoundsException if the range is out of bounds or reversed
+         */
+        public SubList subList(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+            checkForComodification();
+            checkRange(fromIndex, toIndex, size);
+            return new SubList(this, offset + fromIndex, toIndex - fromIndex);
+        }
+
+        @Override
+        public Spliterator<E> spliterator() {
+            checkForComodification();
+            return new Splitr(offset, offset + size, false);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            checkForComodification();
+            return new Iterator<E>() {
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return index < size;
+                }
+
+                @Override
+                public E next() throws NoSuchElementException {
+                    checkForComodification();
+                    if (!hasNext()) throw new NoSuchElementException();
+                    return list[physical(offset + index++)];
+                }
+            };
+        }
+    }
+
     /** Internal iterator class. */
     private class Itr implements Iterator<E> {
         private int index;
@@ -225,7 +1341,14 @@ public class MyArrayList<E> implements ListADT<E> {
         @Override
         public E next()  throws NoSuchElementException {
             if (!hasNext()) throw new NoSuchElementException();
-            return get(index++);
+            return list[physical(index++)];
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) throws NullPointerException {
+            if (action == null) throw new NullPointerException("action cannot be null");
+            while (index < size)
+                action.accept(list[physical(index++)]);
         }
     }
 }
@@ -0,0 +1,423 @@
+package implementations;
+
+import utilities.BooleanIterator;
+import utilities.BooleanListADT;
+import utilities.IntIterator;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A list of primitive <code>boolean</code> values packed 64 to a
+ * <code>long</code>, so a flag costs one bit instead of a reference to a
+ * <code>Boolean</code>.
+ * <p>
+ * Besides the list operations, the list works as a bitset over its indices:
+ * {@link #and}, {@link #or}, {@link #xor} and {@link #andNot} combine two
+ * lists a word at a time, {@link #cardinality()} counts the set bits with one
+ * popcount per word, and {@link #nextSetBit(int)} skips whole words of clear
+ * bits. Inserting or removing in the middle shifts the following words by one
+ * bit rather than moving the values one by one.
+ * </p>
+ * <p>
+ * Bits at or beyond <code>size()</code> are always clear, which lets the
+ * bulk operations work on whole words without masking the last one.
+ * </p>
+ */
+public class MyBitSetList implements BooleanListADT {
+
+    private static final long serialVersionUID = 3406529152307783245L;
+    private static final int ADDRESS_BITS = 6;
+    private static final int BITS_PER_WORD = 1 << ADDRESS_BITS;
+    private static final int MIN_CAPACITY = 2;
+    private static final double RESIZE_SCALING = 1.5;
+
+    private transient long[] words;
+    private transient int size;
+
+    /** Constructs an empty list. */
+    public MyBitSetList(){
+        words = new long[MIN_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Constructs a list of <code>size</code> values that are all clear.
+     * @param size the number of values
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public MyBitSetList(int size) throws IllegalArgumentException {
+        if (size < 0) throw new IllegalArgumentException("size cannot be negative: " + size);
+        words = new long[Math.max(MIN_CAPACITY, wordsFor(size))];
+        this.size = size;
+    }
+
+    private static int wordsFor(int bits){
+        return (int) (((long) bits + BITS_PER_WORD - 1) >>> ADDRESS_BITS);
+    }
+
+    /** @return the number of values in the list */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /** Clears the list. */
+    @Override
+    public void clear() {
+        words = new long[MIN_CAPACITY];
+        size = 0;
+    }
+
+    private void checkCapacity(int sizeIncrease){
+        int required = wordsFor(size + sizeIncrease);
+        if (required > words.length){
+            double newCapacity = words.length;
+            do newCapacity = Math.floor(newCapacity * RESIZE_SCALING);
+            while(newCapacity < required);
+            words = Arrays.copyOf(words, (int) newCapacity);
+        }
+    }
+
+    private void checkIndexInRange(int index) throws IndexOutOfBoundsException{
+        if(index >= size || index < 0)
+            throw new IndexOutOfBoundsException("index of " + index + "is out of range for list of size " + size);
+    }
+
+    /**
+     * Writes the size followed by the words in use.
+     * @serialData the size as an int, then each word in use as a long
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        int used = wordsFor(size);
+        for (int i = 0; i < used; i++)
+            out.writeLong(words[i]);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        if (count < 0) throw new InvalidObjectException("negative size: " + count);
+        int used = wordsFor(count);
+        long[] values = new long[Math.max(used, MIN_CAPACITY)];
+        for (int i = 0; i < used; i++)
+            values[i] = in.readLong();
+        if (used > 0 && (values[used - 1] & ~tailMask(count)) != 0)
+            throw new InvalidObjectException("bits set beyond size " + count);
+        words = values;
+        size = count;
+    }
+
+    /** @return a mask of the bits in use in the last word of a list of <code>bits</code> values */
+    private static long tailMask(int bits){
+        return -1L >>> -bits;
+    }
+
+    /** Adds a value at a specific index, shifting the following bits up by one. */
+    @Override
+    public boolean add(int index, boolean toAdd) throws IndexOutOfBoundsException {
+        if (index == size) return add(toAdd);
+        checkIndexInRange(index);
+        checkCapacity(1);
+        int first = index >>> ADDRESS_BITS;
+        for (int i = size >>> ADDRESS_BITS; i > first; i--)
+            words[i] = (words[i] << 1) | (words[i - 1] >>> (BITS_PER_WORD - 1));
+        long low = (1L << index) - 1;
+        long word = words[first];
+        words[first] = (word & low) | ((word & ~low) << 1);
+        size++;
+        set(index, toAdd);
+        return true;
+    }
+
+    /** Adds a value to the end of the list. */
+    @Override
+    public boolean add(boolean toAdd) {
+        checkCapacity(1);
+        if (toAdd) words[size >>> ADDRESS_BITS] |= 1L << size;
+        size++;
+        return true;
+    }
+
+    /** Adds all values from another list, a word at a time when it is also a bitset list. */
+    @Override
+    public boolean addAll(BooleanListADT toAdd) throws NullPointerException {
+        if (toAdd == null) throw new NullPointerException("cannot append null list");
+        int count = toAdd.size();
+        checkCapacity(count);
+        if (toAdd instanceof MyBitSetList) {
+            long[] source = toAdd == this ? words.clone() : ((MyBitSetList) toAdd).words;
+            int offset = size & (BITS_PER_WORD - 1);
+            int target = size >>> ADDRESS_BITS;
+            int used = wordsFor(count);
+            for (int i = 0; i < used; i++) {
+                long word = source[i];
+                words[target + i] |= word << offset;
+                if (offset != 0 && target + i + 1 < words.length)
+                    words[target + i + 1] = word >>> (BITS_PER_WORD - offset);
+            }
+            size += count;
+        } else {
+            BooleanIterator it = toAdd.iterator();
+            while (it.hasNext())
+                add(it.nextBoolean());
+        }
+        return true;
+    }
+
+    /** Gets a value at a given index. */
+    @Override
+    public boolean get(int index) throws IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        return (words[index >>> ADDRESS_BITS] & (1L << index)) != 0;
+    }
+
+    /** Removes a value by index, shifting the following bits down by one. */
+    @Override
+    public boolean remove(int index) throws IndexOutOfBoundsException {
+        boolean removed = get(index);
+        int first = index >>> ADDRESS_BITS;
+        int used = wordsFor(size);
+        long low = (1L << index) - 1;
+        long word = words[first];
+        words[first] = (word & low) | ((word >>> 1) & ~low);
+        if (first + 1 < used)
+            words[first] |= words[first + 1] << (BITS_PER_WORD - 1);
+        for (int i = first + 1; i < used; i++) {
+            words[i] >>>= 1;
+            if (i + 1 < used)
+                words[i] |= words[i + 1] << (BITS_PER_WORD - 1);
+        }
+        size--;
+        if (words.length > MIN_CAPACITY && wordsFor(size) * 4 < words.length)
+            words = Arrays.copyOf(words, Math.max(MIN_CAPACITY, words.length / 2));
+        return removed;
+    }
+
+    /** Removes the first occurrence of a value. */
+    @Override
+    public boolean removeValue(boolean toRemove) {
+        int index = indexOf(toRemove);
+        if (index == -1) return false;
+        remove(index);
+        return true;
+    }
+
+    /** @return the index of the first occurrence of a value, found a word at a time, or -1 */
+    @Override
+    public int indexOf(boolean toFind) {
+        return toFind ? nextSetBit(0) : nextClearBit(0);
+    }
+
+    /** Replaces a value at a specific index. */
+    @Override
+    public boolean set(int index, boolean toChange) throws IndexOutOfBoundsException {
+        boolean replaced = get(index);
+        if (toChange) words[index >>> ADDRESS_BITS] |= 1L << index;
+        else words[index >>> ADDRESS_BITS] &= ~(1L << index);
+        return replaced;
+    }
+
+    /** @return true if list is empty */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Checks if list contains a value. */
+    @Override
+    public boolean contains(boolean toFind) {
+        return indexOf(toFind) != -1;
+    }
+
+    /**
+     * Counts the values that are <code>true</code>.
+     * @return the number of set bits
+     */
+    public int cardinality() {
+        int count = 0;
+        int used = wordsFor(size);
+        for (int i = 0; i < used; i++)
+            count += Long.bitCount(words[i]);
+        return count;
+    }
+
+    /**
+     * Finds the next <code>true</code> value, skipping clear words whole.
+     * @param fromIndex the index to start from, inclusive
+     * @return the index of the next set bit, or -1 if there is none
+     * @throws IndexOutOfBoundsException if <code>fromIndex</code> is negative
+     */
+    public int nextSetBit(int fromIndex) throws IndexOutOfBoundsException {
+        if (fromIndex < 0) throw new IndexOutOfBoundsException("index of " + fromIndex + "is out of range for list of size " + size);
+        if (fromIndex >= size) return -1;
+        int i = fromIndex >>> ADDRESS_BITS;
+        int used = wordsFor(size);
+        long word = words[i] & (-1L << fromIndex);
+        while (word == 0) {
+            if (++i == used) return -1;
+            word = words[i];
+        }
+        return (i << ADDRESS_BITS) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Finds the next <code>false</code> value, skipping full words whole.
+     * @param fromIndex the index to start from, inclusive
+     * @return the index of the next clear bit, or -1 if there is none
+     * @throws IndexOutOfBoundsException if <code>fromIndex</code> is negative
+     */
+    public int nextClearBit(int fromIndex) throws IndexOutOfBoundsException {
+        if (fromIndex < 0) throw new IndexOutOfBoundsException("index of " + fromIndex + "is out of range for list of size " + size);
+        if (fromIndex >= size) return -1;
+        int i = fromIndex >>> ADDRESS_BITS;
+        int used = wordsFor(size);
+        long word = ~words[i] & (-1L << fromIndex);
+        while (word == 0) {
+            if (++i == used) return -1;
+            word = ~words[i];
+        }
+        int index = (i << ADDRESS_BITS) + Long.numberOfTrailingZeros(word);
+        return index < size ? index : -1;
+    }
+
+    /**
+     * Keeps only the values that are also <code>true</code> in another list.
+     * Values past the end of the other list count as <code>false</code>.
+     * The size of this list does not change.
+     * @param other the list to combine with
+     * @throws NullPointerException if the other list is null
+     */
+    public void and(MyBitSetList other) throws NullPointerException {
+        if (other == null) throw new NullPointerException("cannot combine with a null list");
+        int used = wordsFor(size);
+        int common = Math.min(used, wordsFor(other.size));
+        for (int i = 0; i < common; i++)
+            words[i] &= other.words[i];
+        Arrays.fill(words, common, used, 0L);
+    }
+
+    /**
+     * Sets the values that are <code>true</code> in another list. If the other
+     * list is longer, this list grows to its size.
+     * @param other the list to combine with
+     * @throws NullPointerException if the other list is null
+     */
+    public void or(MyBitSetList other) throws NullPointerException {
+        if (other == null) throw new NullPointerException("cannot combine with a null list");
+        int common = extendTo(other.size);
+        for (int i = 0; i < common; i++)
+            words[i] |= other.words[i];
+    }
+
+    /**
+     * Flips the values that are <code>true</code> in another list. If the
+     * other list is longer, this list grows to its size.
+     * @param other the list to combine with
+     * @throws NullPointerException if the other list is null
+     */
+    public void xor(MyBitSetList other) throws NullPointerException {
+        if (other == null) throw new NullPointerException("cannot combine with a null list");
+        int common = extendTo(other.size);
+        for (int i = 0; i < common; i++)
+            words[i] ^= other.words[i];
+    }
+
+    /**
+     * Clears the values that are <code>true</code> in another list. The size
+     * of this list does not change.
+     * @param other the list to combine with
+     * @throws NullPointerException if the other list is null
+     */
+    public void andNot(MyBitSetList other) throws NullPointerException {
+        if (other == null) throw new NullPointerException("cannot combine with a null list");
+        int common = Math.min(wordsFor(size), wordsFor(other.size));
+        for (int i = 0; i < common; i++)
+            words[i] &= ~other.words[i];
+    }
+
+    /** Grows the list with clear bits to at least <code>otherSize</code> and returns the other list's words in use. */
+    private int extendTo(int otherSize){
+        if (otherSize > size) {
+            checkCapacity(otherSize - size);
+            size = otherSize;
+        }
+        return wordsFor(otherSize);
+    }
+
+    /** Copies the list into the given array, or a new one if it is too small. */
+    @Override
+    public boolean[] toArray(boolean[] toHold) throws NullPointerException {
+        if (toHold == null) throw new NullPointerException("toHold cannot be null");
+        if (toHold.length < size) toHold = new boolean[size];
+        for (int i = 0; i < size; i++)
+            toHold[i] = (words[i >>> ADDRESS_BITS] & (1L << i)) != 0;
+        return toHold;
+    }
+
+    /** Converts list to a boolean array. */
+    @Override
+    public boolean[] toArray() {
+        return toArray(new boolean[size]);
+    }
+
+    /** @return a primitive iterator over the list */
+    @Override
+    public BooleanIterator iterator() {
+        return new Itr();
+    }
+
+    /** @return an iterator over the indices of the <code>true</code> values, in order */
+    public IntIterator setBits() {
+        return new SetBitItr();
+    }
+
+    /** Internal iterator class. */
+    private class Itr implements BooleanIterator {
+        private int index;
+
+        private Itr(){
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index<size;
+        }
+
+        @Override
+        public boolean nextBoolean() throws NoSuchElementException {
+            if (!hasNext()) throw new NoSuchElementException();
+            int i = index++;
+            return (words[i >>> ADDRESS_BITS] & (1L << i)) != 0;
+        }
+    }
+
+    /** Internal iterator over set bits, built on {@link #nextSetBit(int)}. */
+    private class SetBitItr implements IntIterator {
+        private int next;
+
+        private SetBitItr(){
+            next = nextSetBit(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != -1;
+        }
+
+        @Override
+        public int nextInt() throws NoSuchElementException {
+            if (!hasNext()) throw new NoSuchElementException();
+            int current = next;
+            next = nextSetBit(current + 1);
+            return current;
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package implementations;
+
+import utilities.IntIterator;
+import utilities.IntListADT;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A compressed list of <code>int</code> values kept in non-decreasing order,
+ * such as a sorted list of IDs.
+ * <p>
+ * The values are split into blocks of 128. Each block stores its first value
+ * in a skip index and the gaps between its values as variable-length
+ * integers: 7 bits per byte, so a gap below 128 takes one byte. A dense list
+ * of IDs takes one or two bytes per value instead of the 16 or more a boxed
+ * <code>Integer</code> costs. <code>get</code> decodes at most one block;
+ * <code>contains</code> and <code>indexOf</code> binary search the skip index
+ * and then decode at most one block and a value of the next. The iterator
+ * decodes sequentially without going back to the skip index.
+ * </p>
+ * <p>
+ * Values can only be added in order. {@link #add(int)} appends in O(1); any
+ * other edit decodes and re-encodes the blocks from the edited one to the
+ * end, so the list suits data that is built once and read many times.
+ * </p>
+ */
+public class MyCompressedIntList implements IntListADT {
+
+    private static final long serialVersionUID = 8163307149585212641L;
+    private static final int BLOCK_SHIFT = 7;
+    private static final int BLOCK = 1 << BLOCK_SHIFT;
+    private static final int BLOCK_MASK = BLOCK - 1;
+    private static final int MIN_CAPACITY = 16;
+    private static final double RESIZE_SCALING = 1.5;
+
+    private transient byte[] data;
+    private transient int dataLength;
+    private transient int[] blockFirst;
+    private transient int[] blockOffset;
+    private transient int blockCount;
+    private transient int size;
+    private transient int last;
+
+    /** Constructs an empty list. */
+    public MyCompressedIntList(){
+        clear();
+    }
+
+    /** @return the number of values in the list */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /** Clears the list and drops its storage. */
+    @Override
+    public void clear() {
+        data = new byte[MIN_CAPACITY];
+        blockFirst = new int[1];
+        blockOffset = new int[1];
+        dataLength = 0;
+        blockCount = 0;
+        size = 0;
+        last = 0;
+    }
+
+    /**
+     * Estimates the memory the encoded values and the skip index take, not
+     * counting object headers or unused capacity.
+     * @return the number of bytes in use
+     */
+    public long compressedBytes() {
+        return dataLength + 8L * blockCount;
+    }
+
+    private static int grow(int length, int required){
+        double newCapacity = length;
+        do newCapacity = Math.max(newCapacity + 1, Math.floor(newCapacity * RESIZE_SCALING));
+        while(newCapacity < required);
+        return (int) newCapacity;
+    }
+
+    /** Appends a value that is known to be in order. */
+    private void append(int value){
+        if ((size & BLOCK_MASK) == 0) {
+            if (blockCount == blockFirst.length) {
+                blockFirst = Arrays.copyOf(blockFirst, grow(blockCount, blockCount + 1));
+                blockOffset = Arrays.copyOf(blockOffset, blockFirst.length);
+            }
+            blockFirst[blockCount] = value;
+            blockOffset[blockCount] = dataLength;
+            blockCount++;
+        } else {
+            if (dataLength + 5 > data.length)
+                data = Arrays.copyOf(data, grow(data.length, dataLength + 5));
+            int gap = value - last;
+            while ((gap & ~0x7F) != 0) {
+                data[dataLength++] = (byte) ((gap & 0x7F) | 0x80);
+                gap >>>= 7;
+            }
+            data[dataLength++] = (byte) gap;
+        }
+        last = value;
+        size++;
+    }
+
+    /**
+     * Decodes the values from block <code>k</code> to the end, drops them from
+     * the list and returns them so that they can be edited and appended again.
+     */
+    private int[] detachFrom(int k){
+        int start = k << BLOCK_SHIFT;
+        int[] tail = new int[size - start];
+        Itr it = new Itr(start);
+        for (int i = 0; i < tail.length; i++)
+            tail[i] = it.nextInt();
+        last = start > 0 ? get(start - 1) : 0;
+        if (k < blockCount) dataLength = blockOffset[k];
+        blockCount = k;
+        size = start;
+        return tail;
+    }
+
+    private void reattach(int[] tail, int from, int to){
+        for (int i = from; i < to; i++)
+            append(tail[i]);
+    }
+
+    private void checkIndexInRange(int index) throws IndexOutOfBoundsException{
+        if(index >= size || index < 0)
+            throw new IndexOutOfBoundsException("index of " + index + "is out of range for list of size " + size);
+    }
+
+    /** Throws unless <code>value</code> sorts between the values at <code>before</code> and <code>after</code>. */
+    private void checkOrder(int before, int value, int after) throws IllegalArgumentException {
+        if ((before >= 0 && get(before) > value) || (after < size && value > get(after)))
+            throw new IllegalArgumentException("value " + value + " would break the order of the list");
+    }
+
+    /**
+     * Inserts a value at a specific index, which is only allowed where it
+     * keeps the list in order. Re-encodes the blocks from the index on.
+     * @throws IllegalArgumentException if the value does not sort at that index
+     */
+    @Override
+    public boolean add(int index, int toAdd) throws IndexOutOfBoundsException, IllegalArgumentException {
+        if (index == size) return add(toAdd);
+        checkIndexInRange(index);
+        checkOrder(index - 1, toAdd, index);
+        int k = index >>> BLOCK_SHIFT;
+        int[] tail = detachFrom(k);
+        int split = index - (k << BLOCK_SHIFT);
+        reattach(tail, 0, split);
+        append(toAdd);
+        reattach(tail, split, tail.length);
+        return true;
+    }
+
+    /**
+     * Appends a value in O(1).
+     * @throws IllegalArgumentException if the value is less than the last value
+     */
+    @Override
+    public boolean add(int toAdd) throws IllegalArgumentException {
+        if (size > 0 && toAdd < last)
+            throw new IllegalArgumentException("value " + toAdd + " is less than the last value " + last);
+        append(toAdd);
+        return true;
+    }
+
+    /**
+     * Appends all values from another list, which must continue this list in order.
+     * @throws IllegalArgumentException if the values are out of order; the list is then unchanged
+     */
+    @Override
+    public boolean addAll(IntListADT toAdd) throws NullPointerException, IllegalArgumentException {
+        if (toAdd == null) throw new NullPointerException("cannot append null list");
+        int[] values = toAdd.toArray();
+        int previous = size > 0 ? last : Integer.MIN_VALUE;
+        for (int value : values) {
+            if (value < previous)
+                throw new IllegalArgumentException("value " + value + " is out of order");
+            previous = value;
+        }
+        for (int value : values)
+            append(value);
+        return true;
+    }
+
+    /** Gets a value at a given index by decoding part of one block. */
+    @Override
+    public int get(int index) throws IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        if (index == size - 1) return last;
+        return new Itr(index).nextInt();
+    }
+
+    /** Removes a value by index, re-encoding the blocks from the index on. */
+    @Override
+    public int remove(int index) throws IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        int k = index >>> BLOCK_SHIFT;
+        int[] tail = detachFrom(k);
+        int split = index - (k << BLOCK_SHIFT);
+        reattach(tail, 0, split);
+        reattach(tail, split + 1, tail.length);
+        return tail[split];
+    }
+
+    /** Removes the first occurrence of a value. */
+    @Override
+    public boolean removeValue(int toRemove) {
+        int index = indexOf(toRemove);
+        if (index == -1) return false;
+        remove(index);
+        return true;
+    }
+
+    /** @return the index of the first occurrence of a value, found through the skip index, or -1 */
+    @Override
+    public int indexOf(int toFind) {
+        if (size == 0 || toFind < blockFirst[0] || toFind > last) return -1;
+        int low = 0;
+        int high = blockCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (blockFirst[mid] < toFind) low = mid;
+            else high = mid - 1;
+        }
+        int index = low << BLOCK_SHIFT;
+        Itr it = new Itr(index);
+        while (it.hasNext()) {
+            int value = it.nextInt();
+            if (value == toFind) return index;
+            if (value > toFind) return -1;
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Replaces a value at a specific index, which is only allowed where the
+     * new value keeps the list in order.
+     * @throws IllegalArgumentException if the value does not sort at that index
+     */
+    @Override
+    public int set(int index, int toChange) throws IndexOutOfBoundsException, IllegalArgumentException {
+        checkIndexInRange(index);
+        checkOrder(index - 1, toChange, index + 1);
+        int k = index >>> BLOCK_SHIFT;
+        int[] tail = detachFrom(k);
+        int split = index - (k << BLOCK_SHIFT);
+        int replaced = tail[split];
+        tail[split] = toChange;
+        reattach(tail, 0, tail.length);
+        return replaced;
+    }
+
+    /** @return true if list is empty */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Checks through the skip index if the list contains a value. */
+    @Override
+    public boolean contains(int toFind) {
+        return indexOf(toFind) != -1;
+    }
+
+    /** Decodes the list into an int array. */
+    @Override
+    public int[] toArray(int[] toHold) throws NullPointerException {
+        if (toHold == null) throw new NullPointerException("toHold cannot be null");
+        if (toHold.length < size) toHold = new int[size];
+        Itr it = new Itr(0);
+        for (int i = 0; i < size; i++)
+            toHold[i] = it.nextInt();
+        return toHold;
+    }
+
+    /** Decodes the list into an int array. */
+    @Override
+    public int[] toArray() {
+        return toArray(new int[size]);
+    }
+
+    /** @return an iterator that decodes the values sequentially */
+    @Override
+    public IntIterator iterator() {
+        return new Itr(0);
+    }
+
+    /**
+     * Writes the size, the skip index and the encoded bytes, without any unused capacity.
+     * @serialData the size and block count as ints, each block's first value and
+     *             offset as ints, then the encoded length as an int and the encoded bytes
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        out.writeInt(blockCount);
+        for (int k = 0; k < blockCount; k++) {
+            out.writeInt(blockFirst[k]);
+            out.writeInt(blockOffset[k]);
+        }
+        out.writeInt(dataLength);
+        out.write(data, 0, dataLength);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        size = in.readInt();
+        blockCount = in.readInt();
+        if (size < 0 || blockCount != (size + BLOCK_MASK) >>> BLOCK_SHIFT)
+            throw new InvalidObjectException("size " + size + " does not match " + blockCount + " blocks");
+        blockFirst = new int[Math.max(1, blockCount)];
+        blockOffset = new int[blockFirst.length];
+        for (int k = 0; k < blockCount; k++) {
+            blockFirst[k] = in.readInt();
+            blockOffset[k] = in.readInt();
+        }
+        dataLength = in.readInt();
+        if (dataLength < 0) throw new InvalidObjectException("negative data length: " + dataLength);
+        data = new byte[Math.max(MIN_CAPACITY, dataLength)];
+        in.readFully(data, 0, dataLength);
+        last = 0;
+        if (size > 0) {
+            Itr it = new Itr((blockCount - 1) << BLOCK_SHIFT);
+            while (it.hasNext()) last = it.nextInt();
+        }
+    }
+
+    /** Internal iterator class that decodes one gap per value. */
+    private class Itr implements IntIterator {
+        private int index;
+        private int position;
+        private int value;
+
+        /** Positions the iterator so that the next value returned is the one at <code>start</code>. */
+        private Itr(int start){
+            index = start & ~BLOCK_MASK;
+            if (index < size) {
+                position = blockOffset[index >>> BLOCK_SHIFT];
+                while (index < start) {
+                    nextInt();
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index<size;
+        }
+
+        @Override
+        public int nextInt() throws NoSuchElementException {
+            if (!hasNext()) throw new NoSuchElementException();
+            if ((index & BLOCK_MASK) == 0) {
+                int k = index >>> BLOCK_SHIFT;
+                value = blockFirst[k];
+                position = blockOffset[k];
+            } else {
+                int gap = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[position++];
+                    gap |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                value += gap;
+            }
+            index++;
+            return value;
+        }
+    }
+}
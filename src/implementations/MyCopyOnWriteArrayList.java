@@ -0,0 +1,291 @@
+package implementations;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A thread-safe array list for data that is read far more often than it is
+ * changed.
+ * <p>
+ * The elements live in an array that is never modified once it has been
+ * published through a volatile field. Readers take the current array and use
+ * it without locking. Writers lock the list, copy the array with their change
+ * applied, and publish the copy. Iterators and spliterators work on the array
+ * that was current when they were created, so they never see a later change
+ * and never fail because of one. Bulk writes such as <code>addAll</code> make a
+ * single copy however many elements they add.
+ * </p>
+ * @param <E> the type of elements in this list
+ */
+public class MyCopyOnWriteArrayList<E> implements ListADT<E> {
+
+    private static final long serialVersionUID = 4471839256027345118L;
+    private volatile Object[] array;
+
+    /** Constructs an empty list. */
+    public MyCopyOnWriteArrayList(){
+        array = new Object[0];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E elementAt(Object[] snapshot, int index){
+        return (E) snapshot[index];
+    }
+
+    private static void checkIndexInRange(Object[] snapshot, int index) throws IndexOutOfBoundsException{
+        if(index >= snapshot.length || index < 0)
+            throw new IndexOutOfBoundsException("index of " + index + "is out of range for list of size " + snapshot.length);
+    }
+
+    private static int indexOf(Object[] snapshot, Object toFind){
+        for (int i = 0; i < snapshot.length; i++){
+            if(toFind.equals(snapshot[i]))
+                return i;
+        }
+        return -1;
+    }
+
+    /** Copies the elements of another list, rejecting nulls, before any lock is taken. */
+    private static Object[] elementsOf(ListADT<?> toAdd) throws NullPointerException{
+        Object[] items = toAdd.toArray();
+        for (Object item : items){
+            if(item == null) throw new NullPointerException("cannot add a null element to list");
+        }
+        return items;
+    }
+
+    /** @return the number of elements in the list */
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    /** Clears the list. */
+    @Override
+    public synchronized void clear() {
+        array = new Object[0];
+    }
+
+    /** Adds an element at a specific index. */
+    @Override
+    public synchronized boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+        Object[] current = array;
+        if (index != current.length) checkIndexInRange(current, index);
+        if(toAdd == null) throw new NullPointerException("cannot add a null element to list");
+        Object[] copy = new Object[current.length + 1];
+        System.arraycopy(current, 0, copy, 0, index);
+        System.arraycopy(current, index, copy, index + 1, current.length - index);
+        copy[index] = toAdd;
+        array = copy;
+        return true;
+    }
+
+    /** Adds an element to the end of the list. */
+    @Override
+    public synchronized boolean add(E toAdd) throws NullPointerException {
+        if(toAdd == null) throw new NullPointerException("cannot add a null element to list");
+        Object[] current = array;
+        Object[] copy = Arrays.copyOf(current, current.length + 1);
+        copy[current.length] = toAdd;
+        array = copy;
+        return true;
+    }
+
+    /** Adds all elements from another list with a single copy of the array. */
+    @Override
+    public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+        if (toAdd == null) throw new NullPointerException("cannot append null list");
+        Object[] items = elementsOf(toAdd);
+        synchronized (this) {
+            Object[] current = array;
+            Object[] copy = Arrays.copyOf(current, current.length + items.length);
+            System.arraycopy(items, 0, copy, current.length, items.length);
+            array = copy;
+        }
+        return true;
+    }
+
+    /**
+     * Inserts all elements from another list at a specific index with a single copy of the array.
+     * @param index the index to insert the first element at
+     * @param toAdd the list of elements to insert
+     * @return true if the operation is successful
+     * @throws NullPointerException if the list is null or holds a null element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean addAll(int index, ListADT<? extends E> toAdd) throws NullPointerException, IndexOutOfBoundsException {
+        if (toAdd == null) throw new NullPointerException("cannot insert null list");
+        Object[] items = elementsOf(toAdd);
+        synchronized (this) {
+            Object[] current = array;
+            if (index != current.length) checkIndexInRange(current, index);
+            Object[] copy = new Object[current.length + items.length];
+            System.arraycopy(current, 0, copy, 0, index);
+            System.arraycopy(items, 0, copy, index, items.length);
+            System.arraycopy(current, index, copy, index + items.length, current.length - index);
+            array = copy;
+        }
+        return true;
+    }
+
+    /** Gets an element at a given index without locking. */
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        Object[] snapshot = array;
+        checkIndexInRange(snapshot, index);
+        return elementAt(snapshot, index);
+    }
+
+    /** Removes an element by index. */
+    @Override
+    public synchronized E remove(int index) throws IndexOutOfBoundsException {
+        Object[] current = array;
+        checkIndexInRange(current, index);
+        E removed = elementAt(current, index);
+        Object[] copy = new Object[current.length - 1];
+        System.arraycopy(current, 0, copy, 0, index);
+        System.arraycopy(current, index + 1, copy, index, current.length - index - 1);
+        array = copy;
+        return removed;
+    }
+
+    /** Removes the first occurrence of an element. */
+    @Override
+    public synchronized E remove(E toRemove) throws NullPointerException {
+        if (toRemove == null) throw new NullPointerException("Cannot search for null value");
+        int index = indexOf(array, toRemove);
+        if (index == -1) return null;
+        return remove(index);
+    }
+
+    /**
+     * Returns the index of the first occurrence of an element without locking.
+     * @param toFind the element to search for
+     * @return the lowest index of the element, or -1
+     * @throws NullPointerException if the element is null
+     */
+    public int indexOf(E toFind) throws NullPointerException{
+        if (toFind == null) throw new NullPointerException("Cannot search for null value");
+        return indexOf(array, toFind);
+    }
+
+    /** Replaces an element at a specific index. */
+    @Override
+    public synchronized E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+        Object[] current = array;
+        checkIndexInRange(current, index);
+        if(toChange == null) throw new NullPointerException("cannot set element in list to null");
+        E replaced = elementAt(current, index);
+        Object[] copy = current.clone();
+        copy[index] = toChange;
+        array = copy;
+        return replaced;
+    }
+
+    /**
+     * Replaces every element with the result of the operator. The new array
+     * is built under the lock and published in one write, so readers see
+     * either none of the replacements or all of them.
+     */
+    @Override
+    public synchronized void replaceAll(UnaryOperator<E> operator) throws NullPointerException {
+        if (operator == null) throw new NullPointerException("operator cannot be null");
+        Object[] current = array;
+        Object[] copy = new Object[current.length];
+        for (int i = 0; i < current.length; i++) {
+            E replacement = operator.apply(elementAt(current, i));
+            if (replacement == null) throw new NullPointerException("cannot set element in list to null");
+            copy[i] = replacement;
+        }
+        array = copy;
+    }
+
+    /**
+     * Removes every element that matches the predicate. The survivors are
+     * copied once under the lock and published in one write.
+     */
+    @Override
+    public synchronized boolean removeIf(Predicate<? super E> filter) throws NullPointerException {
+        if (filter == null) throw new NullPointerException("filter cannot be null");
+        Object[] current = array;
+        Object[] survivors = new Object[current.length];
+        int kept = 0;
+        for (int i = 0; i < current.length; i++) {
+            if (!filter.test(elementAt(current, i)))
+                survivors[kept++] = current[i];
+        }
+        if (kept == current.length) return false;
+        array = Arrays.copyOf(survivors, kept);
+        return true;
+    }
+
+    /** @return true if list is empty */
+    @Override
+    public boolean isEmpty() {
+        return array.length == 0;
+    }
+
+    /** Checks if list contains an element without locking. */
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        return indexOf(toFind) != -1;
+    }
+
+    /** Converts the current contents of the list to an array of type E. */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] toHold) throws NullPointerException {
+        if (toHold == null) throw new NullPointerException("toHold cannot be null");
+        Object[] snapshot = array;
+        if (toHold.length < snapshot.length) return (E[]) Arrays.copyOf(snapshot, snapshot.length, toHold.getClass());
+        System.arraycopy(snapshot, 0, toHold, 0, snapshot.length);
+        return toHold;
+    }
+
+    /** Converts the current contents of the list to an Object array. */
+    @Override
+    public Object[] toArray() {
+        return array.clone();
+    }
+
+    /** @return an iterator over the contents of the list at the time of the call */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr<>(array);
+    }
+
+    /** @return a spliterator over the contents of the list at the time of the call */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(array, Spliterator.IMMUTABLE | Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /** Snapshot iterator class. */
+    private static class Itr<E> implements Iterator<E> {
+        private final Object[] snapshot;
+        private int index;
+
+        private Itr(Object[] snapshot){
+            this.snapshot = snapshot;
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < snapshot.length;
+        }
+
+        @Override
+        public E next() throws NoSuchElementException {
+            if (!hasNext()) throw new NoSuchElementException();
+            return elementAt(snapshot, index++);
+        }
+    }
+}
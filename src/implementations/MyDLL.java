@@ -2,16 +2,42 @@ package implementations;
 
 import utilities.Iterator;
 import utilities.ListADT;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * A custom implementation of a doubly linked list.
+ * <p>
+ * {@link #enableIndex()} adds a hash index from each element to the nodes that
+ * hold it. <code>contains</code> then takes O(1) expected time, and so does
+ * <code>remove(E)</code> for an element that is in the list only once.
+ * </p>
+ * <p>
+ * The serialized form is the size followed by the elements in list order,
+ * written in one loop. The nodes themselves are never serialized, so a list
+ * of any length is written without recursing through its links.
+ * </p>
  * @param <E> the type of elements held in this list
  */
 public class MyDLL<E> implements ListADT<E> {
-    private MyDLLNode<E> head;
-    private MyDLLNode<E> tail;
-    private int size;
+    private static final long serialVersionUID = -1851316957419340426L;
+    private static final int BATCH_UNIT = 1 << 10;
+    private static final int MAX_BATCH = 1 << 25;
+
+    private transient MyDLLNode<E> head;
+    private transient MyDLLNode<E> tail;
+    private transient int size;
+    private transient HashMap<E, MyArrayList<MyDLLNode<E>>> nodeIndex;
 
     /**
      * Constructs an empty doubly linked list.
@@ -32,6 +58,95 @@ public class MyDLL<E> implements ListADT<E> {
         head = null;
         tail = null;
         size = 0;
+        if (nodeIndex != null) nodeIndex.clear();
+    }
+
+    /**
+     * Builds a hash index from each element to its nodes and keeps it up to
+     * date from then on. Does nothing if the list is already indexed.
+     */
+    public void enableIndex() {
+        if (nodeIndex != null) return;
+        nodeIndex = new HashMap<>();
+        for (MyDLLNode<E> node = head; node != null; node = node.getNext()) indexNode(node);
+    }
+
+    /** Drops the hash index, if there is one. */
+    public void disableIndex() {
+        nodeIndex = null;
+    }
+
+    /** @return true if the list keeps a hash index of its elements */
+    public boolean isIndexed() {
+        return nodeIndex != null;
+    }
+
+    /**
+     * Estimates the memory the hash index uses, assuming a 64-bit JVM with
+     * compressed references. Takes time proportional to the number of
+     * distinct elements.
+     *
+     * @return the estimated size of the index in bytes, or 0 if the list is not indexed
+     */
+    public long indexFootprint() {
+        if (nodeIndex == null) return 0;
+        long bytes = PositionIndex.mapFootprint(nodeIndex.size());
+        for (MyArrayList<MyDLLNode<E>> nodes : nodeIndex.values()) {
+            bytes += PositionIndex.OBJECT_HEADER + 7 * PositionIndex.REFERENCE
+                    + PositionIndex.ARRAY_HEADER + (long) PositionIndex.REFERENCE * nodes.capacity();
+        }
+        return bytes;
+    }
+
+    private void indexNode(MyDLLNode<E> node) {
+        MyArrayList<MyDLLNode<E>> nodes = nodeIndex.get(node.getElement());
+        if (nodes == null) {
+            nodes = MyArrayList.internal(1);
+            nodeIndex.put(node.getElement(), nodes);
+        }
+        nodes.add(node);
+    }
+
+    private void unindexNode(MyDLLNode<E> node) {
+        MyArrayList<MyDLLNode<E>> nodes = nodeIndex.get(node.getElement());
+        nodes.remove(node);
+        if (nodes.isEmpty()) nodeIndex.remove(node.getElement());
+    }
+
+    /**
+     * Writes the size, then the elements in list order, then whether the list is indexed.
+     *
+     * @serialData the size as an int, each element as an object, and the indexed flag as a boolean
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (MyDLLNode<E> node = head; node != null; node = node.getNext()) out.writeObject(node.getElement());
+        out.writeBoolean(nodeIndex != null);
+    }
+
+    /**
+     * Relinks the elements into a fresh chain and rebuilds the index if there was one.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        if (count < 0) throw new InvalidObjectException("negative size: " + count);
+        for (int i = 0; i < count; i++) {
+            @SuppressWarnings("unchecked")
+            E item = (E) in.readObject();
+            if (item == null) throw new InvalidObjectException("null element at index " + i);
+            MyDLLNode<E> node = new MyDLLNode<>(item);
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.setNext(node);
+                node.setPrev(tail);
+            }
+            tail = node;
+            size++;
+        }
+        if (in.readBoolean()) enableIndex();
     }
 
     @Override
@@ -59,6 +174,7 @@ public class MyDLL<E> implements ListADT<E> {
             current.setPrev(newNode);
         }
         size++;
+        if (nodeIndex != null) indexNode(newNode);
         return true;
     }
 
@@ -69,9 +185,64 @@ public class MyDLL<E> implements ListADT<E> {
 
     @Override
     public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+        return addAll(size, toAdd);
+    }
+
+    /**
+     * Inserts all elements of another list at the given index. The source is
+     * walked once with its iterator to build a chain of new nodes, and the
+     * chain is then spliced in with a single walk to the index.
+     *
+     * @param index the index to insert the first element at
+     * @param toAdd the list of elements to insert
+     * @return true if the operation is successful
+     * @throws NullPointerException if the list is null or holds a null element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean addAll(int index, ListADT<? extends E> toAdd) throws NullPointerException, IndexOutOfBoundsException {
         if (toAdd == null) throw new NullPointerException();
-        for (int i = 0; i < toAdd.size(); i++) {
-            add(toAdd.get(i));
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        int count = toAdd.size();
+        if (count == 0) return true;
+
+        Iterator<? extends E> it = toAdd.iterator();
+        MyDLLNode<E> first = null;
+        MyDLLNode<E> last = null;
+        for (int i = 0; i < count; i++) {
+            E element = it.next();
+            if (element == null) throw new NullPointerException();
+            MyDLLNode<E> node = new MyDLLNode<>(element);
+            if (first == null) {
+                first = node;
+            } else {
+                last.setNext(node);
+                node.setPrev(last);
+            }
+            last = node;
+        }
+
+        if (index == size) {
+            if (tail == null) head = first;
+            else {
+                tail.setNext(first);
+                first.setPrev(tail);
+            }
+            tail = last;
+        } else {
+            MyDLLNode<E> current = getNode(index);
+            MyDLLNode<E> previous = current.getPrev();
+            if (previous == null) head = first;
+            else {
+                previous.setNext(first);
+                first.setPrev(previous);
+            }
+            last.setNext(current);
+            current.setPrev(last);
+        }
+        size += count;
+        if (nodeIndex != null) {
+            for (MyDLLNode<E> node = first; node != last; node = node.getNext()) indexNode(node);
+            indexNode(last);
         }
         return true;
     }
@@ -85,8 +256,10 @@ public class MyDLL<E> implements ListADT<E> {
     @Override
     public E remove(int index) throws IndexOutOfBoundsException {
         checkIndex(index);
-        MyDLLNode<E> toRemove = getNode(index);
+        return unlink(getNode(index));
+    }
 
+    private E unlink(MyDLLNode<E> toRemove) {
         if (toRemove == head) {
             head = head.getNext();
             if (head != null) head.setPrev(null);
@@ -99,20 +272,24 @@ public class MyDLL<E> implements ListADT<E> {
             toRemove.getNext().setPrev(toRemove.getPrev());
         }
         size--;
+        if (nodeIndex != null) unindexNode(toRemove);
         return toRemove.getElement();
     }
 
     @Override
     public E remove(E toRemove) throws NullPointerException {
         if (toRemove == null) throw new NullPointerException();
+        if (nodeIndex != null) {
+            MyArrayList<MyDLLNode<E>> nodes = nodeIndex.get(toRemove);
+            if (nodes == null) return null;
+            if (nodes.size() == 1) return unlink(nodes.get(0));
+        }
         MyDLLNode<E> current = head;
-        int index = 0;
         while (current != null) {
             if (toRemove.equals(current.getElement())) {
-                return remove(index);
+                return unlink(current);
             }
             current = current.getNext();
-            index++;
         }
         return null;
     }
@@ -123,10 +300,93 @@ public class MyDLL<E> implements ListADT<E> {
         checkIndex(index);
         MyDLLNode<E> node = getNode(index);
         E old = node.getElement();
+        if (nodeIndex != null) unindexNode(node);
         node.setElement(toChange);
+        if (nodeIndex != null) indexNode(node);
         return old;
     }
 
+    /**
+     * Sorts the list with a natural merge sort. Each pass merges neighbouring
+     * ascending runs by relinking their nodes, so no nodes or arrays are
+     * allocated, and a list that is already sorted takes a single pass. The
+     * sort is stable.
+     *
+     * @param c the order to sort by, or null for the elements' natural order
+     */
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> c) {
+        if (size < 2) return;
+        Comparator<? super E> order = c != null ? c : (Comparator<? super E>) Comparator.naturalOrder();
+        boolean merged;
+        do {
+            merged = false;
+            MyDLLNode<E> sortedHead = null;
+            MyDLLNode<E> sortedTail = null;
+            MyDLLNode<E> run = head;
+            while (run != null) {
+                MyDLLNode<E> runEnd = endOfRun(run, order);
+                MyDLLNode<E> second = runEnd.getNext();
+                MyDLLNode<E> mergedHead = run;
+                MyDLLNode<E> mergedTail = runEnd;
+                if (second == null) {
+                    run = null;
+                } else {
+                    MyDLLNode<E> secondEnd = endOfRun(second, order);
+                    run = secondEnd.getNext();
+                    runEnd.setNext(null);
+                    secondEnd.setNext(null);
+                    mergedTail = order.compare(runEnd.getElement(), secondEnd.getElement()) > 0 ? runEnd : secondEnd;
+                    mergedHead = merge(mergedHead, second, order);
+                    merged = true;
+                }
+                if (sortedHead == null) sortedHead = mergedHead;
+                else sortedTail.setNext(mergedHead);
+                sortedTail = mergedTail;
+            }
+            head = sortedHead;
+        } while (merged);
+
+        MyDLLNode<E> previous = null;
+        for (MyDLLNode<E> node = head; node != null; node = node.getNext()) {
+            node.setPrev(previous);
+            previous = node;
+        }
+        tail = previous;
+    }
+
+    /** @return the last node of the ascending run that starts at <code>node</code> */
+    private MyDLLNode<E> endOfRun(MyDLLNode<E> node, Comparator<? super E> order) {
+        while (node.getNext() != null && order.compare(node.getElement(), node.getNext().getElement()) <= 0)
+            node = node.getNext();
+        return node;
+    }
+
+    /** Merges two sorted chains linked by <code>next</code> only, taking from <code>first</code> on ties. */
+    private MyDLLNode<E> merge(MyDLLNode<E> first, MyDLLNode<E> second, Comparator<? super E> order) {
+        MyDLLNode<E> mergedHead;
+        if (order.compare(first.getElement(), second.getElement()) <= 0) {
+            mergedHead = first;
+            first = first.getNext();
+        } else {
+            mergedHead = second;
+            second = second.getNext();
+        }
+        MyDLLNode<E> last = mergedHead;
+        while (first != null && second != null) {
+            if (order.compare(first.getElement(), second.getElement()) <= 0) {
+                last.setNext(first);
+                first = first.getNext();
+            } else {
+                last.setNext(second);
+                second = second.getNext();
+            }
+            last = last.getNext();
+        }
+        last.setNext(first != null ? first : second);
+        return mergedHead;
+    }
+
     @Override
     public boolean isEmpty() {
         return size == 0;
@@ -135,6 +395,7 @@ public class MyDLL<E> implements ListADT<E> {
     @Override
     public boolean contains(E toFind) throws NullPointerException {
         if (toFind == null) throw new NullPointerException();
+        if (nodeIndex != null) return nodeIndex.containsKey(toFind);
         MyDLLNode<E> current = head;
         while (current != null) {
             if (toFind.equals(current.getElement())) return true;
@@ -175,6 +436,113 @@ public class MyDLL<E> implements ListADT<E> {
         return new Itr();
     }
 
+    /**
+     * Performs an action on every element, in order, walking the nodes directly.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) throws NullPointerException {
+        if (action == null) throw new NullPointerException("action cannot be null");
+        for (MyDLLNode<E> node = head; node != null; node = node.getNext()) action.accept(node.getElement());
+    }
+
+    /**
+     * Replaces every element with the result of the operator in a single walk of the nodes.
+     */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) throws NullPointerException {
+        if (operator == null) throw new NullPointerException("operator cannot be null");
+        for (MyDLLNode<E> node = head; node != null; node = node.getNext()) {
+            E replacement = operator.apply(node.getElement());
+            if (replacement == null) throw new NullPointerException();
+            if (nodeIndex != null) unindexNode(node);
+            node.setElement(replacement);
+            if (nodeIndex != null) indexNode(node);
+        }
+    }
+
+    /**
+     * Removes every element that matches the predicate in a single walk,
+     * unlinking each match in constant time. Elements removed before a
+     * predicate throws stay removed.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) throws NullPointerException {
+        if (filter == null) throw new NullPointerException("filter cannot be null");
+        int before = size;
+        MyDLLNode<E> node = head;
+        while (node != null) {
+            MyDLLNode<E> next = node.getNext();
+            if (filter.test(node.getElement())) unlink(node);
+            node = next;
+        }
+        return size != before;
+    }
+
+    /**
+     * Returns a spliterator that walks the nodes. Each split copies the next
+     * batch of elements into an array, with batches growing arithmetically so
+     * that parallel streams get more work per split as they go.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new Splitr();
+    }
+
+    /**
+     * Spliterator for the doubly linked list.
+     */
+    private class Splitr implements Spliterator<E> {
+        private MyDLLNode<E> current = head;
+        private int remaining = size;
+        private int batch = 0;
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            if (remaining <= 0) return false;
+            E data = current.getElement();
+            current = current.getNext();
+            remaining--;
+            action.accept(data);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            while (remaining > 0) {
+                E data = current.getElement();
+                current = current.getNext();
+                remaining--;
+                action.accept(data);
+            }
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            if (remaining <= 1) return null;
+            int n = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), remaining);
+            Object[] array = new Object[n];
+            for (int i = 0; i < n; i++) {
+                array[i] = current.getElement();
+                current = current.getNext();
+            }
+            batch = n;
+            remaining -= n;
+            return Spliterators.spliterator(array, 0, n, ORDERED | NONNULL);
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+
     /**
      * Iterator for the doubly linked list.
      */
@@ -193,6 +561,16 @@ public class MyDLL<E> implements ListADT<E> {
             current = current.getNext();
             return data;
         }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) throws NullPointerException {
+            if (action == null) throw new NullPointerException("action cannot be null");
+            while (current != null) {
+                E data = current.getElement();
+                current = current.getNext();
+                action.accept(data);
+            }
+        }
     }
 
     private void checkIndex(int index) {
@@ -0,0 +1,297 @@
+package implementations;
+
+import utilities.DoubleIterator;
+import utilities.DoubleListADT;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * An array list of primitive <code>double</code> values. It follows the same
+ * growth and shrink rules as {@link MyArrayList}, but stores its values in a
+ * <code>double[]</code> so no element is ever boxed.
+ */
+public class MyDoubleArrayList implements DoubleListADT {
+
+    private static final int MIN_CAPACITY = 10;
+    private static final double RESIZE_SCALING = 1.5;
+    private static final double MIN_FILL_PERCENTAGE = 0.5/Math.pow(RESIZE_SCALING, 2);
+
+    private static final long serialVersionUID = -818734260175923511L;
+
+    private transient double[] list;
+    private transient int size;
+
+    /** Constructs an empty list. */
+    public MyDoubleArrayList(){
+        list = new double[MIN_CAPACITY];
+        size = 0;
+    }
+
+    /** @return the number of values in the list */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /** Clears the list. */
+    @Override
+    public void clear() {
+        list = new double[MIN_CAPACITY];
+        size = 0;
+    }
+
+    private double[] copy(int copyCapacity){
+        double[] copy = new double[copyCapacity];
+        System.arraycopy(list, 0, copy, 0, size);
+        return copy;
+    }
+
+    private double[] copy(int copyCapacity, int removeIndex){
+        double[] newList = new double[copyCapacity];
+        System.arraycopy(list, 0, newList, 0, removeIndex);
+        System.arraycopy(list, removeIndex+1, newList, removeIndex, size-removeIndex-1);
+        return newList;
+    }
+
+    private void checkCapacity(){
+        if(size == list.length)
+            list = copy((int) (list.length * RESIZE_SCALING));
+    }
+
+    private void checkCapacity(int sizeIncrease){
+        int newSize = size + sizeIncrease;
+        if (newSize > list.length){
+            double newCapacity = list.length;
+            do newCapacity = Math.floor(newCapacity * RESIZE_SCALING);
+            while(newCapacity < newSize);
+            list = copy((int) newCapacity);
+        }
+    }
+
+    /**
+     * Writes the size followed by the values, leaving out the unused capacity.
+     * @serialData the size as an int, then each value as a double
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++)
+            out.writeDouble(list[i]);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        if (count < 0) throw new InvalidObjectException("negative size: " + count);
+        double[] values = new double[Math.max(count, MIN_CAPACITY)];
+        for (int i = 0; i < count; i++)
+            values[i] = in.readDouble();
+        list = values;
+        size = count;
+    }
+
+    private void checkIndexInRange(int index) throws IndexOutOfBoundsException{
+        if(index >= size || index < 0)
+            throw new IndexOutOfBoundsException("index of " + index + "is out of range for list of size " + size);
+    }
+
+    /** Adds a value at a specific index. */
+    @Override
+    public boolean add(int index, double toAdd) throws IndexOutOfBoundsException {
+        if (index == size) return add(toAdd);
+        checkIndexInRange(index);
+        checkCapacity();
+        System.arraycopy(list, index, list, index + 1, size - index);
+        list[index] = toAdd;
+        size++;
+        return true;
+    }
+
+    /** Adds a value to the end of the list. */
+    @Override
+    public boolean add(double toAdd) {
+        checkCapacity();
+        list[size++] = toAdd;
+        return true;
+    }
+
+    /** Adds all values from another list. */
+    @Override
+    public boolean addAll(DoubleListADT toAdd) throws NullPointerException {
+        if (toAdd == null) throw new NullPointerException("cannot append null list");
+        int count = toAdd.size();
+        checkCapacity(count);
+        if (toAdd instanceof MyDoubleArrayList) {
+            System.arraycopy(((MyDoubleArrayList) toAdd).list, 0, list, size, count);
+            size += count;
+        } else {
+            DoubleIterator it = toAdd.iterator();
+            while (it.hasNext())
+                list[size++] = it.nextDouble();
+        }
+        return true;
+    }
+
+    /** Gets a value at a given index. */
+    @Override
+    public double get(int index) throws IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        return list[index];
+    }
+
+    private boolean isArrayOversized(){
+        return (size-1) < MIN_FILL_PERCENTAGE * list.length && list.length > MIN_CAPACITY;
+    }
+
+    private int reducedCapacity(){
+        double firstScale = Math.ceil(list.length/RESIZE_SCALING);
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(firstScale/RESIZE_SCALING));
+    }
+
+    /** Removes a value by index. */
+    @Override
+    public double remove(int index) throws IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        double removed = list[index];
+        if (isArrayOversized()) {
+            list = copy(reducedCapacity(), index);
+        } else {
+            System.arraycopy(list, index + 1, list, index, size - index - 1);
+        }
+        size--;
+        return removed;
+    }
+
+    /** Removes the first occurrence of a value. */
+    @Override
+    public boolean removeValue(double toRemove) {
+        int index = indexOf(toRemove);
+        if (index == -1) return false;
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Values are compared the way {@link Double#equals(Object)} compares them, so
+     * <code>NaN</code> is found and <code>0.0</code> does not match <code>-0.0</code>.
+     * @return the index of the first occurrence of a value, or -1
+     */
+    @Override
+    public int indexOf(double toFind) {
+        if (toFind != toFind || toFind == 0) {
+            for (int i = 0; i<size ; i++){
+                if(Double.compare(list[i], toFind) == 0)
+                    return i;
+            }
+            return -1;
+        }
+        return PrimitiveScans.indexOfExact(list, size, toFind);
+    }
+
+    /**
+     * Adds up the values.
+     * @return the sum of the values, 0 for an empty list. The values are added in four
+     *         interleaved partial sums, so the result can differ in its last bits from a
+     *         sum taken strictly in order
+     */
+    public double sum() {
+        return PrimitiveScans.sum(list, size);
+    }
+
+    /**
+     * Finds the smallest value.
+     * @return the smallest value, or <code>NaN</code> if any value is
+     * @throws NoSuchElementException if the list is empty
+     */
+    public double min() throws NoSuchElementException {
+        return PrimitiveScans.min(list, size);
+    }
+
+    /**
+     * Finds the largest value.
+     * @return the largest value, or <code>NaN</code> if any value is
+     * @throws NoSuchElementException if the list is empty
+     */
+    public double max() throws NoSuchElementException {
+        return PrimitiveScans.max(list, size);
+    }
+
+    /**
+     * Counts the values between two bounds, both inclusive. <code>NaN</code> values are never counted.
+     * @param low  the smallest value to count
+     * @param high the largest value to count
+     * @return the number of values from <code>low</code> to <code>high</code>
+     * @throws IllegalArgumentException if <code>low</code> is above <code>high</code> or either is <code>NaN</code>
+     */
+    public int countInRange(double low, double high) throws IllegalArgumentException {
+        if (!(low <= high)) throw new IllegalArgumentException("range from " + low + " to " + high + " is empty");
+        return PrimitiveScans.countInRange(list, size, low, high);
+    }
+
+    /** Replaces a value at a specific index. */
+    @Override
+    public double set(int index, double toChange) throws IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        double replaced = list[index];
+        list[index] = toChange;
+        return replaced;
+    }
+
+    /** @return true if list is empty */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Checks if list contains a value. */
+    @Override
+    public boolean contains(double toFind) {
+        return indexOf(toFind) != -1;
+    }
+
+    /** Copies the list into the given array, or a new one if it is too small. */
+    @Override
+    public double[] toArray(double[] toHold) throws NullPointerException {
+        if (toHold == null) throw new NullPointerException("toHold cannot be null");
+        if (toHold.length < size) toHold = new double[size];
+        System.arraycopy(list, 0, toHold, 0, size);
+        return toHold;
+    }
+
+    /** Converts list to a double array. */
+    @Override
+    public double[] toArray() {
+        return Arrays.copyOf(list, size);
+    }
+
+    /** @return a primitive iterator over the list */
+    @Override
+    public DoubleIterator iterator() {
+        return new Itr();
+    }
+
+    /** Internal iterator class. */
+    private class Itr implements DoubleIterator {
+        private int index;
+
+        private Itr(){
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index<size;
+        }
+
+        @Override
+        public double nextDouble() throws NoSuchElementException {
+            if (!hasNext()) throw new NoSuchElementException();
+            return list[index++];
+        }
+    }
+}
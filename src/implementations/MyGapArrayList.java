@@ -0,0 +1,357 @@
+package implementations;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An array list that keeps a movable gap of free slots inside its backing
+ * array. Elements before the gap sit at the front of the array and elements
+ * after it sit at the back. Edits happen at the gap, so a run of inserts and
+ * removals around one position only pays to move the gap once.
+ * <p>
+ * The gap position doubles as an editing cursor: {@link #moveCursor(int)},
+ * {@link #insert(Object)}, {@link #deleteBefore()} and {@link #deleteAfter()}
+ * edit at the cursor without any index arithmetic. The <code>ListADT</code>
+ * methods move the cursor to the position they edit.
+ * </p>
+ * @param <E> the type of elements in this list
+ */
+public class MyGapArrayList<E> implements ListADT<E> {
+
+    private static final long serialVersionUID = 4071593582316927481L;
+    private static final int MIN_CAPACITY = 10;
+    private static final double RESIZE_SCALING = 1.5;
+
+    private transient E[] list;
+    private transient int gapStart;
+    private transient int gapEnd;
+
+    /** Constructs an empty list. */
+    public MyGapArrayList(){
+        list = getNewArray(MIN_CAPACITY);
+        gapStart = 0;
+        gapEnd = MIN_CAPACITY;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E[] getNewArray(int size){
+        return (E[]) (new Object[size]);
+    }
+
+    private int gapLength(){
+        return gapEnd - gapStart;
+    }
+
+    /** Maps a list index to its slot in the backing array. */
+    private int physical(int index){
+        return index < gapStart ? index : index + gapLength();
+    }
+
+    /** Moves the gap so that it starts at the given list index. */
+    private void moveGap(int index){
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(list, index, list, gapEnd - count, count);
+            Arrays.fill(list, index, Math.min(gapStart, gapEnd - count), null);
+            gapStart -= count;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(list, gapEnd, list, gapStart, count);
+            Arrays.fill(list, Math.max(gapEnd, gapStart + count), gapEnd + count, null);
+            gapStart += count;
+            gapEnd += count;
+        }
+    }
+
+    /** Grows the backing array until the gap can hold <code>sizeIncrease</code> more elements. */
+    private void checkCapacity(int sizeIncrease){
+        if (gapLength() >= sizeIncrease) return;
+        int newSize = size() + sizeIncrease;
+        double newCapacity = list.length;
+        do newCapacity = Math.floor(newCapacity * RESIZE_SCALING);
+        while(newCapacity < newSize);
+
+        E[] newList = getNewArray((int) newCapacity);
+        int tail = list.length - gapEnd;
+        System.arraycopy(list, 0, newList, 0, gapStart);
+        System.arraycopy(list, gapEnd, newList, newList.length - tail, tail);
+        list = newList;
+        gapEnd = newList.length - tail;
+    }
+
+    /**
+     * Writes the size followed by the elements in list order, leaving out the gap.
+     * @serialData the size as an int, then each element as an object
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size());
+        for (int i = 0; i < gapStart; i++)
+            out.writeObject(list[i]);
+        for (int i = gapEnd; i < list.length; i++)
+            out.writeObject(list[i]);
+    }
+
+    /** Reads the elements back with the gap, and so the cursor, at the end of the list. */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        if (count < 0) throw new InvalidObjectException("negative size: " + count);
+        list = getNewArray(Math.max(count, MIN_CAPACITY));
+        for (gapStart = 0; gapStart < count; gapStart++) {
+            E item = (E) in.readObject();
+            if (item == null) throw new InvalidObjectException("null element at index " + gapStart);
+            list[gapStart] = item;
+        }
+        gapEnd = list.length;
+    }
+
+    private void checkIndexInRange(int index) throws IndexOutOfBoundsException{
+        if(index >= size() || index < 0)
+            throw new IndexOutOfBoundsException("index of " + index + "is out of range for list of size " + size());
+    }
+
+    /** @return the number of elements in the list */
+    @Override
+    public int size() {
+        return list.length - gapLength();
+    }
+
+    /** Clears the list. */
+    @Override
+    public void clear() {
+        list = getNewArray(MIN_CAPACITY);
+        gapStart = 0;
+        gapEnd = MIN_CAPACITY;
+    }
+
+    /** @return the cursor position, i.e. the index the next {@link #insert(Object)} will use */
+    public int getCursor() {
+        return gapStart;
+    }
+
+    /**
+     * Moves the cursor to sit before the element at the given index.
+     * @param index the new cursor position, from 0 to <code>size()</code>
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public void moveCursor(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index > size())
+            throw new IndexOutOfBoundsException("cursor of " + index + "is out of range for list of size " + size());
+        moveGap(index);
+    }
+
+    /**
+     * Inserts an element at the cursor and moves the cursor past it.
+     * @param toAdd the element to insert
+     * @throws NullPointerException if the element is null
+     */
+    public void insert(E toAdd) throws NullPointerException {
+        if(toAdd == null) throw new NullPointerException("cannot add a null element to list");
+        checkCapacity(1);
+        list[gapStart++] = toAdd;
+    }
+
+    /**
+     * Removes the element just before the cursor, like a backspace.
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if the cursor is at the start of the list
+     */
+    public E deleteBefore() throws IndexOutOfBoundsException {
+        if (gapStart == 0) throw new IndexOutOfBoundsException("no element before the cursor");
+        E removed = list[--gapStart];
+        list[gapStart] = null;
+        return removed;
+    }
+
+    /**
+     * Removes the element just after the cursor, like a forward delete.
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if the cursor is at the end of the list
+     */
+    public E deleteAfter() throws IndexOutOfBoundsException {
+        if (gapEnd == list.length) throw new IndexOutOfBoundsException("no element after the cursor");
+        E removed = list[gapEnd];
+        list[gapEnd++] = null;
+        return removed;
+    }
+
+    /** Adds an element at a specific index and leaves the cursor after it. */
+    @Override
+    public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+        if(toAdd == null) throw new NullPointerException("cannot add a null element to list");
+        moveCursor(index);
+        insert(toAdd);
+        return true;
+    }
+
+    /** Adds an element to the end of the list. */
+    @Override
+    public boolean add(E toAdd) throws NullPointerException {
+        return add(size(), toAdd);
+    }
+
+    /** Adds all elements from another list. */
+    @Override
+    public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+        if (toAdd == null) throw new NullPointerException("cannot append null list");
+        int count = toAdd.size();
+        moveGap(size());
+        checkCapacity(count);
+        Iterator<? extends E> it = toAdd.iterator();
+        for (int i = 0; i < count && it.hasNext(); i++) {
+            E item = it.next();
+            if(item != null){
+                list[gapStart++] = item;
+            }
+        }
+        return true;
+    }
+
+    /** Gets an element at a given index. */
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        return list[physical(index)];
+    }
+
+    /** Removes an element by index and leaves the cursor at that index. */
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        moveGap(index);
+        return deleteAfter();
+    }
+
+    /** Removes the first occurrence of an element. */
+    @Override
+    public E remove(E toRemove) throws NullPointerException {
+        int index = indexOf(toRemove);
+        if (index == -1) return null;
+        return remove(index);
+    }
+
+    /**
+     * Removes every element that matches the predicate in one pass. The
+     * predicate is tested on every element first, so a predicate that throws
+     * leaves the list unchanged. The survivors are then moved down once each
+     * and the cursor ends at the end of the list.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) throws NullPointerException {
+        if (filter == null) throw new NullPointerException("filter cannot be null");
+        int size = size();
+        long[] doomed = null;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(list[physical(i)])) {
+                if (doomed == null) doomed = new long[(size + 63) >>> 6];
+                doomed[i >>> 6] |= 1L << i;
+            }
+        }
+        if (doomed == null) return false;
+
+        moveGap(size);
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if ((doomed[i >>> 6] & (1L << i)) == 0)
+                list[kept++] = list[i];
+        }
+        Arrays.fill(list, kept, gapStart, null);
+        gapStart = kept;
+        return true;
+    }
+
+    public int indexOf(E toFind) throws NullPointerException{
+        if (toFind == null) throw new NullPointerException("Cannot search for null value");
+        for (int i = 0; i < gapStart; i++){
+            if(toFind.equals(list[i]))
+                return i;
+        }
+        for (int i = gapEnd; i < list.length; i++){
+            if(toFind.equals(list[i]))
+                return i - gapLength();
+        }
+        return -1;
+    }
+
+    /** Replaces an element at a specific index. */
+    @Override
+    public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        if(toChange == null) throw new NullPointerException("cannot set element in list to null");
+        int slot = physical(index);
+        E replaced = list[slot];
+        list[slot] = toChange;
+        return replaced;
+    }
+
+    /** @return true if list is empty */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /** Checks if list contains an element. */
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        return indexOf(toFind) != -1;
+    }
+
+    private void copyInto(Object[] dest){
+        System.arraycopy(list, 0, dest, 0, gapStart);
+        System.arraycopy(list, gapEnd, dest, gapStart, list.length - gapEnd);
+    }
+
+    /** Converts list to array of type E. */
+    @Override
+    public E[] toArray(E[] toHold) throws NullPointerException {
+        if (toHold == null) throw new NullPointerException("toHold cannot be null");
+        if (toHold.length < size()) toHold = Arrays.copyOf(toHold, size());
+        copyInto(toHold);
+        return toHold;
+    }
+
+    /** Converts list to Object array. */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size()];
+        copyInto(array);
+        return array;
+    }
+
+    /** @return an iterator over the list */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /** Internal iterator class. */
+    private class Itr implements Iterator<E> {
+        private int index;
+
+        private Itr(){
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index<size();
+        }
+
+        @Override
+        public E next()  throws NoSuchElementException {
+            if (!hasNext()) throw new NoSuchElementException();
+            return list[physical(index++)];
+        }
+    }
+}
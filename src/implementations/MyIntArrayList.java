@@ -0,0 +1,284 @@
+package implementations;
+
+import utilities.IntIterator;
+import utilities.IntListADT;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * An array list of primitive <code>int</code> values. It follows the same
+ * growth and shrink rules as {@link MyArrayList}, but stores its values in an
+ * <code>int[]</code> so no element is ever boxed.
+ */
+public class MyIntArrayList implements IntListADT {
+
+    private static final int MIN_CAPACITY = 10;
+    private static final double RESIZE_SCALING = 1.5;
+    private static final double MIN_FILL_PERCENTAGE = 0.5/Math.pow(RESIZE_SCALING, 2);
+
+    private static final long serialVersionUID = -2748362919405512210L;
+
+    private transient int[] list;
+    private transient int size;
+
+    /** Constructs an empty list. */
+    public MyIntArrayList(){
+        list = new int[MIN_CAPACITY];
+        size = 0;
+    }
+
+    /** @return the number of values in the list */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /** Clears the list. */
+    @Override
+    public void clear() {
+        list = new int[MIN_CAPACITY];
+        size = 0;
+    }
+
+    private int[] copy(int copyCapacity){
+        int[] copy = new int[copyCapacity];
+        System.arraycopy(list, 0, copy, 0, size);
+        return copy;
+    }
+
+    private int[] copy(int copyCapacity, int removeIndex){
+        int[] newList = new int[copyCapacity];
+        System.arraycopy(list, 0, newList, 0, removeIndex);
+        System.arraycopy(list, removeIndex+1, newList, removeIndex, size-removeIndex-1);
+        return newList;
+    }
+
+    private void checkCapacity(){
+        if(size == list.length)
+            list = copy((int) (list.length * RESIZE_SCALING));
+    }
+
+    private void checkCapacity(int sizeIncrease){
+        int newSize = size + sizeIncrease;
+        if (newSize > list.length){
+            double newCapacity = list.length;
+            do newCapacity = Math.floor(newCapacity * RESIZE_SCALING);
+            while(newCapacity < newSize);
+            list = copy((int) newCapacity);
+        }
+    }
+
+    /**
+     * Writes the size followed by the values, leaving out the unused capacity.
+     * @serialData the size as an int, then each value as a int
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++)
+            out.writeInt(list[i]);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        if (count < 0) throw new InvalidObjectException("negative size: " + count);
+        int[] values = new int[Math.max(count, MIN_CAPACITY)];
+        for (int i = 0; i < count; i++)
+            values[i] = in.readInt();
+        list = values;
+        size = count;
+    }
+
+    private void checkIndexInRange(int index) throws IndexOutOfBoundsException{
+        if(index >= size || index < 0)
+            throw new IndexOutOfBoundsException("index of " + index + "is out of range for list of size " + size);
+    }
+
+    /** Adds a value at a specific index. */
+    @Override
+    public boolean add(int index, int toAdd) throws IndexOutOfBoundsException {
+        if (index == size) return add(toAdd);
+        checkIndexInRange(index);
+        checkCapacity();
+        System.arraycopy(list, index, list, index + 1, size - index);
+        list[index] = toAdd;
+        size++;
+        return true;
+    }
+
+    /** Adds a value to the end of the list. */
+    @Override
+    public boolean add(int toAdd) {
+        checkCapacity();
+        list[size++] = toAdd;
+        return true;
+    }
+
+    /** Adds all values from another list. */
+    @Override
+    public boolean addAll(IntListADT toAdd) throws NullPointerException {
+        if (toAdd == null) throw new NullPointerException("cannot append null list");
+        int count = toAdd.size();
+        checkCapacity(count);
+        if (toAdd instanceof MyIntArrayList) {
+            System.arraycopy(((MyIntArrayList) toAdd).list, 0, list, size, count);
+            size += count;
+        } else {
+            IntIterator it = toAdd.iterator();
+            while (it.hasNext())
+                list[size++] = it.nextInt();
+        }
+        return true;
+    }
+
+    /** Gets a value at a given index. */
+    @Override
+    public int get(int index) throws IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        return list[index];
+    }
+
+    private boolean isArrayOversized(){
+        return (size-1) < MIN_FILL_PERCENTAGE * list.length && list.length > MIN_CAPACITY;
+    }
+
+    private int reducedCapacity(){
+        double firstScale = Math.ceil(list.length/RESIZE_SCALING);
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(firstScale/RESIZE_SCALING));
+    }
+
+    /** Removes a value by index. */
+    @Override
+    public int remove(int index) throws IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        int removed = list[index];
+        if (isArrayOversized()) {
+            list = copy(reducedCapacity(), index);
+        } else {
+            System.arraycopy(list, index + 1, list, index, size - index - 1);
+        }
+        size--;
+        return removed;
+    }
+
+    /** Removes the first occurrence of a value. */
+    @Override
+    public boolean removeValue(int toRemove) {
+        int index = indexOf(toRemove);
+        if (index == -1) return false;
+        remove(index);
+        return true;
+    }
+
+    /** @return the index of the first occurrence of a value, found four values at a time, or -1 */
+    @Override
+    public int indexOf(int toFind) {
+        return PrimitiveScans.indexOf(list, size, toFind);
+    }
+
+    /**
+     * Adds up the values.
+     * @return the sum of the values as a <code>long</code>, so it cannot overflow; 0 for an empty list
+     */
+    public long sum() {
+        return PrimitiveScans.sum(list, size);
+    }
+
+    /**
+     * Finds the smallest value.
+     * @return the smallest value
+     * @throws NoSuchElementException if the list is empty
+     */
+    public int min() throws NoSuchElementException {
+        return PrimitiveScans.min(list, size);
+    }
+
+    /**
+     * Finds the largest value.
+     * @return the largest value
+     * @throws NoSuchElementException if the list is empty
+     */
+    public int max() throws NoSuchElementException {
+        return PrimitiveScans.max(list, size);
+    }
+
+    /**
+     * Counts the values between two bounds, both inclusive.
+     * @param low  the smallest value to count
+     * @param high the largest value to count
+     * @return the number of values from <code>low</code> to <code>high</code>
+     * @throws IllegalArgumentException if <code>low</code> is above <code>high</code>
+     */
+    public int countInRange(int low, int high) throws IllegalArgumentException {
+        if (low > high) throw new IllegalArgumentException("range from " + low + " to " + high + " is empty");
+        return PrimitiveScans.countInRange(list, size, low, high);
+    }
+
+    /** Replaces a value at a specific index. */
+    @Override
+    public int set(int index, int toChange) throws IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        int replaced = list[index];
+        list[index] = toChange;
+        return replaced;
+    }
+
+    /** @return true if list is empty */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Checks if list contains a value. */
+    @Override
+    public boolean contains(int toFind) {
+        return indexOf(toFind) != -1;
+    }
+
+    /** Copies the list into the given array, or a new one if it is too small. */
+    @Override
+    public int[] toArray(int[] toHold) throws NullPointerException {
+        if (toHold == null) throw new NullPointerException("toHold cannot be null");
+        if (toHold.length < size) toHold = new int[size];
+        System.arraycopy(list, 0, toHold, 0, size);
+        return toHold;
+    }
+
+    /** Converts list to a int array. */
+    @Override
+    public int[] toArray() {
+        return Arrays.copyOf(list, size);
+    }
+
+    /** @return a primitive iterator over the list */
+    @Override
+    public IntIterator iterator() {
+        return new Itr();
+    }
+
+    /** Internal iterator class. */
+    private class Itr implements IntIterator {
+        private int index;
+
+        private Itr(){
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index<size;
+        }
+
+        @Override
+        public int nextInt() throws NoSuchElementException {
+            if (!hasNext()) throw new NoSuchElementException();
+            return list[index++];
+        }
+    }
+}
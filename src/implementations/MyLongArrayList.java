@@ -0,0 +1,284 @@
+package implementations;
+
+import utilities.LongIterator;
+import utilities.LongListADT;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * An array list of primitive <code>long</code> values. It follows the same
+ * growth and shrink rules as {@link MyArrayList}, but stores its values in a
+ * <code>long[]</code> so no element is ever boxed.
+ */
+public class MyLongArrayList implements LongListADT {
+
+    private static final int MIN_CAPACITY = 10;
+    private static final double RESIZE_SCALING = 1.5;
+    private static final double MIN_FILL_PERCENTAGE = 0.5/Math.pow(RESIZE_SCALING, 2);
+
+    private static final long serialVersionUID = 5518370247199123716L;
+
+    private transient long[] list;
+    private transient int size;
+
+    /** Constructs an empty list. */
+    public MyLongArrayList(){
+        list = new long[MIN_CAPACITY];
+        size = 0;
+    }
+
+    /** @return the number of values in the list */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /** Clears the list. */
+    @Override
+    public void clear() {
+        list = new long[MIN_CAPACITY];
+        size = 0;
+    }
+
+    private long[] copy(int copyCapacity){
+        long[] copy = new long[copyCapacity];
+        System.arraycopy(list, 0, copy, 0, size);
+        return copy;
+    }
+
+    private long[] copy(int copyCapacity, int removeIndex){
+        long[] newList = new long[copyCapacity];
+        System.arraycopy(list, 0, newList, 0, removeIndex);
+        System.arraycopy(list, removeIndex+1, newList, removeIndex, size-removeIndex-1);
+        return newList;
+    }
+
+    private void checkCapacity(){
+        if(size == list.length)
+            list = copy((int) (list.length * RESIZE_SCALING));
+    }
+
+    private void checkCapacity(int sizeIncrease){
+        int newSize = size + sizeIncrease;
+        if (newSize > list.length){
+            double newCapacity = list.length;
+            do newCapacity = Math.floor(newCapacity * RESIZE_SCALING);
+            while(newCapacity < newSize);
+            list = copy((int) newCapacity);
+        }
+    }
+
+    /**
+     * Writes the size followed by the values, leaving out the unused capacity.
+     * @serialData the size as an int, then each value as a long
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++)
+            out.writeLong(list[i]);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        if (count < 0) throw new InvalidObjectException("negative size: " + count);
+        long[] values = new long[Math.max(count, MIN_CAPACITY)];
+        for (int i = 0; i < count; i++)
+            values[i] = in.readLong();
+        list = values;
+        size = count;
+    }
+
+    private void checkIndexInRange(int index) throws IndexOutOfBoundsException{
+        if(index >= size || index < 0)
+            throw new IndexOutOfBoundsException("index of " + index + "is out of range for list of size " + size);
+    }
+
+    /** Adds a value at a specific index. */
+    @Override
+    public boolean add(int index, long toAdd) throws IndexOutOfBoundsException {
+        if (index == size) return add(toAdd);
+        checkIndexInRange(index);
+        checkCapacity();
+        System.arraycopy(list, index, list, index + 1, size - index);
+        list[index] = toAdd;
+        size++;
+        return true;
+    }
+
+    /** Adds a value to the end of the list. */
+    @Override
+    public boolean add(long toAdd) {
+        checkCapacity();
+        list[size++] = toAdd;
+        return true;
+    }
+
+    /** Adds all values from another list. */
+    @Override
+    public boolean addAll(LongListADT toAdd) throws NullPointerException {
+        if (toAdd == null) throw new NullPointerException("cannot append null list");
+        int count = toAdd.size();
+        checkCapacity(count);
+        if (toAdd instanceof MyLongArrayList) {
+            System.arraycopy(((MyLongArrayList) toAdd).list, 0, list, size, count);
+            size += count;
+        } else {
+            LongIterator it = toAdd.iterator();
+            while (it.hasNext())
+                list[size++] = it.nextLong();
+        }
+        return true;
+    }
+
+    /** Gets a value at a given index. */
+    @Override
+    public long get(int index) throws IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        return list[index];
+    }
+
+    private boolean isArrayOversized(){
+        return (size-1) < MIN_FILL_PERCENTAGE * list.length && list.length > MIN_CAPACITY;
+    }
+
+    private int reducedCapacity(){
+        double firstScale = Math.ceil(list.length/RESIZE_SCALING);
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(firstScale/RESIZE_SCALING));
+    }
+
+    /** Removes a value by index. */
+    @Override
+    public long remove(int index) throws IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        long removed = list[index];
+        if (isArrayOversized()) {
+            list = copy(reducedCapacity(), index);
+        } else {
+            System.arraycopy(list, index + 1, list, index, size - index - 1);
+        }
+        size--;
+        return removed;
+    }
+
+    /** Removes the first occurrence of a value. */
+    @Override
+    public boolean removeValue(long toRemove) {
+        int index = indexOf(toRemove);
+        if (index == -1) return false;
+        remove(index);
+        return true;
+    }
+
+    /** @return the index of the first occurrence of a value, found four values at a time, or -1 */
+    @Override
+    public int indexOf(long toFind) {
+        return PrimitiveScans.indexOf(list, size, toFind);
+    }
+
+    /**
+     * Adds up the values.
+     * @return the sum of the values, wrapping around on overflow; 0 for an empty list
+     */
+    public long sum() {
+        return PrimitiveScans.sum(list, size);
+    }
+
+    /**
+     * Finds the smallest value.
+     * @return the smallest value
+     * @throws NoSuchElementException if the list is empty
+     */
+    public long min() throws NoSuchElementException {
+        return PrimitiveScans.min(list, size);
+    }
+
+    /**
+     * Finds the largest value.
+     * @return the largest value
+     * @throws NoSuchElementException if the list is empty
+     */
+    public long max() throws NoSuchElementException {
+        return PrimitiveScans.max(list, size);
+    }
+
+    /**
+     * Counts the values between two bounds, both inclusive.
+     * @param low  the smallest value to count
+     * @param high the largest value to count
+     * @return the number of values from <code>low</code> to <code>high</code>
+     * @throws IllegalArgumentException if <code>low</code> is above <code>high</code>
+     */
+    public int countInRange(long low, long high) throws IllegalArgumentException {
+        if (low > high) throw new IllegalArgumentException("range from " + low + " to " + high + " is empty");
+        return PrimitiveScans.countInRange(list, size, low, high);
+    }
+
+    /** Replaces a value at a specific index. */
+    @Override
+    public long set(int index, long toChange) throws IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        long replaced = list[index];
+        list[index] = toChange;
+        return replaced;
+    }
+
+    /** @return true if list is empty */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Checks if list contains a value. */
+    @Override
+    public boolean contains(long toFind) {
+        return indexOf(toFind) != -1;
+    }
+
+    /** Copies the list into the given array, or a new one if it is too small. */
+    @Override
+    public long[] toArray(long[] toHold) throws NullPointerException {
+        if (toHold == null) throw new NullPointerException("toHold cannot be null");
+        if (toHold.length < size) toHold = new long[size];
+        System.arraycopy(list, 0, toHold, 0, size);
+        return toHold;
+    }
+
+    /** Converts list to a long array. */
+    @Override
+    public long[] toArray() {
+        return Arrays.copyOf(list, size);
+    }
+
+    /** @return a primitive iterator over the list */
+    @Override
+    public LongIterator iterator() {
+        return new Itr();
+    }
+
+    /** Internal iterator class. */
+    private class Itr implements LongIterator {
+        private int index;
+
+        private Itr(){
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index<size;
+        }
+
+        @Override
+        public long nextLong() throws NoSuchElementException {
+            if (!hasNext()) throw new NoSuchElementException();
+            return list[index++];
+        }
+    }
+}
@@ -0,0 +1,507 @@
+package implementations;
+
+import utilities.Iterator;
+import utilities.ListADT;
+import utilities.RecordCodec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * A list of fixed-width records stored in a memory-mapped file.
+ * <p>
+ * The elements live in the file, not on the heap, and the operating system's
+ * page cache decides which parts are in memory, so a list can be much larger
+ * than the heap. Opening an existing file maps it instead of reading it,
+ * which makes reopening a large list almost free.
+ * </p>
+ * <p>
+ * The file starts with a 16-byte header holding a magic number, the record
+ * width and the committed size, followed by the records. Appends raise the
+ * committed size only in {@link #force()} and {@link #close()}, after the
+ * records have been flushed. {@link #truncate(int)} and {@link #clear()}
+ * commit the smaller size at once, so records appended after them never sit
+ * below the committed size. A list reopened after a crash therefore holds
+ * the records of its last commit, as far as appends and truncation go.
+ * </p>
+ * <p>
+ * Nothing else is crash-consistent. Inserts and removals shift records in
+ * place and <code>set</code> overwrites one, all below the committed size,
+ * so a crash during one of them or before the next commit can reopen a list
+ * with duplicated, missing or mixed records. Call {@link #force()} after
+ * such edits and treat the file as suspect if the process dies before it
+ * returns.
+ * </p>
+ * <p>
+ * The file is mapped in regions of at most 1 GB. The file grows
+ * geometrically as records are appended and is cut back to its committed
+ * size by {@link #close()}. A mapped list is not serializable; the file is
+ * its persistent form.
+ * </p>
+ * @param <E> the type of elements in this list
+ */
+public class MyMappedList<E> implements ListADT<E>, Closeable {
+
+    private static final long serialVersionUID = 5370193125427916862L;
+    private static final int MAGIC = 0x4D4C5354;
+    private static final int HEADER = 16;
+    private static final int WIDTH_OFFSET = 4;
+    private static final int SIZE_OFFSET = 8;
+    private static final int REGION_BYTES = 1 << 30;
+    private static final int MIN_CAPACITY = 10;
+    private static final int COPY_BUFFER = 1 << 16;
+
+    private final transient RecordCodec<E> codec;
+    private final int width;
+    private final int perRegion;
+    private transient FileChannel channel;
+    private transient MappedByteBuffer header;
+    private transient MappedByteBuffer[] regions;
+    private transient byte[] copyBuffer;
+    private int capacity;
+    private int size;
+
+    /**
+     * Opens the list stored in a file, creating an empty one if the file does not exist or is empty.
+     * @param file  the file holding the list
+     * @param codec stores each element as a record
+     * @throws IOException if the file cannot be opened or mapped, or holds a list with another record width
+     * @throws NullPointerException if the file or codec is null
+     * @throws IllegalArgumentException if the codec's width is below 1
+     */
+    public MyMappedList(Path file, RecordCodec<E> codec) throws IOException, NullPointerException, IllegalArgumentException {
+        if (file == null || codec == null) throw new NullPointerException("file and codec cannot be null");
+        if (codec.width() < 1) throw new IllegalArgumentException("record width must be positive: " + codec.width());
+        this.codec = codec;
+        width = codec.width();
+        perRegion = Math.max(1, REGION_BYTES / width);
+        regions = new MappedByteBuffer[0];
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long length = channel.size();
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER);
+            if (length == 0) {
+                header.putInt(0, MAGIC);
+                header.putInt(WIDTH_OFFSET, width);
+                header.putLong(SIZE_OFFSET, 0);
+            } else if (length < HEADER || header.getInt(0) != MAGIC) {
+                throw new IOException(file + " does not hold a mapped list");
+            } else if (header.getInt(WIDTH_OFFSET) != width) {
+                throw new IOException(file + " holds records of " + header.getInt(WIDTH_OFFSET) + " bytes, not " + width);
+            } else {
+                long stored = header.getLong(SIZE_OFFSET);
+                long present = (length - HEADER) / width;
+                size = (int) Math.max(0, Math.min(Math.min(stored, present), Integer.MAX_VALUE));
+            }
+            capacity = 0;
+            map(Math.max(size, MIN_CAPACITY));
+        } catch (IOException | RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    /** @return the number of bytes every record takes */
+    public int recordWidth() {
+        return width;
+    }
+
+    /** @return true once the list has been closed */
+    public boolean isClosed() {
+        return channel == null;
+    }
+
+    private void checkOpen() throws IllegalStateException {
+        if (channel == null) throw new IllegalStateException("list is closed");
+    }
+
+    /** Maps enough of the file to hold <code>newCapacity</code> records, growing the file if needed. */
+    private void map(int newCapacity) throws IOException {
+        int regionCount = (int) (((long) newCapacity + perRegion - 1) / perRegion);
+        if (regionCount > regions.length) regions = Arrays.copyOf(regions, regionCount);
+        for (int k = 0; k < regionCount; k++) {
+            long records = Math.min(perRegion, newCapacity - (long) k * perRegion);
+            long bytes = records * width;
+            if (regions[k] == null || regions[k].capacity() < bytes) {
+                MappedByteBuffer old = regions[k];
+                regions[k] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER + (long) k * perRegion * width, bytes);
+                DirectMemory.free(old);
+            }
+        }
+        capacity = newCapacity;
+    }
+
+    /** Grows the mapping until it can hold <code>sizeIncrease</code> more records. */
+    private void checkCapacity(int sizeIncrease) throws UncheckedIOException {
+        long newSize = (long) size + sizeIncrease;
+        if (newSize <= capacity) return;
+        if (newSize > Integer.MAX_VALUE) throw new IllegalStateException("list cannot hold more than " + Integer.MAX_VALUE + " records");
+        try {
+            map(ScalingGrowthPolicy.DEFAULT.grow(capacity, (int) newSize));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ByteBuffer region(int index){
+        return regions[index / perRegion];
+    }
+
+    private int offset(int index){
+        return (index % perRegion) * width;
+    }
+
+    private E read(int index){
+        return codec.read(region(index), offset(index));
+    }
+
+    private void write(int index, E element){
+        codec.write(region(index), offset(index), element);
+    }
+
+    /** Copies <code>count</code> records from <code>buffer</code> into the list, or back, starting at list index <code>index</code>. */
+    private void transfer(int index, int count, byte[] buffer, boolean toList){
+        ByteBuffer view = region(index).duplicate();
+        view.position(offset(index));
+        if (toList) view.put(buffer, 0, count * width);
+        else view.get(buffer, 0, count * width);
+    }
+
+    /** Moves <code>count</code> records from list index <code>from</code> to list index <code>to</code>, in either direction. */
+    private void moveRecords(int from, int to, int count){
+        if (count == 0) return;
+        if (copyBuffer == null) copyBuffer = new byte[Math.max(width, COPY_BUFFER / width * width)];
+        byte[] buffer = copyBuffer;
+        int batch = buffer.length / width;
+        int done = 0;
+        while (done < count) {
+            int n;
+            int src;
+            int dst;
+            if (to > from) {
+                int end = from + count - done;
+                int destEnd = to + count - done;
+                n = Math.min(Math.min(count - done, batch),
+                        Math.min((end - 1) % perRegion + 1, (destEnd - 1) % perRegion + 1));
+                src = end - n;
+                dst = destEnd - n;
+            } else {
+                src = from + done;
+                dst = to + done;
+                n = Math.min(Math.min(count - done, batch),
+                        Math.min(perRegion - src % perRegion, perRegion - dst % perRegion));
+            }
+            transfer(src, n, buffer, false);
+            transfer(dst, n, buffer, true);
+            done += n;
+        }
+    }
+
+    private void checkIndexInRange(int index) throws IndexOutOfBoundsException{
+        if(index >= size || index < 0)
+            throw new IndexOutOfBoundsException("index of " + index + "is out of range for list of size " + size);
+    }
+
+    /**
+     * Flushes every record to the file and then commits the current size to
+     * the header. A list reopened after a crash has the size of the last commit.
+     * @throws UncheckedIOException if the file cannot be written
+     * @throws IllegalStateException if the list is closed
+     */
+    public void force() throws UncheckedIOException, IllegalStateException {
+        checkOpen();
+        for (MappedByteBuffer region : regions)
+            region.force();
+        header.putLong(SIZE_OFFSET, size);
+        header.force();
+    }
+
+    /**
+     * Drops every record from index <code>newSize</code> on. The smaller size
+     * is committed at once, before any later append can overwrite the dropped
+     * records.
+     * @param newSize the number of records to keep
+     * @throws IllegalArgumentException if <code>newSize</code> is negative or above the size
+     * @throws IllegalStateException if the list is closed
+     */
+    public void truncate(int newSize) throws IllegalArgumentException, IllegalStateException {
+        checkOpen();
+        if (newSize < 0 || newSize > size)
+            throw new IllegalArgumentException("cannot truncate list of size " + size + " to " + newSize);
+        size = newSize;
+        commitShrink();
+    }
+
+    /** Writes the size to the header if it is below the committed size. */
+    private void commitShrink(){
+        if (size >= header.getLong(SIZE_OFFSET)) return;
+        header.putLong(SIZE_OFFSET, size);
+        header.force();
+    }
+
+    /**
+     * Commits the list, unmaps the file and cuts it back to the committed
+     * records. Does nothing if the list is already closed.
+     * @throws IOException if the file cannot be written or truncated
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel == null) return;
+        FileChannel closing = channel;
+        try {
+            force();
+            unmap();
+            closing.truncate(HEADER + (long) size * width);
+        } finally {
+            unmap();
+            channel = null;
+            closing.close();
+        }
+    }
+
+    /** Unmaps the file and closes the channel without committing anything. */
+    private void release() throws IOException {
+        unmap();
+        FileChannel closing = channel;
+        channel = null;
+        closing.close();
+    }
+
+    private void unmap(){
+        for (int k = 0; k < regions.length; k++) {
+            DirectMemory.free(regions[k]);
+            regions[k] = null;
+        }
+        DirectMemory.free(header);
+        header = null;
+    }
+
+    /** A mapped list lives in its file and cannot be serialized. */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        throw new NotSerializableException(getClass().getName());
+    }
+
+    /** @return the number of records in the list */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Clears the list and commits the empty size at once. The file keeps its
+     * length until the list is closed.
+     */
+    @Override
+    public void clear() {
+        checkOpen();
+        size = 0;
+        commitShrink();
+    }
+
+    /** Adds an element at a specific index, moving every later record. */
+    @Override
+    public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+        checkOpen();
+        if (index != size) checkIndexInRange(index);
+        if(toAdd == null) throw new NullPointerException("cannot add a null element to list");
+        checkCapacity(1);
+        moveRecords(index, index + 1, size - index);
+        write(index, toAdd);
+        size++;
+        return true;
+    }
+
+    /** Appends an element as a new record at the end of the file. */
+    @Override
+    public boolean add(E toAdd) throws NullPointerException {
+        return add(size, toAdd);
+    }
+
+    /** Adds all elements from another list. */
+    @Override
+    public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+        if (toAdd == null) throw new NullPointerException("cannot append null list");
+        checkOpen();
+        int count = toAdd.size();
+        checkCapacity(count);
+        Iterator<? extends E> it = toAdd.iterator();
+        for (int i = 0; i < count && it.hasNext(); i++) {
+            E item = it.next();
+            if(item != null){
+                add(size, item);
+            }
+        }
+        return true;
+    }
+
+    /** Gets an element at a given index by decoding its record. */
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkOpen();
+        checkIndexInRange(index);
+        return read(index);
+    }
+
+    /**
+     * Removes an element by index, moving every later record. The shift is
+     * not committed until the next {@link #force()}; a crash before then can
+     * leave the last record duplicated.
+     */
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        checkOpen();
+        checkIndexInRange(index);
+        E removed = read(index);
+        moveRecords(index + 1, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Removes every element that matches the predicate in one pass. The
+     * predicate is tested on every record first, so a predicate that throws
+     * leaves the list unchanged. Each run of surviving records is then moved
+     * down with one block copy. Like a removal, it is not committed until
+     * the next {@link #force()}.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) throws NullPointerException {
+        if (filter == null) throw new NullPointerException("filter cannot be null");
+        checkOpen();
+        long[] doomed = null;
+        int firstRemoved = 0;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(read(i))) {
+                if (doomed == null) {
+                    doomed = new long[(size + 63) >>> 6];
+                    firstRemoved = i;
+                }
+                doomed[i >>> 6] |= 1L << i;
+            }
+        }
+        if (doomed == null) return false;
+
+        int kept = firstRemoved;
+        int i = firstRemoved;
+        while (i < size) {
+            if ((doomed[i >>> 6] & (1L << i)) != 0) {
+                i++;
+                continue;
+            }
+            int run = i;
+            while (i < size && (doomed[i >>> 6] & (1L << i)) == 0)
+                i++;
+            moveRecords(run, kept, i - run);
+            kept += i - run;
+        }
+        size = kept;
+        return true;
+    }
+
+    /** Removes the first occurrence of an element. */
+    @Override
+    public E remove(E toRemove) throws NullPointerException {
+        int index = indexOf(toRemove);
+        if (index == -1) return null;
+        return remove(index);
+    }
+
+    /**
+     * Returns the index of the first occurrence of an element.
+     * @param toFind the element to search for
+     * @return the lowest index of the element, or -1
+     * @throws NullPointerException if the element is null
+     */
+    public int indexOf(E toFind) throws NullPointerException{
+        if (toFind == null) throw new NullPointerException("Cannot search for null value");
+        checkOpen();
+        for (int i = 0; i < size; i++){
+            if(toFind.equals(read(i)))
+                return i;
+        }
+        return -1;
+    }
+
+    /** Replaces the record at a specific index. */
+    @Override
+    public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+        checkOpen();
+        checkIndexInRange(index);
+        if(toChange == null) throw new NullPointerException("cannot set element in list to null");
+        E replaced = read(index);
+        write(index, toChange);
+        return replaced;
+    }
+
+    /** @return true if list is empty */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Checks if list contains an element. */
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        return indexOf(toFind) != -1;
+    }
+
+    /** Decodes the list into an array of type E. */
+    @Override
+    public E[] toArray(E[] toHold) throws NullPointerException {
+        if (toHold == null) throw new NullPointerException("toHold cannot be null");
+        checkOpen();
+        if (toHold.length < size) toHold = Arrays.copyOf(toHold, size);
+        for (int i = 0; i < size; i++)
+            toHold[i] = read(i);
+        return toHold;
+    }
+
+    /** Decodes the list into an Object array. */
+    @Override
+    public Object[] toArray() {
+        checkOpen();
+        Object[] array = new Object[size];
+        for (int i = 0; i < size; i++)
+            array[i] = read(i);
+        return array;
+    }
+
+    /** @return an iterator that decodes each record as it is reached */
+    @Override
+    public Iterator<E> iterator() {
+        checkOpen();
+        return new Itr();
+    }
+
+    /** Internal iterator class. */
+    private class Itr implements Iterator<E> {
+        private int index;
+
+        private Itr(){
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index<size;
+        }
+
+        @Override
+        public E next()  throws NoSuchElementException {
+            if (!hasNext()) throw new NoSuchElementException();
+            checkOpen();
+            return read(index++);
+        }
+    }
+}
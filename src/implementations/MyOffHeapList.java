@@ -0,0 +1,370 @@
+package implementations;
+
+import utilities.GrowthPolicy;
+import utilities.Iterator;
+import utilities.ListADT;
+import utilities.RecordCodec;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An array list whose elements are stored outside the Java heap.
+ * <p>
+ * Each element is encoded by a {@link RecordCodec} into a fixed-width record
+ * in a direct <code>ByteBuffer</code>. The heap holds only this object and the
+ * buffer's handle, however long the list gets, so the garbage collector has
+ * nothing to scan for the elements themselves. Elements are decoded on every
+ * read, which makes each access slower than in {@link MyArrayList}.
+ * </p>
+ * <p>
+ * The buffer grows and shrinks as a {@link GrowthPolicy} decides, the same
+ * way <code>MyArrayList</code> does, and the old buffer is freed on every
+ * resize. {@link #close()} frees the memory at once instead of waiting for
+ * the garbage collector; the list cannot be used after that. A single buffer
+ * holds at most <code>Integer.MAX_VALUE</code> bytes. An off-heap list is not
+ * serializable.
+ * </p>
+ * @param <E> the type of elements in this list
+ */
+public class MyOffHeapList<E> implements ListADT<E>, AutoCloseable {
+
+    private static final long serialVersionUID = -6017425788370219743L;
+    private static final int COPY_BUFFER = 1 << 16;
+
+    private final transient RecordCodec<E> codec;
+    private final transient GrowthPolicy policy;
+    private final int width;
+    private final int maxCapacity;
+    private transient ByteBuffer buffer;
+    private transient byte[] chunk;
+    private int capacity;
+    private int size;
+
+    /**
+     * Constructs an empty list that grows like {@link MyArrayList}.
+     * @param codec stores each element as a record
+     * @throws NullPointerException if the codec is null
+     * @throws IllegalArgumentException if the codec's width is below 1
+     */
+    public MyOffHeapList(RecordCodec<E> codec) throws NullPointerException, IllegalArgumentException {
+        this(codec, ScalingGrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Constructs an empty list.
+     * @param codec  stores each element as a record
+     * @param policy decides how the buffer grows and shrinks
+     * @throws NullPointerException if the codec or policy is null
+     * @throws IllegalArgumentException if the codec's width is below 1
+     */
+    public MyOffHeapList(RecordCodec<E> codec, GrowthPolicy policy) throws NullPointerException, IllegalArgumentException {
+        if (codec == null) throw new NullPointerException("codec cannot be null");
+        if (policy == null) throw new NullPointerException("growth policy cannot be null");
+        if (codec.width() < 1) throw new IllegalArgumentException("record width must be positive: " + codec.width());
+        this.codec = codec;
+        this.policy = policy;
+        width = codec.width();
+        maxCapacity = Integer.MAX_VALUE / width;
+        capacity = Math.min(policy.initialCapacity(), maxCapacity);
+        buffer = ByteBuffer.allocateDirect(capacity * width);
+        size = 0;
+    }
+
+    /** @return the number of records the buffer can hold without growing */
+    public int capacity() {
+        return capacity;
+    }
+
+    /** @return the number of bytes of direct memory the list holds, or 0 once it is closed */
+    public long offHeapBytes() {
+        return buffer == null ? 0 : (long) capacity * width;
+    }
+
+    /** @return true once the list has been closed */
+    public boolean isClosed() {
+        return buffer == null;
+    }
+
+    private void checkOpen() throws IllegalStateException {
+        if (buffer == null) throw new IllegalStateException("list is closed");
+    }
+
+    /** Moves the records into a new buffer of the given capacity and frees the old one. */
+    private void resize(int newCapacity){
+        ByteBuffer newBuffer = ByteBuffer.allocateDirect(newCapacity * width);
+        ByteBuffer used = buffer.duplicate();
+        used.position(0).limit(size * width);
+        newBuffer.put(used);
+        DirectMemory.free(buffer);
+        buffer = newBuffer;
+        capacity = newCapacity;
+    }
+
+    private void checkCapacity(int sizeIncrease){
+        long newSize = (long) size + sizeIncrease;
+        if (newSize <= capacity) return;
+        if (newSize > maxCapacity)
+            throw new OutOfMemoryError("off-heap list cannot hold more than " + maxCapacity + " records");
+        resize(Math.min(maxCapacity, policy.grow(capacity, (int) newSize)));
+    }
+
+    /** Moves <code>count</code> records from index <code>from</code> to index <code>to</code>, in either direction. */
+    private void moveRecords(int from, int to, int count){
+        if (count == 0) return;
+        if (chunk == null) chunk = new byte[Math.max(width, COPY_BUFFER / width * width)];
+        int batch = chunk.length / width;
+        ByteBuffer view = buffer.duplicate();
+        int done = 0;
+        while (done < count) {
+            int n = Math.min(batch, count - done);
+            int src = to > from ? from + count - done - n : from + done;
+            int dst = src + to - from;
+            view.position(src * width);
+            view.get(chunk, 0, n * width);
+            view.position(dst * width);
+            view.put(chunk, 0, n * width);
+            done += n;
+        }
+    }
+
+    private E read(int index){
+        return codec.read(buffer, index * width);
+    }
+
+    private void checkIndexInRange(int index) throws IndexOutOfBoundsException{
+        if(index >= size || index < 0)
+            throw new IndexOutOfBoundsException("index of " + index + "is out of range for list of size " + size);
+    }
+
+    /** Frees the off-heap memory. Does nothing if the list is already closed. */
+    @Override
+    public void close() {
+        if (buffer == null) return;
+        ByteBuffer closing = buffer;
+        buffer = null;
+        size = 0;
+        capacity = 0;
+        DirectMemory.free(closing);
+    }
+
+    /** An off-heap list cannot be serialized. */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        throw new NotSerializableException(getClass().getName());
+    }
+
+    /** @return the number of elements in the list */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /** Clears the list, keeping the buffer for reuse. */
+    @Override
+    public void clear() {
+        checkOpen();
+        size = 0;
+    }
+
+    /** Adds an element at a specific index. */
+    @Override
+    public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+        checkOpen();
+        if (index != size) checkIndexInRange(index);
+        if(toAdd == null) throw new NullPointerException("cannot add a null element to list");
+        checkCapacity(1);
+        moveRecords(index, index + 1, size - index);
+        codec.write(buffer, index * width, toAdd);
+        size++;
+        return true;
+    }
+
+    /** Adds an element to the end of the list. */
+    @Override
+    public boolean add(E toAdd) throws NullPointerException {
+        return add(size, toAdd);
+    }
+
+    /** Adds all elements from another list. */
+    @Override
+    public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+        if (toAdd == null) throw new NullPointerException("cannot append null list");
+        checkOpen();
+        int count = toAdd.size();
+        checkCapacity(count);
+        Iterator<? extends E> it = toAdd.iterator();
+        for (int i = 0; i < count && it.hasNext(); i++) {
+            E item = it.next();
+            if(item != null){
+                add(size, item);
+            }
+        }
+        return true;
+    }
+
+    /** Gets an element at a given index by decoding its record. */
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkOpen();
+        checkIndexInRange(index);
+        return read(index);
+    }
+
+    /** Removes an element by index. */
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        checkOpen();
+        checkIndexInRange(index);
+        E removed = read(index);
+        moveRecords(index + 1, index, size - index - 1);
+        size--;
+        int reducedCapacity = policy.shrink(capacity, size);
+        if (reducedCapacity < capacity && reducedCapacity >= size)
+            resize(reducedCapacity);
+        return removed;
+    }
+
+    /**
+     * Removes every element that matches the predicate in one pass. The
+     * predicate is tested on every record first, so a predicate that throws
+     * leaves the list unchanged. Each run of surviving records is then moved
+     * down with one block copy.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) throws NullPointerException {
+        if (filter == null) throw new NullPointerException("filter cannot be null");
+        checkOpen();
+        long[] doomed = null;
+        int firstRemoved = 0;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(read(i))) {
+                if (doomed == null) {
+                    doomed = new long[(size + 63) >>> 6];
+                    firstRemoved = i;
+                }
+                doomed[i >>> 6] |= 1L << i;
+            }
+        }
+        if (doomed == null) return false;
+
+        int kept = firstRemoved;
+        int i = firstRemoved;
+        while (i < size) {
+            if ((doomed[i >>> 6] & (1L << i)) != 0) {
+                i++;
+                continue;
+            }
+            int run = i;
+            while (i < size && (doomed[i >>> 6] & (1L << i)) == 0)
+                i++;
+            moveRecords(run, kept, i - run);
+            kept += i - run;
+        }
+        size = kept;
+        int reducedCapacity = policy.shrink(capacity, size);
+        if (reducedCapacity < capacity && reducedCapacity >= size)
+            resize(reducedCapacity);
+        return true;
+    }
+
+    /** Removes the first occurrence of an element. */
+    @Override
+    public E remove(E toRemove) throws NullPointerException {
+        int index = indexOf(toRemove);
+        if (index == -1) return null;
+        return remove(index);
+    }
+
+    /**
+     * Returns the index of the first occurrence of an element.
+     * @param toFind the element to search for
+     * @return the lowest index of the element, or -1
+     * @throws NullPointerException if the element is null
+     */
+    public int indexOf(E toFind) throws NullPointerException{
+        if (toFind == null) throw new NullPointerException("Cannot search for null value");
+        checkOpen();
+        for (int i = 0; i < size; i++){
+            if(toFind.equals(read(i)))
+                return i;
+        }
+        return -1;
+    }
+
+    /** Replaces an element at a specific index. */
+    @Override
+    public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+        checkOpen();
+        checkIndexInRange(index);
+        if(toChange == null) throw new NullPointerException("cannot set element in list to null");
+        E replaced = read(index);
+        codec.write(buffer, index * width, toChange);
+        return replaced;
+    }
+
+    /** @return true if list is empty */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Checks if list contains an element. */
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        return indexOf(toFind) != -1;
+    }
+
+    /** Decodes the list into an array of type E. */
+    @Override
+    public E[] toArray(E[] toHold) throws NullPointerException {
+        if (toHold == null) throw new NullPointerException("toHold cannot be null");
+        checkOpen();
+        if (toHold.length < size) toHold = Arrays.copyOf(toHold, size);
+        for (int i = 0; i < size; i++)
+            toHold[i] = read(i);
+        return toHold;
+    }
+
+    /** Decodes the list into an Object array. */
+    @Override
+    public Object[] toArray() {
+        checkOpen();
+        Object[] array = new Object[size];
+        for (int i = 0; i < size; i++)
+            array[i] = read(i);
+        return array;
+    }
+
+    /** @return an iterator that decodes each record as it is reached */
+    @Override
+    public Iterator<E> iterator() {
+        checkOpen();
+        return new Itr();
+    }
+
+    /** Internal iterator class. */
+    private class Itr implements Iterator<E> {
+        private int index;
+
+        private Itr(){
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index<size;
+        }
+
+        @Override
+        public E next()  throws NoSuchElementException {
+            if (!hasNext()) throw new NoSuchElementException();
+            checkOpen();
+            return read(index++);
+        }
+    }
+}
@@ -0,0 +1,565 @@
+package implementations;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list where every change returns a new version and old
+ * versions stay valid.
+ * <p>
+ * The elements live in the leaves of a trie with 32 children per node, plus
+ * a tail array of up to 32 elements at the end. {@link #with(int, Object)}
+ * copies only the path from the root to one leaf, so it takes
+ * O(log<sub>32</sub> n) time and space, and the new version shares every other
+ * node with the old one. {@link #plus(Object)} copies just the tail, and
+ * pushes it into the trie once every 32 appends, which is O(1) amortized.
+ * Holding many versions of a large list therefore costs little more than
+ * holding one.
+ * </p>
+ * <p>
+ * The <code>ListADT</code> methods that would change the list in place throw
+ * <code>UnsupportedOperationException</code>. To build a vector from many
+ * elements, use a {@link Builder}, which edits nodes it has created itself in
+ * place and only copies the nodes it shares with an existing vector.
+ * </p>
+ * @param <E> the type of elements in this list
+ */
+public final class MyPersistentVector<E> implements ListADT<E> {
+
+    private static final long serialVersionUID = 3092174958160287514L;
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+    private static final MyPersistentVector<?> EMPTY =
+            new MyPersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final transient int size;
+    private final transient int shift;
+    private final transient Node root;
+    private final transient Object[] tail;
+
+    /**
+     * A trie node. A builder edits a node in place only if the node holds
+     * that builder's token, which is never null. Nodes made by the vector's
+     * own operations hold no token, so no builder edits them, and a built
+     * builder rejects every edit, so its nodes never change afterwards. The
+     * slots hold child nodes or elements, never a null element: every
+     * operation rejects those like the rest of the lists do.
+     */
+    private static final class Node {
+        private final Object edit;
+        private final Object[] array;
+
+        private Node(Object edit, Object[] array){
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    private MyPersistentVector(int size, int shift, Node root, Object[] tail){
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty vector.
+     * @param <E> the type of elements in the vector
+     * @return the shared empty vector
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> MyPersistentVector<E> empty() {
+        return (MyPersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Returns a vector holding the elements of another list, in order.
+     * @param elements the list to copy
+     * @param <E>      the type of elements in the vector
+     * @return a vector with the same elements
+     * @throws NullPointerException if the list is null or holds a null element
+     */
+    public static <E> MyPersistentVector<E> of(ListADT<? extends E> elements) throws NullPointerException {
+        if (elements == null) throw new NullPointerException("cannot copy null list");
+        Builder<E> builder = builder();
+        builder.addAll(elements);
+        return builder.build();
+    }
+
+    /**
+     * Returns a builder that starts out empty.
+     * @param <E> the type of elements in the vector
+     * @return a new builder
+     */
+    public static <E> Builder<E> builder() {
+        return MyPersistentVector.<E>empty().toBuilder();
+    }
+
+    /** @return a builder that starts out holding this vector's elements and leaves this vector unchanged */
+    public Builder<E> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    /** @return the index of the first element stored in the tail */
+    private int tailOffset(){
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /** @return the leaf or tail array holding the element at <code>index</code> */
+    private Object[] arrayFor(int index){
+        if (index >= tailOffset()) return tail;
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS)
+            node = (Node) node.array[(index >>> level) & MASK];
+        return node.array;
+    }
+
+    private void checkIndexInRange(int index) throws IndexOutOfBoundsException{
+        if(index >= size || index < 0)
+            throw new IndexOutOfBoundsException("index of " + index + "is out of range for list of size " + size);
+    }
+
+    /**
+     * Returns a new vector with an element appended. This vector is unchanged.
+     * @param toAdd the element to append
+     * @return the new version
+     * @throws NullPointerException if the element is null
+     */
+    public MyPersistentVector<E> plus(E toAdd) throws NullPointerException {
+        if(toAdd == null) throw new NullPointerException("cannot add a null element to list");
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = toAdd;
+            return new MyPersistentVector<>(size + 1, shift, root, newTail);
+        }
+        Node tailNode = new Node(null, tail);
+        Node newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(null, size, shift, root, tailNode);
+        }
+        return new MyPersistentVector<>(size + 1, newShift, newRoot, new Object[] { toAdd });
+    }
+
+    /**
+     * Returns a new vector with the element at an index replaced. This vector is unchanged.
+     * @param index    the index of the element to replace
+     * @param toChange the new element
+     * @return the new version
+     * @throws NullPointerException if the element is null
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public MyPersistentVector<E> with(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        if(toChange == null) throw new NullPointerException("cannot set element in list to null");
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = toChange;
+            return new MyPersistentVector<>(size, shift, root, newTail);
+        }
+        return new MyPersistentVector<>(size, shift, assoc(shift, root, index, toChange), tail);
+    }
+
+    /**
+     * Returns a new vector without the last element. This vector is unchanged.
+     * @return the new version
+     * @throws NoSuchElementException if the vector is empty
+     */
+    public MyPersistentVector<E> minusLast() throws NoSuchElementException {
+        if (size == 0) throw new NoSuchElementException("cannot remove from an empty vector");
+        if (size == 1) return empty();
+        if (size - tailOffset() > 1)
+            return new MyPersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        Object[] newTail = arrayFor(size - 2);
+        Node newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) newRoot = EMPTY_NODE;
+        if (shift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new MyPersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /** Builds a chain of single-child nodes from <code>level</code> down to <code>node</code>. */
+    private static Node newPath(Object edit, int level, Node node){
+        if (level == 0) return node;
+        Node path = new Node(edit, new Object[WIDTH]);
+        path.array[0] = newPath(edit, level - BITS, node);
+        return path;
+    }
+
+    /** Copies the path to the last leaf position of a vector of <code>count</code> elements and hangs <code>tailNode</code> there. */
+    private static Node pushTail(Object edit, int count, int level, Node parent, Node tailNode){
+        int subIndex = ((count - 1) >>> level) & MASK;
+        Node copy = new Node(edit, parent.array.clone());
+        Node insert;
+        if (level == BITS) {
+            insert = tailNode;
+        } else {
+            Node child = (Node) parent.array[subIndex];
+            insert = child != null
+                    ? pushTail(edit, count, level - BITS, child, tailNode)
+                    : newPath(edit, level - BITS, tailNode);
+        }
+        copy.array[subIndex] = insert;
+        return copy;
+    }
+
+    private static Node assoc(int level, Node node, int index, Object value){
+        Node copy = new Node(null, node.array.clone());
+        if (level == 0) {
+            copy.array[index & MASK] = value;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            copy.array[subIndex] = assoc(level - BITS, (Node) node.array[subIndex], index, value);
+        }
+        return copy;
+    }
+
+    /** Copies the path to the last leaf without that leaf, or returns null if nothing is left on the path. */
+    private Node popTail(int level, Node node){
+        int subIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Node child = popTail(level - BITS, (Node) node.array[subIndex]);
+            if (child == null && subIndex == 0) return null;
+            Node copy = new Node(null, node.array.clone());
+            copy.array[subIndex] = child;
+            return copy;
+        } else if (subIndex == 0) {
+            return null;
+        }
+        Node copy = new Node(null, node.array.clone());
+        copy.array[subIndex] = null;
+        return copy;
+    }
+
+    /** @return the number of elements in the vector */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /** Gets an element at a given index. */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        return (E) arrayFor(index)[index & MASK];
+    }
+
+    /**
+     * Returns the index of the first occurrence of an element.
+     * @param toFind the element to search for
+     * @return the lowest index of the element, or -1
+     * @throws NullPointerException if the element is null
+     */
+    public int indexOf(E toFind) throws NullPointerException{
+        if (toFind == null) throw new NullPointerException("Cannot search for null value");
+        for (int base = 0; base < size; base += WIDTH) {
+            Object[] leaf = arrayFor(base);
+            int count = Math.min(WIDTH, size - base);
+            for (int i = 0; i < count; i++){
+                if(toFind.equals(leaf[i]))
+                    return base + i;
+            }
+        }
+        return -1;
+    }
+
+    /** @return true if list is empty */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Checks if list contains an element. */
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        return indexOf(toFind) != -1;
+    }
+
+    private void copyInto(Object[] dest){
+        for (int base = 0; base < size; base += WIDTH)
+            System.arraycopy(arrayFor(base), 0, dest, base, Math.min(WIDTH, size - base));
+    }
+
+    /** Converts list to array of type E. */
+    @Override
+    public E[] toArray(E[] toHold) throws NullPointerException {
+        if (toHold == null) throw new NullPointerException("toHold cannot be null");
+        if (toHold.length < size) toHold = Arrays.copyOf(toHold, size);
+        copyInto(toHold);
+        return toHold;
+    }
+
+    /** Converts list to Object array. */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        copyInto(array);
+        return array;
+    }
+
+    /** @return an iterator that walks the vector one leaf at a time */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    private static UnsupportedOperationException immutable(){
+        return new UnsupportedOperationException("a persistent vector cannot be changed in place; use plus, with or minusLast");
+    }
+
+    /** Always throws, as a persistent vector cannot be changed in place. */
+    @Override
+    public void clear() {
+        throw immutable();
+    }
+
+    /** Always throws, as a persistent vector cannot be changed in place; use {@link #plus(Object)}. */
+    @Override
+    public boolean add(int index, E toAdd) {
+        throw immutable();
+    }
+
+    /** Always throws, as a persistent vector cannot be changed in place; use {@link #plus(Object)}. */
+    @Override
+    public boolean add(E toAdd) {
+        throw immutable();
+    }
+
+    /** Always throws, as a persistent vector cannot be changed in place; use a {@link Builder}. */
+    @Override
+    public boolean addAll(ListADT<? extends E> toAdd) {
+        throw immutable();
+    }
+
+    /** Always throws, as a persistent vector cannot be changed in place; use {@link #minusLast()}. */
+    @Override
+    public E remove(int index) {
+        throw immutable();
+    }
+
+    /** Always throws, as a persistent vector cannot be changed in place. */
+    @Override
+    public E remove(E toRemove) {
+        throw immutable();
+    }
+
+    /** Always throws, as a persistent vector cannot be changed in place; use {@link #with(int, Object)}. */
+    @Override
+    public E set(int index, E toChange) {
+        throw immutable();
+    }
+
+    /** Serializes the vector as a flat array of its elements instead of its trie. */
+    private Object writeReplace() {
+        return new SerializedForm(toArray());
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("a persistent vector is read through its serialized form");
+    }
+
+    /** The serialized form of a vector: its elements in order. */
+    private static final class SerializedForm implements Serializable {
+        private static final long serialVersionUID = -6248011947296870128L;
+
+        private final Object[] elements;
+
+        private SerializedForm(Object[] elements){
+            this.elements = elements;
+        }
+
+        private Object readResolve() {
+            Builder<Object> builder = builder();
+            for (Object element : elements)
+                builder.add(element);
+            return builder.build();
+        }
+    }
+
+    /** Internal iterator class. */
+    private class Itr implements Iterator<E> {
+        private int index;
+        private Object[] leaf;
+
+        private Itr(){
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index<size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next()  throws NoSuchElementException {
+            if (!hasNext()) throw new NoSuchElementException();
+            if ((index & MASK) == 0) leaf = arrayFor(index);
+            return (E) leaf[index++ & MASK];
+        }
+    }
+
+    /**
+     * Builds a vector with in-place edits. Nodes the builder creates are
+     * marked with its own token and edited directly; nodes shared with an
+     * existing vector are copied the first time they are edited. Once
+     * {@link #build()} has been called the builder cannot be used again, so
+     * the vector it returns can never change.
+     * @param <E> the type of elements in the vector
+     */
+    public static final class Builder<E> {
+        private Object edit;
+        private int size;
+        private int shift;
+        private Node root;
+        private Object[] tail;
+
+        private Builder(MyPersistentVector<E> source){
+            edit = new Object();
+            size = source.size;
+            shift = source.shift;
+            root = new Node(edit, source.root.array.clone());
+            tail = Arrays.copyOf(source.tail, WIDTH);
+        }
+
+        private void checkEditable() throws IllegalStateException {
+            if (edit == null) throw new IllegalStateException("builder has already been built");
+        }
+
+        private Node editable(Node node){
+            return node.edit == edit ? node : new Node(edit, node.array.clone());
+        }
+
+        private int tailOffset(){
+            return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+        }
+
+        /** @return the number of elements added so far */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Appends an element in place.
+         * @param toAdd the element to append
+         * @return this builder
+         * @throws NullPointerException if the element is null
+         * @throws IllegalStateException if the builder has been built
+         */
+        public Builder<E> add(E toAdd) throws NullPointerException, IllegalStateException {
+            checkEditable();
+            if(toAdd == null) throw new NullPointerException("cannot add a null element to list");
+            if (size - tailOffset() < WIDTH) {
+                tail[size & MASK] = toAdd;
+                size++;
+                return this;
+            }
+            Node tailNode = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = toAdd;
+            if ((size >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(edit, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(shift, root, tailNode);
+            }
+            size++;
+            return this;
+        }
+
+        /**
+         * Appends every element of a list in place.
+         * @param toAdd the list of elements to append
+         * @return this builder
+         * @throws NullPointerException if the list is null or holds a null element
+         * @throws IllegalStateException if the builder has been built
+         */
+        public Builder<E> addAll(ListADT<? extends E> toAdd) throws NullPointerException, IllegalStateException {
+            if (toAdd == null) throw new NullPointerException("cannot append null list");
+            Iterator<? extends E> it = toAdd.iterator();
+            while (it.hasNext())
+                add(it.next());
+            return this;
+        }
+
+        /**
+         * Replaces the element at an index in place.
+         * @param index    the index of the element to replace
+         * @param toChange the new element
+         * @return this builder
+         * @throws NullPointerException if the element is null
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * @throws IllegalStateException if the builder has been built
+         */
+        public Builder<E> set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException, IllegalStateException {
+            checkEditable();
+            if(index >= size || index < 0)
+                throw new IndexOutOfBoundsException("index of " + index + "is out of range for list of size " + size);
+            if(toChange == null) throw new NullPointerException("cannot set element in list to null");
+            if (index >= tailOffset()) {
+                tail[index & MASK] = toChange;
+                return this;
+            }
+            root = editable(root);
+            Node node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                int subIndex = (index >>> level) & MASK;
+                Node child = editable((Node) node.array[subIndex]);
+                node.array[subIndex] = child;
+                node = child;
+            }
+            node.array[index & MASK] = toChange;
+            return this;
+        }
+
+        /** Hangs <code>tailNode</code> at the next leaf position, editing this builder's nodes in place. */
+        private Node pushTail(int level, Node parent, Node tailNode){
+            Node node = editable(parent);
+            int subIndex = ((size - 1) >>> level) & MASK;
+            Node insert;
+            if (level == BITS) {
+                insert = tailNode;
+            } else {
+                Node child = (Node) node.array[subIndex];
+                insert = child != null
+                        ? pushTail(level - BITS, child, tailNode)
+                        : newPath(edit, level - BITS, tailNode);
+            }
+            node.array[subIndex] = insert;
+            return node;
+        }
+
+        /**
+         * Returns the finished vector and closes the builder.
+         * @return a vector holding the builder's elements
+         * @throws IllegalStateException if the builder has already been built
+         */
+        public MyPersistentVector<E> build() throws IllegalStateException {
+            checkEditable();
+            edit = null;
+            if (size == 0) return empty();
+            return new MyPersistentVector<>(size, shift, root, Arrays.copyOf(tail, size - tailOffset()));
+        }
+    }
+}
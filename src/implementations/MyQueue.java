@@ -3,6 +3,8 @@ package implementations;
 import utilities.QueueADT;
 import utilities.Iterator;
 import exceptions.EmptyQueueException;
+import java.util.Spliterator;
+import java.util.stream.Stream;
 
 /**
  * Implementation of a generic queue using a doubly linked list.
@@ -167,6 +169,33 @@ public class MyQueue<E> implements QueueADT<E> {
         return data.iterator();
     }
 
+    /**
+     * Returns a spliterator over the queue from front to back.
+     *
+     * @return a spliterator that walks the underlying linked list
+     */
+    public Spliterator<E> spliterator() {
+        return data.spliterator();
+    }
+
+    /**
+     * Returns a sequential stream over the queue from front to back.
+     *
+     * @return a sequential stream
+     */
+    public Stream<E> stream() {
+        return data.stream();
+    }
+
+    /**
+     * Returns a parallel stream over the queue from front to back.
+     *
+     * @return a parallel stream
+     */
+    public Stream<E> parallelStream() {
+        return data.parallelStream();
+    }
+
     /**
      * Adds an element to the end of the queue. Same as push().
      *
@@ -0,0 +1,378 @@
+package implementations;
+
+import utilities.Iterator;
+import utilities.ListADT;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * A list stored in fixed-size chunks instead of one contiguous array, for
+ * lists too large to reallocate in one piece.
+ * <p>
+ * A directory array points at the chunks. Every chunk but the last is full,
+ * so the chunk and offset of an index are found with a shift and a mask and
+ * <code>get</code>/<code>set</code> are O(1). Each chunk is a small ring
+ * buffer with its own head offset. An insert or removal shifts elements inside
+ * one chunk, then moves a single element across each later chunk boundary by
+ * moving that chunk's head. With chunk size <code>C</code> a middle edit costs
+ * O(C + n/C), which is O(&radic;n) when <code>C</code> is close to
+ * &radic;n. Appending never copies existing elements; only the directory of
+ * chunk references is ever reallocated.
+ * </p>
+ * @param <E> the type of elements in this list
+ */
+public class MySegmentedList<E> implements ListADT<E> {
+
+    private static final long serialVersionUID = 7310286594412873105L;
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 12;
+    private static final int MIN_DIRECTORY = 4;
+
+    private final int shift;
+    private final int mask;
+    private transient Object[][] chunks;
+    private transient int[] heads;
+    private transient int chunkCount;
+    private transient int size;
+
+    /** Constructs an empty list with chunks of 4096 elements. */
+    public MySegmentedList(){
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs an empty list.
+     * @param chunkSize the number of elements per chunk, rounded up to a power of two
+     * @throws IllegalArgumentException if the chunk size is below 1 or above 2<sup>30</sup>
+     */
+    public MySegmentedList(int chunkSize) throws IllegalArgumentException {
+        if (chunkSize < 1 || chunkSize > 1 << 30)
+            throw new IllegalArgumentException("chunk size out of range: " + chunkSize);
+        shift = 32 - Integer.numberOfLeadingZeros(chunkSize - 1);
+        mask = (1 << shift) - 1;
+        clear();
+    }
+
+    /** @return the number of elements per chunk */
+    public int chunkSize() {
+        return mask + 1;
+    }
+
+    /** @return the number of elements in the list */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /** Clears the list and drops all of its chunks. */
+    @Override
+    public void clear() {
+        chunks = new Object[MIN_DIRECTORY][];
+        heads = new int[MIN_DIRECTORY];
+        chunkCount = 0;
+        size = 0;
+    }
+
+    /** Maps an offset in chunk <code>k</code> to its slot in the chunk array. */
+    private int slot(int k, int offset){
+        return (heads[k] + offset) & mask;
+    }
+
+    /** @return the number of elements in chunk <code>k</code> */
+    private int countOf(int k){
+        return Math.min(mask + 1, size - (k << shift));
+    }
+
+    private void addChunk(){
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            heads = Arrays.copyOf(heads, chunkCount * 2);
+        }
+        if (chunks[chunkCount] == null)
+            chunks[chunkCount] = new Object[mask + 1];
+        heads[chunkCount] = 0;
+        chunkCount++;
+    }
+
+    /** Drops trailing chunks, keeping one spare so that a list hovering at a chunk boundary does not reallocate. */
+    private void dropSpareChunks(){
+        int needed = (size + mask) >>> shift;
+        while (chunkCount > needed + 1)
+            chunks[--chunkCount] = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E element(int index){
+        int k = index >>> shift;
+        return (E) chunks[k][slot(k, index & mask)];
+    }
+
+    /**
+     * Writes the size followed by the elements in list order, leaving out the
+     * chunk layout and any spare chunk.
+     * @serialData the size as an int, then each element as an object
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++)
+            out.writeObject(element(i));
+    }
+
+    /** Reads the elements back into full chunks with every head at zero. */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        if (count < 0) throw new InvalidObjectException("negative size: " + count);
+        clear();
+        for (int i = 0; i < count; i++) {
+            Object item = in.readObject();
+            if (item == null) throw new InvalidObjectException("null element at index " + i);
+            if (i == chunkCount << shift) addChunk();
+            chunks[i >>> shift][i & mask] = item;
+            size++;
+        }
+    }
+
+    private void checkIndexInRange(int index) throws IndexOutOfBoundsException{
+        if(index >= size || index < 0)
+            throw new IndexOutOfBoundsException("index of " + index + "is out of range for list of size " + size);
+    }
+
+    /** Adds an element at a specific index. */
+    @Override
+    public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+        if (index != size) checkIndexInRange(index);
+        if(toAdd == null) throw new NullPointerException("cannot add a null element to list");
+        if (size == chunkCount << shift) addChunk();
+
+        int last = size >>> shift;
+        int k = index >>> shift;
+        for (int j = last; j > k; j--) {
+            int from = slot(j - 1, mask);
+            heads[j] = (heads[j] - 1) & mask;
+            chunks[j][heads[j]] = chunks[j - 1][from];
+            chunks[j - 1][from] = null;
+        }
+
+        Object[] chunk = chunks[k];
+        int count = k == last ? countOf(k) : mask;
+        int offset = index & mask;
+        if (offset < count / 2) {
+            heads[k] = (heads[k] - 1) & mask;
+            for (int t = 0; t < offset; t++)
+                chunk[slot(k, t)] = chunk[slot(k, t + 1)];
+        } else {
+            for (int t = count; t > offset; t--)
+                chunk[slot(k, t)] = chunk[slot(k, t - 1)];
+        }
+        chunk[slot(k, offset)] = toAdd;
+        size++;
+        return true;
+    }
+
+    /** Adds an element to the end of the list without moving any other element. */
+    @Override
+    public boolean add(E toAdd) throws NullPointerException {
+        return add(size, toAdd);
+    }
+
+    /** Adds all elements from another list. */
+    @Override
+    public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+        if (toAdd == null) throw new NullPointerException("cannot append null list");
+        int count = toAdd.size();
+        Iterator<? extends E> it = toAdd.iterator();
+        for (int i = 0; i < count && it.hasNext(); i++) {
+            E item = it.next();
+            if(item != null){
+                add(size, item);
+            }
+        }
+        return true;
+    }
+
+    /** Gets an element at a given index. */
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        return element(index);
+    }
+
+    /** Removes an element by index. */
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        int last = (size - 1) >>> shift;
+        int k = index >>> shift;
+        Object[] chunk = chunks[k];
+        int count = countOf(k);
+        int offset = index & mask;
+        E removed = element(index);
+
+        if (offset < count / 2) {
+            for (int t = offset; t > 0; t--)
+                chunk[slot(k, t)] = chunk[slot(k, t - 1)];
+            chunk[heads[k]] = null;
+            heads[k] = (heads[k] + 1) & mask;
+        } else {
+            for (int t = offset; t < count - 1; t++)
+                chunk[slot(k, t)] = chunk[slot(k, t + 1)];
+            chunk[slot(k, count - 1)] = null;
+        }
+
+        for (int j = k + 1; j <= last; j++) {
+            chunks[j - 1][slot(j - 1, mask)] = chunks[j][heads[j]];
+            chunks[j][heads[j]] = null;
+            heads[j] = (heads[j] + 1) & mask;
+        }
+        size--;
+        dropSpareChunks();
+        return removed;
+    }
+
+    /**
+     * Removes every element that matches the predicate in one pass. The
+     * predicate is tested on every element first, so a predicate that throws
+     * leaves the list unchanged. The survivors are then moved down once each,
+     * across chunk boundaries, and the emptied chunks are dropped.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) throws NullPointerException {
+        if (filter == null) throw new NullPointerException("filter cannot be null");
+        long[] doomed = null;
+        int firstRemoved = 0;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(element(i))) {
+                if (doomed == null) {
+                    doomed = new long[(size + 63) >>> 6];
+                    firstRemoved = i;
+                }
+                doomed[i >>> 6] |= 1L << i;
+            }
+        }
+        if (doomed == null) return false;
+
+        int kept = firstRemoved;
+        for (int i = firstRemoved + 1; i < size; i++) {
+            if ((doomed[i >>> 6] & (1L << i)) == 0) {
+                int k = kept >>> shift;
+                chunks[k][slot(k, kept & mask)] = element(i);
+                kept++;
+            }
+        }
+        for (int i = kept; i < size; i++) {
+            int k = i >>> shift;
+            chunks[k][slot(k, i & mask)] = null;
+        }
+        size = kept;
+        dropSpareChunks();
+        return true;
+    }
+
+    /** Removes the first occurrence of an element. */
+    @Override
+    public E remove(E toRemove) throws NullPointerException {
+        int index = indexOf(toRemove);
+        if (index == -1) return null;
+        return remove(index);
+    }
+
+    /**
+     * Returns the index of the first occurrence of an element.
+     * @param toFind the element to search for
+     * @return the lowest index of the element, or -1
+     * @throws NullPointerException if the element is null
+     */
+    public int indexOf(E toFind) throws NullPointerException{
+        if (toFind == null) throw new NullPointerException("Cannot search for null value");
+        for (int k = 0; k < chunkCount; k++) {
+            int count = countOf(k);
+            for (int t = 0; t < count; t++) {
+                if (toFind.equals(chunks[k][slot(k, t)]))
+                    return (k << shift) + t;
+            }
+        }
+        return -1;
+    }
+
+    /** Replaces an element at a specific index. */
+    @Override
+    public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        if(toChange == null) throw new NullPointerException("cannot set element in list to null");
+        E replaced = element(index);
+        int k = index >>> shift;
+        chunks[k][slot(k, index & mask)] = toChange;
+        return replaced;
+    }
+
+    /** @return true if list is empty */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Checks if list contains an element. */
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        return indexOf(toFind) != -1;
+    }
+
+    private void copyInto(Object[] dest){
+        for (int k = 0; k < chunkCount && (k << shift) < size; k++) {
+            int count = countOf(k);
+            int firstPart = Math.min(count, mask + 1 - heads[k]);
+            System.arraycopy(chunks[k], heads[k], dest, k << shift, firstPart);
+            System.arraycopy(chunks[k], 0, dest, (k << shift) + firstPart, count - firstPart);
+        }
+    }
+
+    /** Converts list to array of type E. */
+    @Override
+    public E[] toArray(E[] toHold) throws NullPointerException {
+        if (toHold == null) throw new NullPointerException("toHold cannot be null");
+        if (toHold.length < size) toHold = Arrays.copyOf(toHold, size);
+        copyInto(toHold);
+        return toHold;
+    }
+
+    /** Converts list to Object array. */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        copyInto(array);
+        return array;
+    }
+
+    /** @return an iterator over the list */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /** Internal iterator class. */
+    private class Itr implements Iterator<E> {
+        private int index;
+
+        private Itr(){
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index<size;
+        }
+
+        @Override
+        public E next()  throws NoSuchElementException {
+            if (!hasNext()) throw new NoSuchElementException();
+            return element(index++);
+        }
+    }
+}
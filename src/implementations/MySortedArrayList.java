@@ -0,0 +1,387 @@
+package implementations;
+
+import utilities.GrowthPolicy;
+import utilities.Iterator;
+import utilities.ListADT;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * An array list that keeps its elements sorted by a <code>Comparator</code>.
+ * <p>
+ * {@link #add(Object)} finds its position by binary search and opens a gap
+ * with a single <code>System.arraycopy</code>. Lookups are binary searches
+ * too, so <code>contains</code>, <code>indexOf</code>, {@link #floor(Object)},
+ * {@link #ceiling(Object)} and {@link #range(Object, Object)} take O(log n)
+ * time plus the size of their result. Two elements are the same to this list
+ * when the comparator returns 0 for them, as in a <code>TreeSet</code>. Equal
+ * elements are kept in the order they were added.
+ * </p>
+ * <p>
+ * {@link #addAll(ListADT)} sorts the new elements once and merges them with
+ * the list in a single pass, which is far cheaper than adding them one by one.
+ * </p>
+ * @param <E> the type of elements in this list
+ */
+public class MySortedArrayList<E> implements ListADT<E> {
+
+    private static final long serialVersionUID = -1428379518330560207L;
+
+    private final Comparator<? super E> comparator;
+    private final GrowthPolicy policy;
+    private transient E[] list;
+    private transient int size;
+
+    /**
+     * Constructs an empty list sorted by the elements' natural ordering.
+     * The elements must implement <code>Comparable</code>.
+     */
+    public MySortedArrayList(){
+        this(null);
+    }
+
+    /**
+     * Constructs an empty list.
+     * @param comparator the order to keep the elements in, or null for their natural ordering
+     */
+    public MySortedArrayList(Comparator<? super E> comparator){
+        this(comparator, ScalingGrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Constructs an empty list.
+     * @param comparator the order to keep the elements in, or null for their natural ordering
+     * @param policy     decides how the backing array grows and shrinks
+     * @throws NullPointerException if the policy is null
+     */
+    public MySortedArrayList(Comparator<? super E> comparator, GrowthPolicy policy) throws NullPointerException {
+        if (policy == null) throw new NullPointerException("growth policy cannot be null");
+        this.comparator = comparator;
+        this.policy = policy;
+        list = getNewArray(policy.initialCapacity());
+        size = 0;
+    }
+
+    /** @return the comparator the list is sorted by, or null for natural ordering */
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E[] getNewArray(int size){
+        return (E[]) (new Object[size]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(E first, E second){
+        return comparator == null ? ((Comparable<? super E>) first).compareTo(second) : comparator.compare(first, second);
+    }
+
+    /** @return the first index whose element is not less than <code>key</code> */
+    private int lowerBound(E key){
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(list[mid], key) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /** @return the first index whose element is greater than <code>key</code> */
+    private int upperBound(E key){
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(list[mid], key) <= 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private void checkCapacity(int sizeIncrease){
+        int newSize = size + sizeIncrease;
+        if (newSize > list.length)
+            list = Arrays.copyOf(list, policy.grow(list.length, newSize));
+    }
+
+    private void checkIndexInRange(int index) throws IndexOutOfBoundsException{
+        if(index >= size || index < 0)
+            throw new IndexOutOfBoundsException("index of " + index + "is out of range for list of size " + size);
+    }
+
+    /** Throws unless <code>element</code> sorts between the elements at <code>before</code> and <code>after</code>. */
+    private void checkOrder(int before, E element, int after) throws IllegalArgumentException {
+        if ((before >= 0 && compare(list[before], element) > 0) || (after < size && compare(element, list[after]) > 0))
+            throw new IllegalArgumentException("element " + element + " does not belong at that index of a sorted list");
+    }
+
+    /** @return the number of elements in the list */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /** Clears the list, keeping the backing array for reuse. */
+    @Override
+    public void clear() {
+        Arrays.fill(list, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Adds an element at a specific index, which is only allowed where the
+     * element keeps the list sorted. Use {@link #add(Object)} to let the list
+     * find the position.
+     * @throws IllegalArgumentException if the element does not sort at that index
+     */
+    @Override
+    public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException {
+        if (index != size) checkIndexInRange(index);
+        if(toAdd == null) throw new NullPointerException("cannot add a null element to list");
+        checkOrder(index - 1, toAdd, index);
+        insert(index, toAdd);
+        return true;
+    }
+
+    private void insert(int index, E toAdd){
+        checkCapacity(1);
+        System.arraycopy(list, index, list, index + 1, size - index);
+        list[index] = toAdd;
+        size++;
+    }
+
+    /** Adds an element at its sorted position, after any equal elements. */
+    @Override
+    public boolean add(E toAdd) throws NullPointerException {
+        if(toAdd == null) throw new NullPointerException("cannot add a null element to list");
+        insert(upperBound(toAdd), toAdd);
+        return true;
+    }
+
+    /**
+     * Adds all elements from another list. The new elements are sorted once
+     * and then merged with this list from the back, so every element moves at
+     * most once. Null elements are skipped.
+     */
+    @Override
+    public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+        if (toAdd == null) throw new NullPointerException("cannot append null list");
+        E[] incoming = getNewArray(toAdd.size());
+        int count = 0;
+        Iterator<? extends E> it = toAdd.iterator();
+        while (count < incoming.length && it.hasNext()) {
+            E item = it.next();
+            if(item != null){
+                incoming[count++] = item;
+            }
+        }
+        Arrays.sort(incoming, 0, count, this::compare);
+
+        checkCapacity(count);
+        int mine = size - 1;
+        int theirs = count - 1;
+        int target = size + count - 1;
+        while (theirs >= 0) {
+            if (mine >= 0 && compare(list[mine], incoming[theirs]) > 0)
+                list[target--] = list[mine--];
+            else
+                list[target--] = incoming[theirs--];
+        }
+        size += count;
+        return true;
+    }
+
+    /** Gets an element at a given index. */
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        return list[index];
+    }
+
+    /** Removes an element by index, closing the gap with a single copy. */
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        checkIndexInRange(index);
+        E removed = list[index];
+        int reducedCapacity = policy.shrink(list.length, size - 1);
+        if (reducedCapacity < list.length && reducedCapacity >= size - 1) {
+            E[] newList = getNewArray(reducedCapacity);
+            System.arraycopy(list, 0, newList, 0, index);
+            System.arraycopy(list, index + 1, newList, index, size - index - 1);
+            list = newList;
+        } else {
+            System.arraycopy(list, index + 1, list, index, size - index - 1);
+            list[size - 1] = null;
+        }
+        size--;
+        return removed;
+    }
+
+    /** Removes the first element equal to the given one, found by binary search. */
+    @Override
+    public E remove(E toRemove) throws NullPointerException {
+        int index = indexOf(toRemove);
+        if (index == -1) return null;
+        return remove(index);
+    }
+
+    /**
+     * Returns the index of the first element equal to the given one, found by binary search.
+     * @param toFind the element to search for
+     * @return the lowest index of an equal element, or -1
+     * @throws NullPointerException if the element is null
+     */
+    public int indexOf(E toFind) throws NullPointerException{
+        if (toFind == null) throw new NullPointerException("Cannot search for null value");
+        int index = lowerBound(toFind);
+        return index < size && compare(list[index], toFind) == 0 ? index : -1;
+    }
+
+    /**
+     * Returns the greatest element that is less than or equal to the given one.
+     * @param key the element to compare against
+     * @return the last element not greater than <code>key</code>, or null if there is none
+     * @throws NullPointerException if the key is null
+     */
+    public E floor(E key) throws NullPointerException {
+        if (key == null) throw new NullPointerException("Cannot search for null value");
+        int index = upperBound(key) - 1;
+        return index >= 0 ? list[index] : null;
+    }
+
+    /**
+     * Returns the least element that is greater than or equal to the given one.
+     * @param key the element to compare against
+     * @return the first element not less than <code>key</code>, or null if there is none
+     * @throws NullPointerException if the key is null
+     */
+    public E ceiling(E key) throws NullPointerException {
+        if (key == null) throw new NullPointerException("Cannot search for null value");
+        int index = lowerBound(key);
+        return index < size ? list[index] : null;
+    }
+
+    /**
+     * Returns the elements from <code>fromKey</code>, inclusive, up to <code>toKey</code>, exclusive.
+     * @param fromKey the lowest element to include
+     * @param toKey   the element to stop before
+     * @return a new sorted list with the same comparator holding the elements in the range
+     * @throws NullPointerException if either key is null
+     * @throws IllegalArgumentException if <code>fromKey</code> sorts after <code>toKey</code>
+     */
+    public MySortedArrayList<E> range(E fromKey, E toKey) throws NullPointerException, IllegalArgumentException {
+        if (fromKey == null || toKey == null) throw new NullPointerException("range bounds cannot be null");
+        if (compare(fromKey, toKey) > 0)
+            throw new IllegalArgumentException("range from " + fromKey + " to " + toKey + " is reversed");
+        int from = lowerBound(fromKey);
+        int to = lowerBound(toKey);
+        MySortedArrayList<E> result = new MySortedArrayList<>(comparator, policy);
+        result.checkCapacity(to - from);
+        System.arraycopy(list, from, result.list, 0, to - from);
+        result.size = to - from;
+        return result;
+    }
+
+    /**
+     * Replaces an element at a specific index, which is only allowed where
+     * the new element keeps the list sorted.
+     * @throws IllegalArgumentException if the element does not sort at that index
+     */
+    @Override
+    public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException {
+        checkIndexInRange(index);
+        if(toChange == null) throw new NullPointerException("cannot set element in list to null");
+        checkOrder(index - 1, toChange, index + 1);
+        E replaced = list[index];
+        list[index] = toChange;
+        return replaced;
+    }
+
+    /** @return true if list is empty */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Checks by binary search if the list contains an equal element. */
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        return indexOf(toFind) != -1;
+    }
+
+    /** Converts list to array of type E. */
+    @Override
+    public E[] toArray(E[] toHold) throws NullPointerException {
+        if (toHold == null) throw new NullPointerException("toHold cannot be null");
+        if (toHold.length < size) toHold = Arrays.copyOf(toHold, size);
+        System.arraycopy(list, 0, toHold, 0, size);
+        return toHold;
+    }
+
+    /** Converts list to Object array. */
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(list, size, Object[].class);
+    }
+
+    /** @return an iterator over the list in sorted order */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Writes the size followed by the elements in sorted order.
+     * @serialData the size as an int, then each element as an object
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++)
+            out.writeObject(list[i]);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        if (count < 0) throw new InvalidObjectException("negative size: " + count);
+        list = getNewArray(count);
+        for (int i = 0; i < count; i++) {
+            @SuppressWarnings("unchecked")
+            E item = (E) in.readObject();
+            if (item == null || (i > 0 && compare(list[i - 1], item) > 0))
+                throw new InvalidObjectException("element " + i + " is null or out of order");
+            list[i] = item;
+        }
+        size = count;
+    }
+
+    /** Internal iterator class. */
+    private class Itr implements Iterator<E> {
+        private int index;
+
+        private Itr(){
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index<size;
+        }
+
+        @Override
+        public E next()  throws NoSuchElementException {
+            if (!hasNext()) throw new NoSuchElementException();
+            return list[index++];
+        }
+    }
+}
@@ -3,6 +3,9 @@ package implementations;
 import utilities.StackADT;
 import utilities.Iterator;
 import java.util.EmptyStackException;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A stack implementation using MyArrayList.
@@ -21,6 +24,16 @@ public class MyStack<E> implements StackADT<E> {
         data = new MyArrayList<>();
     }
 
+    /**
+     * Constructs an empty stack that borrows its backing arrays from a pool.
+     * Call {@link #release()} when the stack is no longer needed.
+     *
+     * @param pool the pool to borrow from, or null to allocate every array
+     */
+    public MyStack(ArrayPool pool) {
+        data = new MyArrayList<>(ScalingGrowthPolicy.DEFAULT, false, pool);
+    }
+
     /**
      * Pushes an element onto the stack.
      */
@@ -66,6 +79,13 @@ public class MyStack<E> implements StackADT<E> {
         data.clear();
     }
 
+    /**
+     * Empties the stack and hands its backing array back to its pool, if it has one.
+     */
+    public void release() {
+        data.release();
+    }
+
     /**
      * Checks if the stack contains the given element.
      */
@@ -158,6 +178,28 @@ public class MyStack<E> implements StackADT<E> {
         return new ReverseArrayIterator<>(elements);
     }
 
+    /**
+     * Returns a spliterator over the stack from the top down. It splits the
+     * backing array by index.
+     */
+    public Spliterator<E> spliterator() {
+        return data.reverseSpliterator();
+    }
+
+    /**
+     * Returns a sequential stream over the stack from the top down.
+     */
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream over the stack from the top down.
+     */
+    public Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     /**
      * Reverse iterator for the stack.
      */
@@ -0,0 +1,133 @@
+package implementations;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * A hash index from each element of an array-backed list to the positions it
+ * occupies. The positions of one element are kept sorted, so the first
+ * occurrence of an element is always the first of its positions.
+ * <p>
+ * Positions are stored relative to an offset, so {@link #shiftAll(int)}
+ * moves every position at once. A list can then shift whichever side of an
+ * edit is shorter: it shifts everything and moves the short side back.
+ * </p>
+ *
+ * @param <E> the type of elements being indexed
+ */
+class PositionIndex<E> implements Serializable {
+
+    private static final long serialVersionUID = 2630480329151117392L;
+
+    /** Estimated bytes per object header on a 64-bit JVM with compressed references. */
+    static final int OBJECT_HEADER = 12;
+    /** Estimated bytes per array header on a 64-bit JVM with compressed references. */
+    static final int ARRAY_HEADER = 16;
+    /** Estimated bytes per object reference with compressed references. */
+    static final int REFERENCE = 4;
+    /** Estimated bytes per <code>HashMap.Node</code>: header, hash, key, value and next. */
+    static final int MAP_ENTRY = 32;
+    /** How far the offset may drift before the stored positions are rewritten, well clear of overflow. */
+    private static final int MAX_OFFSET = 1 << 30;
+
+    private final HashMap<E, Positions> positions = new HashMap<>();
+    /** Added to every stored position to get the list position. */
+    private int offset;
+
+    /** The sorted positions of one element. */
+    private static class Positions implements Serializable {
+        private static final long serialVersionUID = -4170374281739913315L;
+
+        private int[] at = new int[1];
+        private int count;
+
+        private int find(int position){
+            return Arrays.binarySearch(at, 0, count, position);
+        }
+    }
+
+    /**
+     * Estimates the bytes a <code>HashMap</code> with the given number of entries uses, not counting its values.
+     * @param entries the number of entries in the map
+     * @return the estimated size of the map's table and entries
+     */
+    static long mapFootprint(int entries) {
+        long table = Integer.highestOneBit(Math.max(1, (int) (entries / 0.75f)) * 2 - 1);
+        return OBJECT_HEADER + 5 * 4 + REFERENCE + ARRAY_HEADER + table * REFERENCE + (long) entries * MAP_ENTRY;
+    }
+
+    /** Records that <code>element</code> is now at <code>position</code>. */
+    void add(E element, int position) {
+        position -= offset;
+        Positions entry = positions.get(element);
+        if (entry == null) {
+            entry = new Positions();
+            positions.put(element, entry);
+        }
+        if (entry.count == entry.at.length)
+            entry.at = Arrays.copyOf(entry.at, entry.count * 2);
+        int slot = entry.count;
+        if (slot > 0 && entry.at[slot - 1] > position) {
+            slot = -entry.find(position) - 1;
+            System.arraycopy(entry.at, slot, entry.at, slot + 1, entry.count - slot);
+        }
+        entry.at[slot] = position;
+        entry.count++;
+    }
+
+    /** Forgets that <code>element</code> was at <code>position</code>. */
+    void remove(E element, int position) {
+        Positions entry = positions.get(element);
+        int slot = entry.find(position - offset);
+        System.arraycopy(entry.at, slot + 1, entry.at, slot, entry.count - slot - 1);
+        if (--entry.count == 0)
+            positions.remove(element);
+    }
+
+    /**
+     * Records that <code>element</code> moved from <code>from</code> to
+     * <code>to</code>. The move must not pass another position of the same
+     * element, which holds whenever a run of elements shifts together.
+     */
+    void move(E element, int from, int to) {
+        Positions entry = positions.get(element);
+        entry.at[entry.find(from - offset)] = to - offset;
+    }
+
+    /** Records that every element moved <code>distance</code> places. */
+    void shiftAll(int distance) {
+        offset += distance;
+        if (offset > -MAX_OFFSET && offset < MAX_OFFSET) return;
+        for (Positions entry : positions.values()) {
+            for (int i = 0; i < entry.count; i++)
+                entry.at[i] += offset;
+        }
+        offset = 0;
+    }
+
+    /** @return the lowest position of the element, or -1 if it is not in the list */
+    int first(E element) {
+        Positions entry = positions.get(element);
+        return entry == null ? -1 : entry.at[0] + offset;
+    }
+
+    /** @return true if the element is in the list */
+    boolean contains(E element) {
+        return positions.containsKey(element);
+    }
+
+    /** Forgets every element. */
+    void clear() {
+        positions.clear();
+        offset = 0;
+    }
+
+    /** @return the estimated number of bytes the index uses */
+    long footprint() {
+        long bytes = OBJECT_HEADER + REFERENCE + 4 + mapFootprint(positions.size());
+        for (Positions entry : positions.values())
+            bytes += OBJECT_HEADER + REFERENCE + 4 + ARRAY_HEADER + 4L * entry.at.length;
+        return bytes;
+    }
+}
@@ -0,0 +1,129 @@
+package implementations;
+
+import java.util.Random;
+
+/**
+ * Compares the unrolled scans of the primitive array lists with the plain
+ * one-value-per-iteration loops they replaced, on a large array.
+ * <p>
+ * Each scan is run until the JIT has compiled it, then timed several times,
+ * and the best time is reported in nanoseconds per value. Results are
+ * indicative only; run with a fixed heap, such as <code>-Xms2g -Xmx2g</code>,
+ * on an otherwise idle machine.
+ * </p>
+ */
+public class PrimitiveScanBenchmark {
+
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int MEASURED_ROUNDS = 10;
+
+    /** Keeps the results alive so the JIT cannot drop the loops. */
+    private static long sink;
+
+    /** A scan that can be timed. */
+    private interface Scan {
+        long run();
+    }
+
+    /**
+     * Runs the comparison.
+     *
+     * @param args optionally the number of values to scan; 10,000,000 by default
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        Random random = new Random(24);
+        MyIntArrayList ints = new MyIntArrayList();
+        MyDoubleArrayList doubles = new MyDoubleArrayList();
+        for (int i = 0; i < size; i++) {
+            ints.add(random.nextInt(1_000_000));
+            doubles.add(random.nextDouble());
+        }
+        int[] intValues = ints.toArray();
+        double[] doubleValues = doubles.toArray();
+
+        System.out.printf("%-22s %12s %12s %8s%n", "scan", "plain ns/v", "unrolled ns/v", "speedup");
+        compare("int indexOf (absent)", size,
+                () -> plainIndexOf(intValues, -1),
+                () -> ints.indexOf(-1));
+        compare("int sum", size,
+                () -> plainSum(intValues),
+                ints::sum);
+        compare("int min", size,
+                () -> plainMin(intValues),
+                ints::min);
+        compare("int countInRange", size,
+                () -> plainCount(intValues, 250_000, 750_000),
+                () -> ints.countInRange(250_000, 750_000));
+        compare("double sum", size,
+                () -> (long) plainSum(doubleValues),
+                () -> (long) doubles.sum());
+        compare("double max", size,
+                () -> (long) plainMax(doubleValues),
+                () -> (long) doubles.max());
+        System.out.println(sink == 42 ? "" : "done");
+    }
+
+    private static void compare(String name, int size, Scan plain, Scan unrolled) {
+        double plainTime = best(plain) / size;
+        double unrolledTime = best(unrolled) / size;
+        System.out.printf("%-22s %12.3f %12.3f %7.2fx%n", name, plainTime, unrolledTime, plainTime / unrolledTime);
+    }
+
+    private static double best(Scan scan) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++)
+            sink += scan.run();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += scan.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    private static long plainIndexOf(int[] values, int key) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == key)
+                return i;
+        }
+        return -1;
+    }
+
+    private static long plainSum(int[] values) {
+        long sum = 0;
+        for (int value : values)
+            sum += value;
+        return sum;
+    }
+
+    private static long plainMin(int[] values) {
+        int min = values[0];
+        for (int value : values)
+            min = Math.min(min, value);
+        return min;
+    }
+
+    private static long plainCount(int[] values, int low, int high) {
+        int count = 0;
+        for (int value : values) {
+            if (value >= low && value <= high)
+                count++;
+        }
+        return count;
+    }
+
+    private static double plainSum(double[] values) {
+        double sum = 0;
+        for (double value : values)
+            sum += value;
+        return sum;
+    }
+
+    private static double plainMax(double[] values) {
+        double max = values[0];
+        for (double value : values)
+            max = Math.max(max, value);
+        return max;
+    }
+}
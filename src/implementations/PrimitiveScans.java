@@ -0,0 +1,282 @@
+package implementations;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Scans over the backing arrays of the primitive array lists.
+ * <p>
+ * The loops are unrolled four values at a time. Searches test all four with
+ * non-short-circuit operators, so there is one branch per four values
+ * instead of one per value; sums, minimums and maximums keep four
+ * independent accumulators, so consecutive additions or comparisons do not
+ * wait on each other. Both let HotSpot's superword pass and the CPU's
+ * out-of-order core overlap the work across values. Each method ends with a
+ * plain loop for the last values that do not fill a group of four.
+ * </p>
+ */
+final class PrimitiveScans {
+
+    private PrimitiveScans(){
+    }
+
+    private static NoSuchElementException empty(){
+        return new NoSuchElementException("list is empty");
+    }
+
+    /** @return the index of the first value equal to <code>key</code> in the first <code>size</code> values, or -1 */
+    static int indexOf(int[] values, int size, int key){
+        int i = 0;
+        for (int end = size - 3; i < end; i += 4) {
+            if (values[i] == key | values[i + 1] == key | values[i + 2] == key | values[i + 3] == key) break;
+        }
+        for (; i < size; i++) {
+            if (values[i] == key) return i;
+        }
+        return -1;
+    }
+
+    /** @return the sum of the first <code>size</code> values, without overflow */
+    static long sum(int[] values, int size){
+        long s0 = 0L, s1 = 0L, s2 = 0L, s3 = 0L;
+        int i = 0;
+        for (int end = size - 3; i < end; i += 4) {
+            s0 += values[i];
+            s1 += values[i + 1];
+            s2 += values[i + 2];
+            s3 += values[i + 3];
+        }
+        for (; i < size; i++)
+            s0 += values[i];
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * @return the smallest of the first <code>size</code> values, as <code>Math.min</code> decides
+     * @throws NoSuchElementException if <code>size</code> is 0
+     */
+    static int min(int[] values, int size) throws NoSuchElementException {
+        if (size == 0) throw empty();
+        int m0 = values[0], m1 = m0, m2 = m0, m3 = m0;
+        int i = 1;
+        for (int end = size - 3; i < end; i += 4) {
+            m0 = Math.min(m0, values[i]);
+            m1 = Math.min(m1, values[i + 1]);
+            m2 = Math.min(m2, values[i + 2]);
+            m3 = Math.min(m3, values[i + 3]);
+        }
+        for (; i < size; i++)
+            m0 = Math.min(m0, values[i]);
+        return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+    }
+
+    /**
+     * @return the largest of the first <code>size</code> values, as <code>Math.max</code> decides
+     * @throws NoSuchElementException if <code>size</code> is 0
+     */
+    static int max(int[] values, int size) throws NoSuchElementException {
+        if (size == 0) throw empty();
+        int m0 = values[0], m1 = m0, m2 = m0, m3 = m0;
+        int i = 1;
+        for (int end = size - 3; i < end; i += 4) {
+            m0 = Math.max(m0, values[i]);
+            m1 = Math.max(m1, values[i + 1]);
+            m2 = Math.max(m2, values[i + 2]);
+            m3 = Math.max(m3, values[i + 3]);
+        }
+        for (; i < size; i++)
+            m0 = Math.max(m0, values[i]);
+        return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+    }
+
+    /**
+     * Counts the first <code>size</code> values between <code>low</code> and <code>high</code>,
+     * both inclusive. The caller checks that <code>low</code> is not above <code>high</code>.
+     */
+    static int countInRange(int[] values, int size, int low, int high){
+        // Shifting by the minimum value turns the two comparisons into one
+        // unsigned comparison of the distance from low.
+        int span = (high - low) + Integer.MIN_VALUE;
+        int c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+        int i = 0;
+        for (int end = size - 3; i < end; i += 4) {
+            c0 += (values[i] - low) + Integer.MIN_VALUE <= span ? 1 : 0;
+            c1 += (values[i + 1] - low) + Integer.MIN_VALUE <= span ? 1 : 0;
+            c2 += (values[i + 2] - low) + Integer.MIN_VALUE <= span ? 1 : 0;
+            c3 += (values[i + 3] - low) + Integer.MIN_VALUE <= span ? 1 : 0;
+        }
+        for (; i < size; i++)
+            c0 += (values[i] - low) + Integer.MIN_VALUE <= span ? 1 : 0;
+        return c0 + c1 + c2 + c3;
+    }
+
+    /** @return the index of the first value equal to <code>key</code> in the first <code>size</code> values, or -1 */
+    static int indexOf(long[] values, int size, long key){
+        int i = 0;
+        for (int end = size - 3; i < end; i += 4) {
+            if (values[i] == key | values[i + 1] == key | values[i + 2] == key | values[i + 3] == key) break;
+        }
+        for (; i < size; i++) {
+            if (values[i] == key) return i;
+        }
+        return -1;
+    }
+
+    /** @return the sum of the first <code>size</code> values, wrapping on overflow */
+    static long sum(long[] values, int size){
+        long s0 = 0L, s1 = 0L, s2 = 0L, s3 = 0L;
+        int i = 0;
+        for (int end = size - 3; i < end; i += 4) {
+            s0 += values[i];
+            s1 += values[i + 1];
+            s2 += values[i + 2];
+            s3 += values[i + 3];
+        }
+        for (; i < size; i++)
+            s0 += values[i];
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * @return the smallest of the first <code>size</code> values, as <code>Math.min</code> decides
+     * @throws NoSuchElementException if <code>size</code> is 0
+     */
+    static long min(long[] values, int size) throws NoSuchElementException {
+        if (size == 0) throw empty();
+        long m0 = values[0], m1 = m0, m2 = m0, m3 = m0;
+        int i = 1;
+        for (int end = size - 3; i < end; i += 4) {
+            m0 = Math.min(m0, values[i]);
+            m1 = Math.min(m1, values[i + 1]);
+            m2 = Math.min(m2, values[i + 2]);
+            m3 = Math.min(m3, values[i + 3]);
+        }
+        for (; i < size; i++)
+            m0 = Math.min(m0, values[i]);
+        return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+    }
+
+    /**
+     * @return the largest of the first <code>size</code> values, as <code>Math.max</code> decides
+     * @throws NoSuchElementException if <code>size</code> is 0
+     */
+    static long max(long[] values, int size) throws NoSuchElementException {
+        if (size == 0) throw empty();
+        long m0 = values[0], m1 = m0, m2 = m0, m3 = m0;
+        int i = 1;
+        for (int end = size - 3; i < end; i += 4) {
+            m0 = Math.max(m0, values[i]);
+            m1 = Math.max(m1, values[i + 1]);
+            m2 = Math.max(m2, values[i + 2]);
+            m3 = Math.max(m3, values[i + 3]);
+        }
+        for (; i < size; i++)
+            m0 = Math.max(m0, values[i]);
+        return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+    }
+
+    /**
+     * Counts the first <code>size</code> values between <code>low</code> and <code>high</code>,
+     * both inclusive. The caller checks that <code>low</code> is not above <code>high</code>.
+     */
+    static int countInRange(long[] values, int size, long low, long high){
+        long span = (high - low) + Long.MIN_VALUE;
+        int c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+        int i = 0;
+        for (int end = size - 3; i < end; i += 4) {
+            c0 += (values[i] - low) + Long.MIN_VALUE <= span ? 1 : 0;
+            c1 += (values[i + 1] - low) + Long.MIN_VALUE <= span ? 1 : 0;
+            c2 += (values[i + 2] - low) + Long.MIN_VALUE <= span ? 1 : 0;
+            c3 += (values[i + 3] - low) + Long.MIN_VALUE <= span ? 1 : 0;
+        }
+        for (; i < size; i++)
+            c0 += (values[i] - low) + Long.MIN_VALUE <= span ? 1 : 0;
+        return c0 + c1 + c2 + c3;
+    }
+
+    /**
+     * Finds the first value that is <code>==</code> to <code>key</code>, which must not be
+     * <code>NaN</code> or zero, where <code>==</code> and <code>Double.compare</code> would disagree.
+     * @return the index of the first matching value in the first <code>size</code> values, or -1
+     */
+    static int indexOfExact(double[] values, int size, double key){
+        int i = 0;
+        for (int end = size - 3; i < end; i += 4) {
+            if (values[i] == key | values[i + 1] == key | values[i + 2] == key | values[i + 3] == key) break;
+        }
+        for (; i < size; i++) {
+            if (values[i] == key) return i;
+        }
+        return -1;
+    }
+
+    /** @return the sum of the first <code>size</code> values; the four partial sums may round differently from a sequential sum */
+    static double sum(double[] values, int size){
+        double s0 = 0.0, s1 = 0.0, s2 = 0.0, s3 = 0.0;
+        int i = 0;
+        for (int end = size - 3; i < end; i += 4) {
+            s0 += values[i];
+            s1 += values[i + 1];
+            s2 += values[i + 2];
+            s3 += values[i + 3];
+        }
+        for (; i < size; i++)
+            s0 += values[i];
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * @return the smallest of the first <code>size</code> values, <code>NaN</code> if any value is <code>NaN</code>, as <code>Math.min</code> decides
+     * @throws NoSuchElementException if <code>size</code> is 0
+     */
+    static double min(double[] values, int size) throws NoSuchElementException {
+        if (size == 0) throw empty();
+        double m0 = values[0], m1 = m0, m2 = m0, m3 = m0;
+        int i = 1;
+        for (int end = size - 3; i < end; i += 4) {
+            m0 = Math.min(m0, values[i]);
+            m1 = Math.min(m1, values[i + 1]);
+            m2 = Math.min(m2, values[i + 2]);
+            m3 = Math.min(m3, values[i + 3]);
+        }
+        for (; i < size; i++)
+            m0 = Math.min(m0, values[i]);
+        return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+    }
+
+    /**
+     * @return the largest of the first <code>size</code> values, <code>NaN</code> if any value is <code>NaN</code>, as <code>Math.max</code> decides
+     * @throws NoSuchElementException if <code>size</code> is 0
+     */
+    static double max(double[] values, int size) throws NoSuchElementException {
+        if (size == 0) throw empty();
+        double m0 = values[0], m1 = m0, m2 = m0, m3 = m0;
+        int i = 1;
+        for (int end = size - 3; i < end; i += 4) {
+            m0 = Math.max(m0, values[i]);
+            m1 = Math.max(m1, values[i + 1]);
+            m2 = Math.max(m2, values[i + 2]);
+            m3 = Math.max(m3, values[i + 3]);
+        }
+        for (; i < size; i++)
+            m0 = Math.max(m0, values[i]);
+        return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+    }
+
+    /**
+     * Counts the first <code>size</code> values between <code>low</code> and <code>high</code>,
+     * both inclusive. <code>NaN</code> is never counted.
+     */
+    static int countInRange(double[] values, int size, double low, double high){
+        int c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+        int i = 0;
+        for (int end = size - 3; i < end; i += 4) {
+            c0 += values[i] >= low & values[i] <= high ? 1 : 0;
+            c1 += values[i + 1] >= low & values[i + 1] <= high ? 1 : 0;
+            c2 += values[i + 2] >= low & values[i + 2] <= high ? 1 : 0;
+            c3 += values[i + 3] >= low & values[i + 3] <= high ? 1 : 0;
+        }
+        for (; i < size; i++)
+            c0 += values[i] >= low & values[i] <= high ? 1 : 0;
+        return c0 + c1 + c2 + c3;
+    }
+}
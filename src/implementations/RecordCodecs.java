@@ -0,0 +1,106 @@
+package implementations;
+
+import utilities.RecordCodec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fixed-width record codecs for common element types, for use with lists
+ * that keep their elements outside the Java heap.
+ */
+public final class RecordCodecs {
+
+    /** Stores an <code>Integer</code> in 4 bytes. */
+    public static final RecordCodec<Integer> INTEGER = new RecordCodec<Integer>() {
+        @Override
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer element) {
+            buffer.putInt(offset, element);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    /** Stores a <code>Long</code> in 8 bytes. */
+    public static final RecordCodec<Long> LONG = new RecordCodec<Long>() {
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long element) {
+            buffer.putLong(offset, element);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    /** Stores a <code>Double</code> in 8 bytes. */
+    public static final RecordCodec<Double> DOUBLE = new RecordCodec<Double>() {
+        @Override
+        public int width() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double element) {
+            buffer.putDouble(offset, element);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    private RecordCodecs() {
+    }
+
+    /**
+     * Returns a codec that stores a <code>String</code> as a 2-byte length
+     * followed by its UTF-8 bytes, padded to a fixed width.
+     * @param maxBytes the largest UTF-8 encoding a record can hold, from 0 to 65535
+     * @return a codec with records of <code>maxBytes + 2</code> bytes
+     * @throws IllegalArgumentException if <code>maxBytes</code> is out of range
+     */
+    public static RecordCodec<String> string(final int maxBytes) throws IllegalArgumentException {
+        if (maxBytes < 0 || maxBytes > 0xFFFF)
+            throw new IllegalArgumentException("string record size out of range: " + maxBytes);
+        return new RecordCodec<String>() {
+            @Override
+            public int width() {
+                return maxBytes + 2;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, String element) throws IllegalArgumentException {
+                byte[] bytes = element.getBytes(StandardCharsets.UTF_8);
+                if (bytes.length > maxBytes)
+                    throw new IllegalArgumentException("string of " + bytes.length + " bytes does not fit in " + maxBytes);
+                buffer.putShort(offset, (short) bytes.length);
+                for (int i = 0; i < bytes.length; i++)
+                    buffer.put(offset + 2 + i, bytes[i]);
+            }
+
+            @Override
+            public String read(ByteBuffer buffer, int offset) {
+                byte[] bytes = new byte[buffer.getShort(offset) & 0xFFFF];
+                for (int i = 0; i < bytes.length; i++)
+                    bytes[i] = buffer.get(offset + 2 + i);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package implementations;
+
+import utilities.GrowthPolicy;
+
+/**
+ * A growth policy that scales the capacity by a constant factor.
+ * <p>
+ * The array grows by <code>growthFactor</code> when it is full. It shrinks by
+ * <code>growthFactor</code> twice when the fill drops below
+ * <code>shrinkThreshold</code>, which leaves it well short of full again. That
+ * gap between the shrink point and the grow point keeps a list that hovers
+ * around one size from reallocating on every add and remove. The array never
+ * shrinks below the initial capacity.
+ * </p>
+ */
+public class ScalingGrowthPolicy implements GrowthPolicy {
+
+    private static final long serialVersionUID = -3385716442095360153L;
+
+    private static final int MIN_CAPACITY = 10;
+    private static final double RESIZE_SCALING = 1.5;
+    private static final double MIN_FILL_PERCENTAGE = 0.5/Math.pow(RESIZE_SCALING, 2);
+
+    /** The policy <code>MyArrayList</code> has always used. */
+    public static final ScalingGrowthPolicy DEFAULT = new ScalingGrowthPolicy(MIN_CAPACITY);
+
+    private final int initialCapacity;
+    private final double growthFactor;
+    private final double shrinkThreshold;
+    private final boolean shrinkable;
+
+    /**
+     * Constructs the default policy with a different initial capacity.
+     * @param initialCapacity the capacity a new or cleared list starts with
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public ScalingGrowthPolicy(int initialCapacity) throws IllegalArgumentException {
+        this(initialCapacity, RESIZE_SCALING, MIN_FILL_PERCENTAGE, true);
+    }
+
+    /**
+     * Constructs a policy.
+     * @param initialCapacity the capacity a new or cleared list starts with
+     * @param growthFactor    how much larger each grown array is; must be above 1
+     * @param shrinkThreshold the fill ratio below which the array shrinks; must leave
+     *                        a shrunk array less than full, i.e.
+     *                        <code>shrinkThreshold * growthFactor * growthFactor &lt; 1</code>
+     * @param shrinkable      false to never shrink the array on removal
+     * @throws IllegalArgumentException if any of the values is out of range
+     */
+    public ScalingGrowthPolicy(int initialCapacity, double growthFactor, double shrinkThreshold, boolean shrinkable)
+            throws IllegalArgumentException {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("initial capacity cannot be negative: " + initialCapacity);
+        if (!(growthFactor > 1))
+            throw new IllegalArgumentException("growth factor must be above 1: " + growthFactor);
+        if (!(shrinkThreshold >= 0) || shrinkThreshold * growthFactor * growthFactor >= 1)
+            throw new IllegalArgumentException("shrink threshold " + shrinkThreshold + " leaves no room to grow");
+        this.initialCapacity = initialCapacity;
+        this.growthFactor = growthFactor;
+        this.shrinkThreshold = shrinkThreshold;
+        this.shrinkable = shrinkable;
+    }
+
+    /**
+     * Returns a policy like the default one that never shrinks the array.
+     * @param initialCapacity the capacity a new or cleared list starts with
+     * @return the never-shrink policy
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public static ScalingGrowthPolicy neverShrink(int initialCapacity) throws IllegalArgumentException {
+        return new ScalingGrowthPolicy(initialCapacity, RESIZE_SCALING, MIN_FILL_PERCENTAGE, false);
+    }
+
+    @Override
+    public int initialCapacity() {
+        return initialCapacity;
+    }
+
+    @Override
+    public int grow(int capacity, int required) {
+        double newCapacity = capacity;
+        do newCapacity = Math.max(newCapacity + 1, Math.floor(newCapacity * growthFactor));
+        while(newCapacity < required);
+        return (int) newCapacity;
+    }
+
+    @Override
+    public int shrink(int capacity, int size) {
+        if (!shrinkable || capacity <= initialCapacity || size >= shrinkThreshold * capacity)
+            return capacity;
+        double firstScale = Math.ceil(capacity/growthFactor);
+        int reduced = (int) Math.ceil(firstScale/growthFactor);
+        return Math.max(Math.max(initialCapacity, size), reduced);
+    }
+}
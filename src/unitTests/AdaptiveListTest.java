@@ -0,0 +1,160 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyAdaptiveList;
+import implementations.MyAdaptiveList.Representation;
+
+/**
+ * Class Description:
+ * Test for the adaptive implementation of the ListADT, which moves between
+ * an array and a linked representation.
+ */
+
+public class AdaptiveListTest
+{
+	// Attributes
+	private MyAdaptiveList<Integer> myList;
+
+	/**
+	 * Initializes a new MyAdaptiveList holding 0 to 9999 before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new MyAdaptiveList<>();
+		for( int i = 0; i < 10000; i++ )
+		{
+			myList.add( i );
+		}
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for the constructor of MyAdaptiveList
+	 * to start as an array and not count appends.
+	 */
+	@Test
+	public void testConstructor()
+	{
+		assertEquals( "Failed to start as an array", Representation.ARRAY, myList.getRepresentation() );
+		assertEquals( "Failed to leave appends unsampled", 0, myList.getEndEditCount() );
+		assertEquals( "Failed to stay put for appends", 0, myList.getMigrationCount() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyAdaptiveList#add(int, Object)}
+	 * to move a long list to the linked representation under front inserts,
+	 * and back to the array under random reads.
+	 */
+	@Test
+	public void testMigrations()
+	{
+		for( int i = 0; i < 2048; i++ )
+		{
+			myList.add( 0, -1 - i );
+		}
+		assertEquals( "Failed to move to the linked representation", Representation.LINKED, myList.getRepresentation() );
+		assertTrue( "Failed to report the costs behind the move", myList.getLastArrayCost() > myList.getLastLinkedCost() );
+		assertEquals( "Failed to count the front inserts", 2048, myList.getEndEditCount() );
+
+		Random random = new Random( 25 );
+		for( int i = 0; i < 2048; i++ )
+		{
+			myList.get( random.nextInt( myList.size() ) );
+		}
+		assertEquals( "Failed to move back to the array", Representation.ARRAY, myList.getRepresentation() );
+		assertEquals( "Failed to count both moves", 2, myList.getMigrationCount() );
+		assertEquals( "Failed to count the reads", 2048, myList.getRandomAccessCount() );
+
+		assertEquals( "Failed to keep the front elements", Integer.valueOf( -2048 ), myList.get( 0 ) );
+		assertEquals( "Failed to keep the last element", Integer.valueOf( 9999 ), myList.get( myList.size() - 1 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyAdaptiveList#setAdaptive(boolean)}
+	 * to keep the representation when the model is turned off.
+	 */
+	@Test
+	public void testSetAdaptive_Off()
+	{
+		myList.setAdaptive( false );
+		for( int i = 0; i < 2048; i++ )
+		{
+			myList.add( 0, i );
+		}
+		assertEquals( "Failed to keep the array", Representation.ARRAY, myList.getRepresentation() );
+		assertEquals( "Failed to skip sampling", 0, myList.getEndEditCount() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyAdaptiveList#convertTo(Representation)}
+	 * to keep the elements and their order.
+	 */
+	@Test
+	public void testConvertTo()
+	{
+		myList.convertTo( Representation.LINKED );
+		assertEquals( "Failed to convert", Representation.LINKED, myList.getRepresentation() );
+		assertEquals( "Failed to keep the size", 10000, myList.size() );
+		assertEquals( "Failed to keep the order", Integer.valueOf( 1234 ), myList.get( 1234 ) );
+		myList.convertTo( Representation.LINKED );
+		assertEquals( "Failed to skip a conversion to the same representation", 1, myList.getMigrationCount() );
+	}
+
+	/**
+	 * Test method for the ListADT operations of MyAdaptiveList
+	 * to behave like java.util.ArrayList through a mix that migrates several times.
+	 */
+	@Test
+	public void testMatchesArrayList()
+	{
+		ArrayList<Integer> expected = new ArrayList<>();
+		for( int i = 0; i < 10000; i++ )
+		{
+			expected.add( i );
+		}
+		Random random = new Random( 2025 );
+		for( int phase = 0; phase < 6; phase++ )
+		{
+			for( int step = 0; step < 3000; step++ )
+			{
+				int index = phase % 2 == 0 ? random.nextInt( 3 ) : random.nextInt( expected.size() );
+				switch( random.nextInt( 4 ) )
+				{
+					case 0:
+						expected.add( index, step );
+						myList.add( index, step );
+						break;
+					case 1:
+						assertEquals( "Failed to remove", expected.remove( index ), myList.remove( index ) );
+						break;
+					case 2:
+						assertEquals( "Failed to set", expected.set( index, -step ), myList.set( index, -step ) );
+						break;
+					default:
+						assertEquals( "Failed to get", expected.get( index ), myList.get( index ) );
+				}
+			}
+		}
+		assertTrue( "Failed to migrate during the mix", myList.getMigrationCount() > 0 );
+		assertArrayEquals( "Failed to keep the elements", expected.toArray(), myList.toArray() );
+	}
+}
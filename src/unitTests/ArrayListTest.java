@@ -2,14 +2,22 @@ package unitTests;
 
 import static org.junit.Assert.*;
 
+import java.lang.management.ManagementFactory;
 import java.util.NoSuchElementException;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import implementations.ArrayListMetrics;
+import implementations.ArrayPool;
+import implementations.MyAdaptiveList;
 import implementations.MyArrayList;
 import implementations.MyDLL;
+import implementations.ScalingGrowthPolicy;
 import utilities.Iterator;
 
 /**
@@ -1299,4 +1307,1027 @@ public class ArrayListTest
 
 		assertArrayEquals( "Failed to convert list to array.", original, returnArray );
 	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#add(int, java.lang.Object)}
+	 * to insert items at the front of a circular list.
+	 */
+	@Test
+	public void testAddIntE_CircularFront()
+	{
+		MyArrayList<Integer> ring = new MyArrayList<>( true );
+		for( int i = 0; i < 50; i++ )
+		{
+			ring.add( 0, i );
+		}
+
+		assertTrue( "Failed to report circular mode.", ring.isCircular() );
+		assertEquals( "Failed to return correct size.", 50, ring.size() );
+		for( int i = 0; i < 50; i++ )
+		{
+			assertEquals( "Failed to keep items in order.", Integer.valueOf( 49 - i ), ring.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#remove(int)}
+	 * to use a circular list as a sliding window that wraps around the backing array.
+	 */
+	@Test
+	public void testRemoveInt_CircularSlidingWindow()
+	{
+		MyArrayList<Integer> ring = new MyArrayList<>( true );
+		for( int i = 0; i < 8; i++ )
+		{
+			ring.add( i );
+		}
+		for( int i = 8; i < 100; i++ )
+		{
+			assertEquals( "Failed to remove oldest item.", Integer.valueOf( i - 8 ), ring.remove( 0 ) );
+			ring.add( i );
+		}
+
+		Integer[] expected = { 92, 93, 94, 95, 96, 97, 98, 99 };
+		assertArrayEquals( "Failed to keep the window in order.", expected, ring.toArray( new Integer[8] ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#add(int, java.lang.Object)} and
+	 * {@link implementations.MyArrayList#remove(int)}
+	 * to keep a circular list consistent with java.util.ArrayList under mixed edits.
+	 */
+	@Test
+	public void testAddRemove_CircularMatchesArrayList()
+	{
+		MyArrayList<Integer> ring = new MyArrayList<>( true );
+		java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+		java.util.Random random = new java.util.Random( 304 );
+		for( int i = 0; i < 2000; i++ )
+		{
+			if( expected.isEmpty() || random.nextInt( 3 ) != 0 )
+			{
+				int index = random.nextInt( expected.size() + 1 );
+				ring.add( index, i );
+				expected.add( index, i );
+			}
+			else
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to remove correct item.", expected.remove( index ), ring.remove( index ) );
+			}
+		}
+
+		assertArrayEquals( "Failed to keep items in order.", expected.toArray(), ring.toArray() );
+		assertEquals( "Failed to find item.", expected.indexOf( 1999 ), ring.indexOf( 1999 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#MyArrayList(int)}
+	 * to create a list with the requested capacity.
+	 */
+	@Test
+	public void testConstructorInt()
+	{
+		MyArrayList<Integer> sized = new MyArrayList<>( 100 );
+		assertEquals( "Failed to return correct capacity.", 100, sized.capacity() );
+		assertEquals( "Failed to return correct size.", 0, sized.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#MyArrayList(int)}
+	 * to throw IllegalArgumentException for a negative capacity.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testConstructorInt_IllegalArgumentException()
+	{
+		new MyArrayList<Integer>( -1 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#clear()}
+	 * to keep the backing array so refilling the list does not allocate.
+	 */
+	@Test
+	public void testClear_KeepsCapacity()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			myList.add( i );
+		}
+		int capacity = myList.capacity();
+		myList.clear();
+
+		assertEquals( "Failed to keep capacity.", capacity, myList.capacity() );
+		assertEquals( "Failed to clear the list.", 0, myList.size() );
+		myList.add( one );
+		assertEquals( "Failed to reuse the list.", one, myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#ensureCapacity(int)} and
+	 * {@link implementations.MyArrayList#trimToSize()}.
+	 */
+	@Test
+	public void testEnsureCapacityAndTrimToSize()
+	{
+		myList.ensureCapacity( 1000 );
+		assertTrue( "Failed to grow the backing array.", myList.capacity() >= 1000 );
+		myList.add( one );
+		myList.add( two );
+		myList.trimToSize();
+
+		assertEquals( "Failed to trim the backing array.", 2, myList.capacity() );
+		myList.add( three );
+		assertEquals( "Failed to grow after trimming.", three, myList.get( 2 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#remove(int)}
+	 * to shrink the backing array once and not again while the size hovers near the threshold.
+	 */
+	@Test
+	public void testRemoveInt_ShrinkHysteresis()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			myList.add( i );
+		}
+		int grownCapacity = myList.capacity();
+		while( myList.capacity() == grownCapacity )
+		{
+			myList.remove( myList.size() - 1 );
+		}
+		int capacity = myList.capacity();
+		for( int i = 0; i < 50; i++ )
+		{
+			myList.add( i );
+			myList.remove( myList.size() - 1 );
+		}
+
+		assertEquals( "Failed to avoid reallocating near the threshold.", capacity, myList.capacity() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ScalingGrowthPolicy#neverShrink(int)}
+	 * to keep the backing array when every item is removed.
+	 */
+	@Test
+	public void testRemoveInt_NeverShrink()
+	{
+		MyArrayList<Integer> grown = new MyArrayList<>( ScalingGrowthPolicy.neverShrink( 10 ), false );
+		for( int i = 0; i < 100; i++ )
+		{
+			grown.add( i );
+		}
+		int capacity = grown.capacity();
+		while( !grown.isEmpty() )
+		{
+			grown.remove( 0 );
+		}
+
+		assertEquals( "Failed to keep capacity.", capacity, grown.capacity() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ScalingGrowthPolicy#ScalingGrowthPolicy(int, double, double, boolean)}
+	 * to reject a shrink threshold that would leave a shrunk array full.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testGrowthPolicy_IllegalArgumentException()
+	{
+		new ScalingGrowthPolicy( 10, 2.0, 0.5, true );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#addAll(utilities.ListADT)}
+	 * to append a large DLL by walking it once.
+	 */
+	@Test
+	public void testAddAll_LargeDLL()
+	{
+		MyDLL<Integer> source = new MyDLL<>();
+		for( int i = 0; i < 100000; i++ )
+		{
+			source.add( i );
+		}
+		myList.add( -1 );
+		myList.addAll( source );
+
+		assertEquals( "Failed to return correct size.", 100001, myList.size() );
+		assertEquals( "Failed to append first item.", Integer.valueOf( 0 ), myList.get( 1 ) );
+		assertEquals( "Failed to append last item.", Integer.valueOf( 99999 ), myList.get( 100000 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#addAll(utilities.ListADT)}
+	 * to append a list to itself and to a wrapped circular list.
+	 */
+	@Test
+	public void testAddAll_SelfAndCircular()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.addAll( myList );
+		assertArrayEquals( "Failed to append list to itself.", new Integer[] { 1, 2, 1, 2 }, myList.toArray() );
+
+		MyArrayList<Integer> ring = new MyArrayList<>( true );
+		for( int i = 0; i < 10; i++ )
+		{
+			ring.add( i );
+		}
+		for( int i = 0; i < 6; i++ )
+		{
+			ring.remove( 0 );
+		}
+		ring.addAll( myList );
+		assertArrayEquals( "Failed to append to circular list.", new Integer[] { 6, 7, 8, 9, 1, 2, 1, 2 }, ring.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#addAll(int, utilities.ListADT)}
+	 * to insert an array list and a DLL in the middle of the list.
+	 */
+	@Test
+	public void testAddAllInt()
+	{
+		MyArrayList<Integer> array = new MyArrayList<>();
+		array.add( two );
+		array.add( three );
+		MyDLL<Integer> linked = new MyDLL<>();
+		linked.add( four );
+		myList.add( one );
+		myList.add( five );
+
+		assertTrue( "Failed to return true.", myList.addAll( 1, array ) );
+		myList.addAll( 3, linked );
+		assertArrayEquals( "Failed to insert lists in order.", new Integer[] { 1, 2, 3, 4, 5 }, myList.toArray() );
+
+		myList.addAll( 0, myList );
+		assertEquals( "Failed to insert list into itself.", 10, myList.size() );
+		assertEquals( "Failed to insert list into itself.", five, myList.get( 4 ) );
+		assertEquals( "Failed to insert list into itself.", one, myList.get( 5 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#addAll(int, utilities.ListADT)}
+	 * to throw IndexOutOfBoundsException for an index past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testAddAllInt_IndexOutOfBoundsException()
+	{
+		myList.add( one );
+		myList.addAll( 2, new MyArrayList<Integer>() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#spliterator()}
+	 * to report the characteristics of array-backed storage.
+	 */
+	@Test
+	public void testSpliterator_Characteristics()
+	{
+		myList.add( one );
+		myList.add( two );
+		java.util.Spliterator<Integer> split = myList.spliterator();
+
+		assertTrue( "Failed to report SIZED.", split.hasCharacteristics( java.util.Spliterator.SIZED ) );
+		assertTrue( "Failed to report SUBSIZED.", split.hasCharacteristics( java.util.Spliterator.SUBSIZED ) );
+		assertTrue( "Failed to report ORDERED.", split.hasCharacteristics( java.util.Spliterator.ORDERED ) );
+		assertTrue( "Failed to report NONNULL.", split.hasCharacteristics( java.util.Spliterator.NONNULL ) );
+		assertEquals( "Failed to estimate size.", 2, split.estimateSize() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#parallelStream()}
+	 * to sum and collect a large circular list in order.
+	 */
+	@Test
+	public void testParallelStream()
+	{
+		MyArrayList<Integer> ring = new MyArrayList<>( true );
+		for( int i = 0; i < 100000; i++ )
+		{
+			ring.add( i );
+		}
+		for( int i = 0; i < 1000; i++ )
+		{
+			ring.remove( 0 );
+			ring.add( 100000 + i );
+		}
+
+		long expected = 0;
+		for( int i = 1000; i < 101000; i++ )
+		{
+			expected += i;
+		}
+		assertEquals( "Failed to sum the list.", expected, ring.parallelStream().mapToLong( Integer::longValue ).sum() );
+		assertArrayEquals( "Failed to keep order.", ring.toArray(), ring.parallelStream().toArray() );
+		assertEquals( "Failed to stream sequentially.", Integer.valueOf( 1000 ), ring.stream().findFirst().get() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#parallelIndexOf(java.lang.Object)}
+	 * to return the lowest index of an item that appears in several ranges.
+	 */
+	@Test
+	public void testParallelIndexOf()
+	{
+		for( int i = 0; i < 100000; i++ )
+		{
+			myList.add( i % 30000 );
+		}
+		myList.setParallelThreshold( 64 );
+
+		assertEquals( "Failed to find lowest index.", 12345, myList.parallelIndexOf( 12345 ) );
+		assertEquals( "Failed to find last item.", 29999, myList.parallelIndexOf( 29999 ) );
+		assertEquals( "Failed to report missing item.", -1, myList.parallelIndexOf( -5 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#parallelCount(java.util.function.Predicate)},
+	 * {@link implementations.MyArrayList#parallelReduce(java.lang.Object, java.util.function.BinaryOperator)} and
+	 * {@link implementations.MyArrayList#parallelForEach(java.util.function.Consumer)}.
+	 */
+	@Test
+	public void testParallelCountReduceForEach()
+	{
+		for( int i = 0; i < 100000; i++ )
+		{
+			myList.add( i );
+		}
+		myList.setParallelThreshold( 1000 );
+		java.util.concurrent.atomic.AtomicLong visited = new java.util.concurrent.atomic.AtomicLong();
+		myList.parallelForEach( item -> visited.addAndGet( item ) );
+
+		assertEquals( "Failed to count matches.", 50000, myList.parallelCount( item -> item % 2 == 0 ) );
+		assertEquals( "Failed to reduce the list.", Integer.valueOf( 99999 ), myList.parallelReduce( 0, Math::max ) );
+		assertEquals( "Failed to visit every item.", 100000L * 99999L / 2, visited.get() );
+		assertEquals( "Failed to reduce an empty list.", Integer.valueOf( 0 ), new MyArrayList<Integer>().parallelReduce( 0, Integer::sum ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#setParallelThreshold(int)}
+	 * to throw IllegalArgumentException for a threshold below one.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testSetParallelThreshold_IllegalArgumentException()
+	{
+		myList.setParallelThreshold( 0 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#enableIndex()}
+	 * to keep first occurrences right while a circular list is edited near its front.
+	 */
+	@Test
+	public void testEnableIndex_CircularFrontEdits()
+	{
+		MyArrayList<Integer> ring = new MyArrayList<>( true );
+		java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+		java.util.Random random = new java.util.Random( 812 );
+		ring.enableIndex();
+		for( int i = 0; i < 3000; i++ )
+		{
+			int value = random.nextInt( 20 );
+			int near = Math.min( expected.size(), random.nextInt( 3 ) );
+			switch( random.nextInt( 4 ) )
+			{
+				case 0:
+				case 1:
+					ring.add( near, value );
+					expected.add( near, value );
+					break;
+				case 2:
+					if( near < expected.size() )
+					{
+						assertEquals( "Failed to remove correct item.", expected.remove( near ), ring.remove( near ) );
+					}
+					break;
+				default:
+					MyArrayList<Integer> pair = new MyArrayList<>();
+					pair.add( value );
+					pair.add( value + 1 );
+					ring.addAll( near, pair );
+					expected.add( near, value );
+					expected.add( near + 1, value + 1 );
+			}
+			assertEquals( "Failed to find first occurrence.", expected.indexOf( value ), ring.indexOf( value ) );
+		}
+		for( int value = 0; value <= 20; value++ )
+		{
+			assertEquals( "Failed to find first occurrence.", expected.indexOf( value ), ring.indexOf( value ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#enableIndex()}
+	 * to keep indexOf and contains consistent with java.util.ArrayList under mixed edits.
+	 */
+	@Test
+	public void testEnableIndex_MatchesArrayList()
+	{
+		java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+		java.util.Random random = new java.util.Random( 304 );
+		myList.enableIndex();
+		for( int i = 0; i < 3000; i++ )
+		{
+			int value = random.nextInt( 200 );
+			switch( random.nextInt( 5 ) )
+			{
+				case 0:
+					int insertAt = random.nextInt( expected.size() + 1 );
+					myList.add( insertAt, value );
+					expected.add( insertAt, value );
+					break;
+				case 1:
+					if( !expected.isEmpty() )
+					{
+						int removeAt = random.nextInt( expected.size() );
+						assertEquals( "Failed to remove correct item.", expected.remove( removeAt ), myList.remove( removeAt ) );
+					}
+					break;
+				case 2:
+					if( !expected.isEmpty() )
+					{
+						int setAt = random.nextInt( expected.size() );
+						myList.set( setAt, value );
+						expected.set( setAt, value );
+					}
+					break;
+				case 3:
+					assertEquals( "Failed to remove first occurrence.", expected.remove( Integer.valueOf( value ) ), myList.remove( Integer.valueOf( value ) ) != null );
+					break;
+				default:
+					myList.add( value );
+					expected.add( value );
+			}
+			assertEquals( "Failed to find first occurrence.", expected.indexOf( value ), myList.indexOf( value ) );
+			assertEquals( "Failed to report membership.", expected.contains( value ), myList.contains( value ) );
+		}
+		assertArrayEquals( "Failed to keep items in order.", expected.toArray(), myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#indexFootprint()}
+	 * to report the index size only while the index is enabled.
+	 */
+	@Test
+	public void testIndexFootprint()
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			myList.add( i );
+		}
+		assertEquals( "Failed to report no index.", 0, myList.indexFootprint() );
+		myList.enableIndex();
+
+		assertTrue( "Failed to report index.", myList.isIndexed() );
+		assertTrue( "Failed to report index size.", myList.indexFootprint() > 1000 * 32 );
+		myList.clear();
+		assertFalse( "Failed to clear the index.", myList.contains( 5 ) );
+		myList.disableIndex();
+		assertEquals( "Failed to drop the index.", 0, myList.indexFootprint() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#sort(java.util.Comparator)} and
+	 * {@link implementations.MyArrayList#parallelSort(java.util.Comparator)}
+	 * to sort a list in both orders.
+	 */
+	@Test
+	public void testSortAndParallelSort()
+	{
+		java.util.Random random = new java.util.Random( 304 );
+		Integer[] expected = new Integer[20000];
+		for( int i = 0; i < expected.length; i++ )
+		{
+			expected[i] = random.nextInt();
+			myList.add( expected[i] );
+		}
+		java.util.Arrays.sort( expected );
+
+		myList.sort( null );
+		assertArrayEquals( "Failed to sort in natural order.", expected, myList.toArray() );
+		myList.parallelSort( java.util.Collections.reverseOrder() );
+		assertEquals( "Failed to sort in reverse order.", expected[expected.length - 1], myList.get( 0 ) );
+		assertEquals( "Failed to sort in reverse order.", expected[0], myList.get( expected.length - 1 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#sort(java.util.Comparator)}
+	 * to sort a circular list that wraps around its backing array and keep its index current.
+	 */
+	@Test
+	public void testSort_CircularIndexed()
+	{
+		MyArrayList<Integer> ring = new MyArrayList<>( true );
+		for( int i = 0; i < 8; i++ )
+		{
+			ring.add( 0, i );
+		}
+		ring.enableIndex();
+		ring.sort( null );
+
+		assertArrayEquals( "Failed to sort circular list.", new Integer[] { 0, 1, 2, 3, 4, 5, 6, 7 }, ring.toArray() );
+		assertEquals( "Failed to rebuild the index.", 6, ring.indexOf( 6 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#binarySearch(java.lang.Object, java.util.Comparator)}
+	 * to find items and insertion points in a sorted list.
+	 */
+	@Test
+	public void testBinarySearch()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			myList.add( i * 2 );
+		}
+
+		assertEquals( "Failed to find item.", 21, myList.binarySearch( 42, null ) );
+		assertEquals( "Failed to return insertion point.", -22, myList.binarySearch( 41, null ) );
+		assertEquals( "Failed to return insertion point past the end.", -101, myList.binarySearch( 500, null ) );
+		assertEquals( "Failed to search an empty list.", -1, new MyArrayList<Integer>().binarySearch( 1, null ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#subList(int, int)}
+	 * to read and write through to the list without copying.
+	 */
+	@Test
+	public void testSubList_WriteThrough()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+		MyArrayList<Integer>.SubList view = myList.subList( 2, 6 );
+
+		assertEquals( "Failed to size the view.", 4, view.size() );
+		assertEquals( "Failed to read through.", Integer.valueOf( 2 ), view.get( 0 ) );
+		view.set( 0, 20 );
+		assertEquals( "Failed to write through.", Integer.valueOf( 20 ), myList.get( 2 ) );
+		view.add( 99 );
+		assertEquals( "Failed to insert at the end of the view.", Integer.valueOf( 99 ), myList.get( 6 ) );
+		assertEquals( "Failed to grow the list.", 11, myList.size() );
+		assertEquals( "Failed to remove through the view.", Integer.valueOf( 3 ), view.remove( 1 ) );
+		assertArrayEquals( "Failed to copy the range.", new Integer[] { 20, 4, 5, 99 }, view.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#subList(int, int)}
+	 * to restrict indexOf, forEach and nested views to the range.
+	 */
+	@Test
+	public void testSubList_RangeRestricted()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i % 5 );
+		}
+		MyArrayList<Integer>.SubList view = myList.subList( 3, 8 );
+		java.util.List<Integer> visited = new java.util.ArrayList<>();
+		view.forEach( visited::add );
+
+		assertEquals( "Failed to search within the view.", 2, view.indexOf( 0 ) );
+		assertEquals( "Failed to report item outside the view.", -1, myList.subList( 0, 3 ).indexOf( 4 ) );
+		assertEquals( "Failed to visit the range.", java.util.Arrays.asList( 3, 4, 0, 1, 2 ), visited );
+		MyArrayList<Integer>.SubList inner = view.subList( 1, 3 );
+		inner.clear();
+		assertEquals( "Failed to shrink the outer view.", 3, view.size() );
+		assertArrayEquals( "Failed to remove the range once.", new Integer[] { 0, 1, 2, 3, 1, 2, 3, 4 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#subList(int, int)}
+	 * to throw ConcurrentModificationException after the list changes around the view.
+	 */
+	@Test( expected = java.util.ConcurrentModificationException.class )
+	public void testSubList_Stale()
+	{
+		myList.add( one );
+		myList.add( two );
+		MyArrayList<Integer>.SubList view = myList.subList( 0, 1 );
+		myList.add( three );
+		view.get( 0 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#subList(int, int)}
+	 * to throw IndexOutOfBoundsException for a reversed range.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testSubList_IndexOutOfBoundsException()
+	{
+		myList.add( one );
+		myList.subList( 1, 0 );
+	}
+
+	/**
+	 * Serializes an object and reads it back.
+	 */
+	@SuppressWarnings( "unchecked" )
+	private static <T> T roundTrip( T toCopy ) throws Exception
+	{
+		java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+		try( java.io.ObjectOutputStream out = new java.io.ObjectOutputStream( bytes ) )
+		{
+			out.writeObject( toCopy );
+		}
+		try( java.io.ObjectInputStream in = new java.io.ObjectInputStream( new java.io.ByteArrayInputStream( bytes.toByteArray() ) ) )
+		{
+			return (T) in.readObject();
+		}
+	}
+
+	/**
+	 * Test method for the serialized form of {@link implementations.MyArrayList}
+	 * to keep the elements in order and trim the capacity to the size.
+	 * @throws Exception if serialization fails
+	 */
+	@Test
+	public void testSerialization_WrappedRing() throws Exception
+	{
+		MyArrayList<Integer> ring = new MyArrayList<>( true );
+		for( int i = 0; i < 8; i++ )
+		{
+			ring.add( i );
+		}
+		for( int i = 0; i < 5; i++ )
+		{
+			ring.remove( 0 );
+			ring.add( 100 + i );
+		}
+		MyArrayList<Integer> copy = roundTrip( ring );
+
+		assertArrayEquals( "Failed to keep the elements in order.", ring.toArray(), copy.toArray() );
+		assertEquals( "Failed to trim the capacity.", ring.size(), copy.capacity() );
+		assertTrue( "Failed to keep circular mode.", copy.isCircular() );
+		copy.add( 0, -1 );
+		copy.add( 200 );
+		assertEquals( "Failed to grow after reading.", Integer.valueOf( -1 ), copy.get( 0 ) );
+		assertEquals( "Failed to append after reading.", Integer.valueOf( 200 ), copy.get( 9 ) );
+	}
+
+	/**
+	 * Test method for the serialized form of {@link implementations.MyArrayList}
+	 * to rebuild the hash index and read back an empty list.
+	 * @throws Exception if serialization fails
+	 */
+	@Test
+	public void testSerialization_IndexAndEmpty() throws Exception
+	{
+		myList.enableIndex();
+		myList.add( one );
+		myList.add( two );
+		myList.add( one );
+		MyArrayList<Integer> copy = roundTrip( myList );
+
+		assertTrue( "Failed to keep the index.", copy.isIndexed() );
+		assertEquals( "Failed to rebuild the index.", 1, copy.indexOf( two ) );
+		copy.remove( 0 );
+		assertEquals( "Failed to update the rebuilt index.", 1, copy.indexOf( one ) );
+
+		MyArrayList<Integer> empty = roundTrip( new MyArrayList<Integer>() );
+		assertTrue( "Failed to read an empty list.", empty.isEmpty() );
+		empty.add( three );
+		assertEquals( "Failed to add to a read empty list.", Integer.valueOf( 3 ), empty.get( 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#forEach(java.util.function.Consumer)}
+	 * to visit a wrapped ring in list order, and for the iterator's
+	 * forEachRemaining to continue where next() stopped.
+	 */
+	@Test
+	public void testForEach_WrappedRing()
+	{
+		MyArrayList<Integer> ring = new MyArrayList<>( true );
+		for( int i = 0; i < 6; i++ )
+		{
+			ring.add( i );
+		}
+		ring.add( 0, -1 );
+		ring.add( 0, -2 );
+		java.util.List<Integer> visited = new java.util.ArrayList<>();
+		ring.forEach( visited::add );
+		java.util.List<Integer> rest = new java.util.ArrayList<>();
+		Iterator<Integer> it = ring.iterator();
+		it.next();
+		it.forEachRemaining( rest::add );
+
+		assertEquals( "Failed to visit in order.", java.util.Arrays.asList( -2, -1, 0, 1, 2, 3, 4, 5 ), visited );
+		assertEquals( "Failed to continue after next.", visited.subList( 1, 8 ), rest );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#forEach(java.util.function.Consumer)}
+	 * to throw ConcurrentModificationException when the action changes the list.
+	 */
+	@Test( expected = java.util.ConcurrentModificationException.class )
+	public void testForEach_ConcurrentModification()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.forEach( item -> myList.add( item ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#replaceAll(java.util.function.UnaryOperator)}
+	 * to replace in place and keep the hash index current.
+	 */
+	@Test
+	public void testReplaceAll()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+		myList.enableIndex();
+		myList.replaceAll( item -> item * 10 );
+
+		assertArrayEquals( "Failed to replace every element.", new Integer[] { 10, 20, 30 }, myList.toArray() );
+		assertEquals( "Failed to index the new elements.", 1, myList.indexOf( 20 ) );
+		assertFalse( "Failed to unindex the old elements.", myList.contains( two ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#removeIf(java.util.function.Predicate)}
+	 * to compact the survivors in order, shrink the array and rebuild the index.
+	 */
+	@Test
+	public void testRemoveIf_Compacts()
+	{
+		MyArrayList<Integer> ring = new MyArrayList<>( true );
+		for( int i = 0; i < 200; i++ )
+		{
+			ring.add( 0, i );
+		}
+		ring.enableIndex();
+		int capacity = ring.capacity();
+
+		assertTrue( "Failed to report a removal.", ring.removeIf( item -> item % 20 != 0 ) );
+		assertArrayEquals( "Failed to keep the survivors in order.", new Integer[] { 180, 160, 140, 120, 100, 80, 60, 40, 20, 0 }, ring.toArray() );
+		assertTrue( "Failed to shrink the array.", ring.capacity() < capacity );
+		assertEquals( "Failed to rebuild the index.", 9, ring.indexOf( 0 ) );
+		assertFalse( "Failed to report no removal.", ring.removeIf( item -> item < 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#removeIf(java.util.function.Predicate)}
+	 * to leave the list unchanged when the predicate throws.
+	 */
+	@Test
+	public void testRemoveIf_PredicateThrows()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+		try
+		{
+			myList.removeIf( item ->
+			{
+				if( item == 3 )
+					throw new IllegalStateException();
+				return true;
+			} );
+			fail( "Failed to pass on the exception." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertArrayEquals( "Failed to leave the list unchanged.", new Integer[] { 1, 2, 3 }, myList.toArray() );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList.SubList#removeIf(java.util.function.Predicate)}
+	 * to remove only within the view.
+	 */
+	@Test
+	public void testSubList_RemoveIf()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+		MyArrayList<Integer>.SubList view = myList.subList( 2, 8 );
+
+		assertTrue( "Failed to report a removal.", view.removeIf( item -> item % 2 == 0 ) );
+		assertEquals( "Failed to shrink the view.", 3, view.size() );
+		assertArrayEquals( "Failed to remove within the view.", new Integer[] { 0, 1, 3, 5, 7, 8, 9 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayList#setMetrics(implementations.ArrayListMetrics)}
+	 * to count resizes, copies and element shifts.
+	 */
+	@Test
+	public void testMetrics()
+	{
+		MyArrayList<Integer> list = new MyArrayList<>();
+		assertNull( "Failed to start without metrics", list.getMetrics() );
+		ArrayListMetrics metrics = new ArrayListMetrics();
+		list.setMetrics( metrics );
+		for( int i = 0; i < 100; i++ )
+		{
+			list.add( i );
+		}
+		assertTrue( "Failed to count the resizes", metrics.getResizeCount() > 0 );
+		assertTrue( "Failed to count the bytes copied", metrics.getBytesCopied() > 0 );
+		assertEquals( "Failed to track the peak capacity", list.capacity(), metrics.getPeakCapacity() );
+		assertEquals( "Failed to count no shifts for appends", 0, metrics.getElementShifts() );
+
+		list.add( 0, -1 );
+		assertEquals( "Failed to count the shifts of an insert", 100, metrics.getElementShifts() );
+		list.remove( 90 );
+		assertEquals( "Failed to count the shifts of a removal", 110, metrics.getElementShifts() );
+
+		while( list.size() > 1 )
+		{
+			list.remove( list.size() - 1 );
+		}
+		assertTrue( "Failed to count the shrinks", metrics.getShrinkCount() > 0 );
+		metrics.reset();
+		assertEquals( "Failed to reset the counters", 0, metrics.getResizeCount() + metrics.getShrinkCount() + metrics.getElementShifts() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayList#setDefaultMetrics(implementations.ArrayListMetrics)}
+	 * to share metrics between lists created afterwards.
+	 */
+	@Test
+	public void testDefaultMetrics()
+	{
+		ArrayListMetrics metrics = new ArrayListMetrics();
+		MyArrayList<Integer> before = new MyArrayList<>();
+		MyArrayList.setDefaultMetrics( metrics );
+		try
+		{
+			MyArrayList<Integer> first = new MyArrayList<>();
+			MyArrayList<Integer> second = new MyArrayList<>();
+			assertSame( "Failed to attach the default metrics", metrics, first.getMetrics() );
+			assertNull( "Failed to leave existing lists alone", before.getMetrics() );
+			first.add( 1 );
+			first.add( 0, 0 );
+			second.add( 1 );
+			second.add( 0, 0 );
+			assertEquals( "Failed to combine the shifts of both lists", 2, metrics.getElementShifts() );
+		}
+		finally
+		{
+			MyArrayList.setDefaultMetrics( null );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayList#setDefaultMetrics(implementations.ArrayListMetrics)}
+	 * to leave out the lists other classes create internally.
+	 */
+	@Test
+	public void testDefaultMetrics_InternalLists()
+	{
+		ArrayListMetrics metrics = new ArrayListMetrics();
+		MyArrayList.setDefaultMetrics( metrics );
+		try
+		{
+			MyDLL<Integer> linked = new MyDLL<>();
+			linked.enableIndex();
+			MyAdaptiveList<Integer> adaptive = new MyAdaptiveList<>();
+			for( int i = 0; i < 100; i++ )
+			{
+				linked.add( i % 10 );
+				adaptive.add( 0, i );
+			}
+			adaptive.addAll( adaptive );
+			adaptive.convertTo( MyAdaptiveList.Representation.LINKED );
+			adaptive.convertTo( MyAdaptiveList.Representation.ARRAY );
+
+			assertEquals( "Failed to leave out internal resizes", 0, metrics.getResizeCount() );
+			assertEquals( "Failed to leave out internal shifts", 0, metrics.getElementShifts() );
+			assertEquals( "Failed to leave out internal capacity", 0, metrics.getPeakCapacity() );
+		}
+		finally
+		{
+			MyArrayList.setDefaultMetrics( null );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.ArrayListMetrics#register(String)}
+	 * to publish the counters as MBean attributes.
+	 * @throws Exception if the MBean cannot be registered
+	 */
+	@Test
+	public void testMetricsMBean() throws Exception
+	{
+		ArrayListMetrics metrics = new ArrayListMetrics();
+		MyArrayList<Integer> list = new MyArrayList<>();
+		list.setMetrics( metrics );
+		for( int i = 0; i < 50; i++ )
+		{
+			list.add( i );
+		}
+		ObjectName name = metrics.register( "implementations:type=ArrayListMetrics,name=ArrayListTest" );
+		try
+		{
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			assertEquals( "Failed to publish the resize count", metrics.getResizeCount(), server.getAttribute( name, "ResizeCount" ) );
+			assertEquals( "Failed to publish the peak capacity", (long) list.capacity(), server.getAttribute( name, "PeakCapacity" ) );
+			server.invoke( name, "reset", null, null );
+			assertEquals( "Failed to reset through the MBean", 0L, metrics.getResizeCount() );
+		}
+		finally
+		{
+			ArrayListMetrics.unregister( name );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyArrayList#release()}
+	 * to hand the backing array to the pool for the next list to borrow.
+	 */
+	@Test
+	public void testRelease_Pool()
+	{
+		ArrayPool pool = new ArrayPool();
+		MyArrayList<Integer> first = new MyArrayList<>( ScalingGrowthPolicy.DEFAULT, false, pool );
+		for( int i = 0; i < 100; i++ )
+		{
+			first.add( i );
+		}
+		int capacity = first.capacity();
+		first.release();
+		assertTrue( "Failed to empty the list", first.isEmpty() );
+		assertTrue( "Failed to return to the initial capacity", first.capacity() >= 10 && first.capacity() < 20 );
+
+		pool.resetStatistics();
+		MyArrayList<Integer> second = new MyArrayList<>( ScalingGrowthPolicy.DEFAULT, false, pool );
+		second.ensureCapacity( capacity );
+		assertEquals( "Failed to reuse the released array", capacity, second.capacity() );
+		assertEquals( "Failed to count the hits", 2, pool.getHits() );
+		assertEquals( "Failed to count no misses", 0, pool.getMisses() );
+		assertEquals( "Failed to compute the hit rate", 1.0, pool.hitRate(), 0 );
+	}
+
+	/**
+	 * Test method for a pooled {@link implementations.MyArrayList}
+	 * to keep its elements through growth and shrinking with recycled arrays.
+	 */
+	@Test
+	public void testPool_GrowAndShrink()
+	{
+		ArrayPool pool = new ArrayPool();
+		MyArrayList<Integer> list = new MyArrayList<>( ScalingGrowthPolicy.DEFAULT, true, pool );
+		for( int round = 0; round < 3; round++ )
+		{
+			for( int i = 0; i < 500; i++ )
+			{
+				list.add( 0, i );
+			}
+			for( int i = 499; i > 10; i-- )
+			{
+				assertEquals( "Failed to keep the elements", Integer.valueOf( i ), list.remove( 0 ) );
+			}
+			assertTrue( "Failed to shrink below the peak", list.capacity() < 500 );
+			list.removeIf( x -> x % 2 == 0 );
+			assertEquals( "Failed to remove the even elements", 5, list.size() );
+			list.release();
+		}
+		assertTrue( "Failed to reuse arrays on later rounds", pool.getHits() > 0 );
+		assertTrue( "Failed to recycle the outgrown arrays", pool.getRecycled() > 0 );
+	}
 }
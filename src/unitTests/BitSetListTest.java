@@ -0,0 +1,253 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyBitSetList;
+import utilities.BooleanIterator;
+import utilities.IntIterator;
+
+/**
+ * Class Description:
+ * Test for the bitset implementation of the BooleanListADT.
+ */
+
+public class BitSetListTest
+{
+	// Attributes
+	private MyBitSetList myList;
+
+	/**
+	 * Initializes a new MyBitSetList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new MyBitSetList();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Builds a list and a matching BitSet from random bits.
+	 */
+	private static MyBitSetList random( int size, long seed, BitSet expected )
+	{
+		Random random = new Random( seed );
+		MyBitSetList list = new MyBitSetList();
+		for( int i = 0; i < size; i++ )
+		{
+			boolean bit = random.nextInt( 3 ) == 0;
+			list.add( bit );
+			expected.set( i, bit );
+		}
+		return list;
+	}
+
+	private static void assertBits( String message, BitSet expected, int size, MyBitSetList actual )
+	{
+		assertEquals( message + " (size)", size, actual.size() );
+		for( int i = 0; i < size; i++ )
+		{
+			assertEquals( message + " at " + i, expected.get( i ), actual.get( i ) );
+		}
+		assertEquals( message + " (cardinality)", expected.cardinality(), actual.cardinality() );
+	}
+
+	/**
+	 * Test method for constructor of MyBitSetList class.
+	 */
+	@Test
+	public void testConstructor()
+	{
+		assertEquals( "Failed to return correct size", 0, myList.size() );
+		MyBitSetList sized = new MyBitSetList( 100 );
+		assertEquals( "Failed to create a sized list", 100, sized.size() );
+		assertEquals( "Failed to clear every value", -1, sized.indexOf( true ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBitSetList#add(int, boolean)} and
+	 * {@link implementations.MyBitSetList#remove(int)}
+	 * to shift the bits across word boundaries like a list of Booleans.
+	 */
+	@Test
+	public void testAddAndRemoveAtIndex()
+	{
+		ArrayList<Boolean> expected = new ArrayList<>();
+		Random random = new Random( 20 );
+		for( int step = 0; step < 3000; step++ )
+		{
+			if( expected.isEmpty() || random.nextInt( 3 ) != 0 )
+			{
+				int index = random.nextInt( expected.size() + 1 );
+				boolean bit = random.nextBoolean();
+				expected.add( index, bit );
+				myList.add( index, bit );
+			}
+			else
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to return the removed value", expected.remove( index ), myList.remove( index ) );
+			}
+		}
+		int count = 0;
+		BooleanIterator it = myList.iterator();
+		for( int i = 0; i < expected.size(); i++ )
+		{
+			assertEquals( "Failed to keep the value at " + i, expected.get( i ), it.nextBoolean() );
+			if( expected.get( i ) )
+			{
+				count++;
+			}
+		}
+		assertFalse( "Failed to end the iteration", it.hasNext() );
+		assertEquals( "Failed to clear the bits past the end", count, myList.cardinality() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBitSetList#nextSetBit(int)},
+	 * {@link implementations.MyBitSetList#nextClearBit(int)} and
+	 * {@link implementations.MyBitSetList#setBits()}
+	 * to find the same bits as java.util.BitSet.
+	 */
+	@Test
+	public void testNextSetBit()
+	{
+		BitSet expected = new BitSet();
+		myList = random( 1000, 7, expected );
+		for( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( "Failed to find the next set bit", expected.nextSetBit( i ), myList.nextSetBit( i ) );
+			int clear = expected.nextClearBit( i );
+			assertEquals( "Failed to find the next clear bit", clear < 1000 ? clear : -1, myList.nextClearBit( i ) );
+		}
+		IntIterator it = myList.setBits();
+		for( int i = expected.nextSetBit( 0 ); i >= 0; i = expected.nextSetBit( i + 1 ) )
+		{
+			assertEquals( "Failed to iterate the set bits", i, it.nextInt() );
+		}
+		assertFalse( "Failed to end the set bits", it.hasNext() );
+		assertEquals( "Failed to stop at the end", -1, myList.nextSetBit( 1000 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBitSetList#and(MyBitSetList)},
+	 * {@link implementations.MyBitSetList#or(MyBitSetList)},
+	 * {@link implementations.MyBitSetList#xor(MyBitSetList)} and
+	 * {@link implementations.MyBitSetList#andNot(MyBitSetList)}
+	 * to combine lists of different sizes like java.util.BitSet.
+	 */
+	@Test
+	public void testBulkOperations()
+	{
+		BitSet a = new BitSet();
+		BitSet b = new BitSet();
+		MyBitSetList longer = random( 300, 1, a );
+		MyBitSetList shorter = random( 170, 2, b );
+
+		MyBitSetList and = random( 300, 1, new BitSet() );
+		and.and( shorter );
+		BitSet expected = (BitSet) a.clone();
+		expected.and( b );
+		assertBits( "Failed to and", expected, 300, and );
+
+		MyBitSetList or = random( 170, 2, new BitSet() );
+		or.or( longer );
+		expected = (BitSet) b.clone();
+		expected.or( a );
+		assertBits( "Failed to or", expected, 300, or );
+
+		MyBitSetList xor = random( 300, 1, new BitSet() );
+		xor.xor( shorter );
+		expected = (BitSet) a.clone();
+		expected.xor( b );
+		assertBits( "Failed to xor", expected, 300, xor );
+
+		MyBitSetList andNot = random( 170, 2, new BitSet() );
+		andNot.andNot( longer );
+		expected = (BitSet) b.clone();
+		expected.andNot( a );
+		assertBits( "Failed to and not", expected, 170, andNot );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBitSetList#addAll(utilities.BooleanListADT)}
+	 * to append a bitset list at an offset that is not a word boundary.
+	 */
+	@Test
+	public void testAddAll()
+	{
+		BitSet expected = new BitSet();
+		myList = random( 37, 3, expected );
+		BitSet more = new BitSet();
+		MyBitSetList other = random( 200, 4, more );
+		myList.addAll( other );
+		for( int i = 0; i < 200; i++ )
+		{
+			expected.set( 37 + i, more.get( i ) );
+		}
+		assertBits( "Failed to append the list", expected, 237, myList );
+
+		myList.addAll( myList );
+		for( int i = 0; i < 237; i++ )
+		{
+			expected.set( 237 + i, expected.get( i ) );
+		}
+		assertBits( "Failed to append the list to itself", expected, 474, myList );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyBitSetList#get(int)}
+	 * to throw IndexOutOfBoundsException past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testGet_OutOfRange()
+	{
+		myList.add( true );
+		myList.get( 1 );
+	}
+
+	/**
+	 * Test method for the serialized form of {@link implementations.MyBitSetList}
+	 * to keep the values.
+	 * @throws Exception if serialization fails
+	 */
+	@Test
+	public void testSerialization() throws Exception
+	{
+		BitSet expected = new BitSet();
+		myList = random( 130, 5, expected );
+		java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+		try( java.io.ObjectOutputStream out = new java.io.ObjectOutputStream( bytes ) )
+		{
+			out.writeObject( myList );
+		}
+		MyBitSetList copy;
+		try( java.io.ObjectInputStream in = new java.io.ObjectInputStream( new java.io.ByteArrayInputStream( bytes.toByteArray() ) ) )
+		{
+			copy = (MyBitSetList) in.readObject();
+		}
+		assertBits( "Failed to keep the values", expected, 130, copy );
+	}
+}
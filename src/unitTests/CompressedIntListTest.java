@@ -0,0 +1,206 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyCompressedIntList;
+import implementations.MyIntArrayList;
+import utilities.IntIterator;
+
+/**
+ * Class Description:
+ * Test for the delta-compressed implementation of the IntListADT.
+ */
+
+public class CompressedIntListTest
+{
+	// Attributes
+	private MyCompressedIntList myList;
+	private int[] ids;
+
+	/**
+	 * Fills a new MyCompressedIntList with sorted IDs, including repeats and large gaps.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new MyCompressedIntList();
+		Random random = new Random( 19 );
+		ids = new int[5000];
+		int id = Integer.MIN_VALUE;
+		for( int i = 0; i < ids.length; i++ )
+		{
+			int step = random.nextInt( 10 ) == 0 ? random.nextInt( 1 << 20 ) : random.nextInt( 4 );
+			id += step;
+			ids[i] = id;
+			myList.add( id );
+		}
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+		ids = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyCompressedIntList#get(int)} and
+	 * {@link implementations.MyCompressedIntList#iterator()}
+	 * to decode every value.
+	 */
+	@Test
+	public void testGetAndIterator()
+	{
+		IntIterator it = myList.iterator();
+		for( int i = 0; i < ids.length; i++ )
+		{
+			assertEquals( "Failed to get value " + i + ".", ids[i], myList.get( i ) );
+			assertEquals( "Failed to iterate to value " + i + ".", ids[i], it.nextInt() );
+		}
+		assertFalse( "Failed to end the iteration.", it.hasNext() );
+		assertArrayEquals( "Failed to decode the array.", ids, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyCompressedIntList#indexOf(int)}
+	 * to find the first occurrence of present values and reject absent ones.
+	 */
+	@Test
+	public void testIndexOf()
+	{
+		for( int i = 0; i < ids.length; i += 7 )
+		{
+			int first = i;
+			while( first > 0 && ids[first - 1] == ids[i] )
+			{
+				first--;
+			}
+			assertEquals( "Failed to find the first occurrence.", first, myList.indexOf( ids[i] ) );
+			if( Arrays.binarySearch( ids, ids[i] + 1 ) < 0 )
+			{
+				assertFalse( "Failed to reject an absent value.", myList.contains( ids[i] + 1 ) );
+			}
+		}
+		assertEquals( "Failed to reject a value past the end.", -1, myList.indexOf( Integer.MAX_VALUE ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyCompressedIntList#compressedBytes()}
+	 * to store dense IDs in about a byte each.
+	 */
+	@Test
+	public void testCompressedBytes()
+	{
+		MyCompressedIntList dense = new MyCompressedIntList();
+		for( int i = 0; i < 100000; i++ )
+		{
+			dense.add( 1000000 + i * 3 );
+		}
+
+		assertTrue( "Failed to compress the IDs.", dense.compressedBytes() < 110000 );
+		assertEquals( "Failed to read back the last ID.", 1000000 + 99999 * 3, dense.get( 99999 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyCompressedIntList#add(int, int)},
+	 * {@link implementations.MyCompressedIntList#set(int, int)} and
+	 * {@link implementations.MyCompressedIntList#remove(int)}
+	 * to re-encode the list correctly after edits in the middle.
+	 */
+	@Test
+	public void testEditsInTheMiddle()
+	{
+		MyIntArrayList expected = new MyIntArrayList();
+		MyCompressedIntList list = new MyCompressedIntList();
+		for( int i = 0; i < 1000; i++ )
+		{
+			expected.add( i * 10 );
+			list.add( i * 10 );
+		}
+		list.add( 300, 2995 );
+		expected.add( 300, 2995 );
+		list.set( 128, 1281 );
+		expected.set( 128, 1281 );
+		assertEquals( "Failed to return the removed value.", expected.remove( 0 ), list.remove( 0 ) );
+		assertTrue( "Failed to remove by value.", list.removeValue( 5000 ) );
+		expected.removeValue( 5000 );
+
+		assertArrayEquals( "Failed to match the array list.", expected.toArray(), list.toArray() );
+		assertEquals( "Failed to keep the last value.", 9990, list.get( list.size() - 1 ) );
+		list.add( 10000 );
+		assertEquals( "Failed to append after editing.", 10000, list.get( list.size() - 1 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyCompressedIntList#add(int)}
+	 * to throw IllegalArgumentException for a value below the last one.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testAdd_OutOfOrder()
+	{
+		myList.add( ids[ids.length - 1] - 1 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyCompressedIntList#addAll(utilities.IntListADT)}
+	 * to leave the list unchanged when the values are out of order.
+	 */
+	@Test
+	public void testAddAll_OutOfOrder()
+	{
+		MyIntArrayList more = new MyIntArrayList();
+		more.add( Integer.MAX_VALUE );
+		more.add( 0 );
+		try
+		{
+			myList.addAll( more );
+			fail( "Failed to reject the values." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertEquals( "Failed to leave the list unchanged.", ids.length, myList.size() );
+		}
+	}
+
+	/**
+	 * Test method for the serialized form of {@link implementations.MyCompressedIntList}
+	 * to keep the values and allow appending afterwards.
+	 * @throws Exception if serialization fails
+	 */
+	@Test
+	public void testSerialization() throws Exception
+	{
+		java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+		try( java.io.ObjectOutputStream out = new java.io.ObjectOutputStream( bytes ) )
+		{
+			out.writeObject( myList );
+		}
+		MyCompressedIntList copy;
+		try( java.io.ObjectInputStream in = new java.io.ObjectInputStream( new java.io.ByteArrayInputStream( bytes.toByteArray() ) ) )
+		{
+			copy = (MyCompressedIntList) in.readObject();
+		}
+
+		assertArrayEquals( "Failed to keep the values.", ids, copy.toArray() );
+		copy.add( Integer.MAX_VALUE );
+		assertEquals( "Failed to append after reading.", Integer.MAX_VALUE, copy.get( ids.length ) );
+	}
+}
@@ -0,0 +1,241 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.MyCopyOnWriteArrayList;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the copy-on-write implementation of the ListADT.
+ */
+
+public class CopyOnWriteArrayListTest
+{
+	// Attributes
+	private MyCopyOnWriteArrayList<Integer> myList;
+
+	/**
+	 * Initializes a new MyCopyOnWriteArrayList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new MyCopyOnWriteArrayList<>();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for constructor of MyCopyOnWriteArrayList class.
+	 */
+	@Test
+	public void testConstructor()
+	{
+		assertEquals( "Failed to return correct size", 0, myList.size() );
+		assertTrue( "Failed to report an empty list", myList.isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCopyOnWriteArrayList#add(int, java.lang.Object)}
+	 * to insert items at the front, the middle and the end.
+	 */
+	@Test
+	public void testAddIntE()
+	{
+		myList.add( 0, 2 );
+		myList.add( 0, 1 );
+		myList.add( 2, 4 );
+		myList.add( 2, 3 );
+
+		assertArrayEquals( "Failed to insert items in order", new Integer[] { 1, 2, 3, 4 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCopyOnWriteArrayList#add(java.lang.Object)}
+	 * to throw NullPointerException for a null item.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testAdd_NullPointerException()
+	{
+		myList.add( null );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCopyOnWriteArrayList#add(int, java.lang.Object)}
+	 * to throw IndexOutOfBoundsException for an index past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testAddIntE_IndexOutOfBoundsException()
+	{
+		myList.add( 1, 1 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCopyOnWriteArrayList#addAll(utilities.ListADT)} and
+	 * {@link implementations.MyCopyOnWriteArrayList#addAll(int, utilities.ListADT)}.
+	 */
+	@Test
+	public void testAddAll()
+	{
+		MyArrayList<Integer> other = new MyArrayList<>();
+		other.add( 2 );
+		other.add( 3 );
+		myList.add( 1 );
+		myList.add( 4 );
+
+		myList.addAll( 1, other );
+		myList.addAll( myList );
+		assertArrayEquals( "Failed to add lists in order", new Integer[] { 1, 2, 3, 4, 1, 2, 3, 4 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCopyOnWriteArrayList#remove(int)},
+	 * {@link implementations.MyCopyOnWriteArrayList#remove(java.lang.Object)} and
+	 * {@link implementations.MyCopyOnWriteArrayList#set(int, java.lang.Object)}.
+	 */
+	@Test
+	public void testRemoveAndSet()
+	{
+		for( int i = 0; i < 5; i++ )
+		{
+			myList.add( i );
+		}
+
+		assertEquals( "Failed to remove by index", Integer.valueOf( 0 ), myList.remove( 0 ) );
+		assertEquals( "Failed to remove by item", Integer.valueOf( 3 ), myList.remove( Integer.valueOf( 3 ) ) );
+		assertNull( "Failed to report missing item", myList.remove( Integer.valueOf( 9 ) ) );
+		assertEquals( "Failed to return replaced item", Integer.valueOf( 4 ), myList.set( 2, 7 ) );
+		assertArrayEquals( "Failed to keep items in order", new Integer[] { 1, 2, 7 }, myList.toArray() );
+		assertEquals( "Failed to find item", 2, myList.indexOf( 7 ) );
+		assertTrue( "Failed to find item", myList.contains( 1 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCopyOnWriteArrayList#iterator()}
+	 * to keep walking the snapshot it was created from while the list changes.
+	 */
+	@Test
+	public void testIterator_Snapshot()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		Iterator<Integer> it = myList.iterator();
+		myList.clear();
+		myList.add( 9 );
+
+		assertEquals( "Failed to keep the snapshot", Integer.valueOf( 1 ), it.next() );
+		assertEquals( "Failed to keep the snapshot", Integer.valueOf( 2 ), it.next() );
+		assertFalse( "Failed to end the iteration", it.hasNext() );
+		assertEquals( "Failed to publish the change", Integer.valueOf( 9 ), myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCopyOnWriteArrayList#toArray(java.lang.Object[])}
+	 * to reuse a large enough array and allocate a new one otherwise.
+	 */
+	@Test
+	public void testToArrayEArray()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		Integer[] big = new Integer[2];
+
+		assertSame( "Failed to reuse the given array", big, myList.toArray( big ) );
+		assertArrayEquals( "Failed to allocate a new array", new Integer[] { 1, 2 }, myList.toArray( new Integer[0] ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyCopyOnWriteArrayList#add(java.lang.Object)}
+	 * to keep every item when several threads write while others read.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testAdd_ConcurrentWriters() throws InterruptedException
+	{
+		Thread[] threads = new Thread[8];
+		for( int t = 0; t < threads.length; t++ )
+		{
+			final int offset = t * 1000;
+			threads[t] = new Thread( () -> {
+				for( int i = 0; i < 500; i++ )
+				{
+					myList.add( offset + i );
+					myList.contains( offset );
+				}
+			} );
+			threads[t].start();
+		}
+		for( Thread thread : threads )
+		{
+			thread.join();
+		}
+
+		assertEquals( "Failed to keep every item", 4000, myList.size() );
+		assertEquals( "Failed to stream every item", 4000, myList.parallelStream().distinct().count() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyCopyOnWriteArrayList#replaceAll(java.util.function.UnaryOperator)}
+	 * to publish every replacement at once and leave earlier snapshots alone.
+	 */
+	@Test
+	public void testReplaceAll()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		myList.add( 3 );
+		Iterator<Integer> before = myList.iterator();
+		myList.replaceAll( item -> item * 10 );
+
+		assertArrayEquals( "Failed to replace every element.", new Object[] { 10, 20, 30 }, myList.toArray() );
+		assertEquals( "Failed to keep the old snapshot.", Integer.valueOf( 1 ), before.next() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyCopyOnWriteArrayList#removeIf(java.util.function.Predicate)}
+	 * to remove every match with one copy and leave the list unchanged when the predicate throws.
+	 */
+	@Test
+	public void testRemoveIf()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+		try
+		{
+			myList.removeIf( item ->
+			{
+				if( item == 5 )
+					throw new IllegalStateException();
+				return item % 2 == 0;
+			} );
+			fail( "Failed to pass on the predicate's exception." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertEquals( "Failed to leave the list unchanged.", 10, myList.size() );
+		}
+
+		assertTrue( "Failed to report a removal.", myList.removeIf( item -> item % 2 == 0 ) );
+		assertArrayEquals( "Failed to keep the survivors in order.", new Object[] { 1, 3, 5, 7, 9 }, myList.toArray() );
+		assertFalse( "Failed to report no removal.", myList.removeIf( item -> item < 0 ) );
+	}
+}
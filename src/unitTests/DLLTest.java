@@ -1325,4 +1325,301 @@ public class DLLTest
 
 		assertArrayEquals( "Failed to convert list to array.", original, returnArray );
 	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#addAll(utilities.ListADT)}
+	 * to append a large DLL and to append a list to itself.
+	 */
+	@Test
+	public void testAddAll_LargeDLLAndSelf()
+	{
+		MyDLL<Integer> source = new MyDLL<>();
+		for( int i = 0; i < 100000; i++ )
+		{
+			source.add( i );
+		}
+		myList.addAll( source );
+		assertEquals( "Failed to update size.", 100000, myList.size() );
+		assertEquals( "Failed to append last item.", Integer.valueOf( 99999 ), myList.get( 99999 ) );
+
+		MyDLL<Integer> small = new MyDLL<>();
+		small.add( one );
+		small.add( two );
+		small.addAll( small );
+		assertArrayEquals( "Failed to append list to itself.", new Integer[] { 1, 2, 1, 2 }, small.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#addAll(int, utilities.ListADT)}
+	 * to splice lists in at the front, the middle and the end.
+	 */
+	@Test
+	public void testAddAllInt()
+	{
+		MyArrayList<Integer> front = new MyArrayList<>();
+		front.add( one );
+		MyDLL<Integer> middle = new MyDLL<>();
+		middle.add( three );
+		middle.add( four );
+		MyDLL<Integer> end = new MyDLL<>();
+		end.add( five );
+		myList.add( two );
+
+		myList.addAll( 0, front );
+		myList.addAll( 2, middle );
+		myList.addAll( 4, end );
+		assertArrayEquals( "Failed to splice lists in order.", new Integer[] { 1, 2, 3, 4, 5 }, myList.toArray() );
+
+		assertEquals( "Failed to link the tail.", five, myList.get( 4 ) );
+		assertEquals( "Failed to link prev pointers.", four, myList.get( 3 ) );
+		assertEquals( "Failed to unlink removed tail.", five, myList.remove( 4 ) );
+		assertEquals( "Failed to relink the tail.", four, myList.get( 3 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#addAll(int, utilities.ListADT)}
+	 * to throw IndexOutOfBoundsException for an index past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testAddAllInt_IndexOutOfBoundsException()
+	{
+		myList.addAll( 1, new MyDLL<Integer>() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#parallelStream()}
+	 * to sum and collect a large list in order across batch splits.
+	 */
+	@Test
+	public void testParallelStream()
+	{
+		for( int i = 0; i < 100000; i++ )
+		{
+			myList.add( i );
+		}
+
+		long expected = 100000L * 99999L / 2;
+		assertEquals( "Failed to sum the list.", expected, myList.parallelStream().mapToLong( Integer::longValue ).sum() );
+		assertArrayEquals( "Failed to keep order.", myList.toArray(), myList.parallelStream().toArray() );
+		assertEquals( "Failed to count the list.", 100000, myList.stream().count() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#spliterator()}
+	 * to split off a batch and keep an exact size for the rest.
+	 */
+	@Test
+	public void testSpliterator_TrySplit()
+	{
+		for( int i = 0; i < 5000; i++ )
+		{
+			myList.add( i );
+		}
+		java.util.Spliterator<Integer> rest = myList.spliterator();
+		java.util.Spliterator<Integer> batch = rest.trySplit();
+
+		assertEquals( "Failed to size the batch.", 1024, batch.estimateSize() );
+		assertEquals( "Failed to size the rest.", 5000 - 1024, rest.estimateSize() );
+		assertTrue( "Failed to report SUBSIZED.", rest.hasCharacteristics( java.util.Spliterator.SUBSIZED ) );
+		rest.tryAdvance( item -> assertEquals( "Failed to continue after the batch.", Integer.valueOf( 1024 ), item ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#enableIndex()}
+	 * to keep contains and remove by item consistent under mixed edits.
+	 */
+	@Test
+	public void testEnableIndex_MatchesArrayList()
+	{
+		java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+		java.util.Random random = new java.util.Random( 304 );
+		myList.enableIndex();
+		for( int i = 0; i < 3000; i++ )
+		{
+			int value = random.nextInt( 200 );
+			switch( random.nextInt( 4 ) )
+			{
+				case 0:
+					int insertAt = random.nextInt( expected.size() + 1 );
+					myList.add( insertAt, value );
+					expected.add( insertAt, value );
+					break;
+				case 1:
+					if( !expected.isEmpty() )
+					{
+						int setAt = random.nextInt( expected.size() );
+						myList.set( setAt, value );
+						expected.set( setAt, value );
+					}
+					break;
+				case 2:
+					assertEquals( "Failed to remove first occurrence.", expected.remove( Integer.valueOf( value ) ), myList.remove( Integer.valueOf( value ) ) != null );
+					break;
+				default:
+					myList.add( value );
+					expected.add( value );
+			}
+			assertEquals( "Failed to report membership.", expected.contains( value ), myList.contains( value ) );
+		}
+		assertArrayEquals( "Failed to keep items in order.", expected.toArray(), myList.toArray() );
+		assertTrue( "Failed to report index size.", myList.indexFootprint() > 0 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#sort(java.util.Comparator)}
+	 * to sort a list and keep both directions of links consistent.
+	 */
+	@Test
+	public void testSort()
+	{
+		java.util.Random random = new java.util.Random( 304 );
+		Integer[] expected = new Integer[5000];
+		for( int i = 0; i < expected.length; i++ )
+		{
+			expected[i] = random.nextInt( 1000 );
+			myList.add( expected[i] );
+		}
+		java.util.Arrays.sort( expected );
+		myList.sort( null );
+
+		assertArrayEquals( "Failed to sort the list.", expected, myList.toArray() );
+		for( int i = expected.length - 1; i >= expected.length - 10; i-- )
+		{
+			assertEquals( "Failed to relink prev pointers.", expected[i], myList.get( i ) );
+		}
+		assertEquals( "Failed to relink the tail.", expected[expected.length - 1], myList.remove( expected.length - 1 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#sort(java.util.Comparator)}
+	 * to keep equal items in their original order.
+	 */
+	@Test
+	public void testSort_Stable()
+	{
+		MyDLL<String> words = new MyDLL<>();
+		words.add( "bb" );
+		words.add( "a" );
+		words.add( "cc" );
+		words.add( "d" );
+		words.sort( java.util.Comparator.comparingInt( String::length ) );
+
+		assertArrayEquals( "Failed to keep equal items in order.", new String[] { "a", "d", "bb", "cc" }, words.toArray() );
+	}
+
+	/**
+	 * Serializes an object and reads it back.
+	 */
+	@SuppressWarnings( "unchecked" )
+	private static <T> T roundTrip( T toCopy ) throws Exception
+	{
+		java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+		try( java.io.ObjectOutputStream out = new java.io.ObjectOutputStream( bytes ) )
+		{
+			out.writeObject( toCopy );
+		}
+		try( java.io.ObjectInputStream in = new java.io.ObjectInputStream( new java.io.ByteArrayInputStream( bytes.toByteArray() ) ) )
+		{
+			return (T) in.readObject();
+		}
+	}
+
+	/**
+	 * Test method for the serialized form of {@link implementations.MyDLL}
+	 * to write a long list without recursing through its nodes.
+	 * @throws Exception if serialization fails
+	 */
+	@Test
+	public void testSerialization_LongList() throws Exception
+	{
+		MyDLL<Integer> longList = new MyDLL<>();
+		for( int i = 0; i < 200000; i++ )
+		{
+			longList.add( i );
+		}
+		MyDLL<Integer> copy = roundTrip( longList );
+
+		assertEquals( "Failed to keep the size.", 200000, copy.size() );
+		assertEquals( "Failed to keep the head.", Integer.valueOf( 0 ), copy.get( 0 ) );
+		assertEquals( "Failed to link the tail.", Integer.valueOf( 199999 ), copy.get( 199999 ) );
+		assertEquals( "Failed to link backwards.", Integer.valueOf( 199990 ), copy.get( 199990 ) );
+		copy.add( -1 );
+		assertEquals( "Failed to append after reading.", Integer.valueOf( -1 ), copy.remove( 200000 ) );
+	}
+
+	/**
+	 * Test method for the serialized form of {@link implementations.MyDLL}
+	 * to rebuild the hash index.
+	 * @throws Exception if serialization fails
+	 */
+	@Test
+	public void testSerialization_Indexed() throws Exception
+	{
+		MyDLL<String> indexed = new MyDLL<>();
+		indexed.enableIndex();
+		indexed.add( "a" );
+		indexed.add( "b" );
+		MyDLL<String> copy = roundTrip( indexed );
+
+		assertTrue( "Failed to keep the index.", copy.isIndexed() );
+		assertEquals( "Failed to remove through the rebuilt index.", "a", copy.remove( "a" ) );
+		assertFalse( "Failed to unindex the removed element.", copy.contains( "a" ) );
+		assertTrue( "Failed to read an empty list.", roundTrip( new MyDLL<Integer>() ).isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#forEach(java.util.function.Consumer)} and
+	 * {@link implementations.MyDLL#replaceAll(java.util.function.UnaryOperator)}
+	 * to walk the nodes in order and keep the index current.
+	 */
+	@Test
+	public void testForEachAndReplaceAll()
+	{
+		MyDLL<Integer> list = new MyDLL<>();
+		for( int i = 1; i <= 4; i++ )
+		{
+			list.add( i );
+		}
+		list.enableIndex();
+		list.replaceAll( item -> item + 10 );
+		StringBuilder visited = new StringBuilder();
+		list.forEach( item -> visited.append( item ).append( ' ' ) );
+
+		assertEquals( "Failed to visit in order.", "11 12 13 14 ", visited.toString() );
+		assertTrue( "Failed to index the new elements.", list.contains( 13 ) );
+		assertFalse( "Failed to unindex the old elements.", list.contains( 3 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#removeIf(java.util.function.Predicate)}
+	 * to unlink every match, including the head and tail.
+	 */
+	@Test
+	public void testRemoveIf()
+	{
+		MyDLL<Integer> list = new MyDLL<>();
+		for( int i = 0; i < 10; i++ )
+		{
+			list.add( i );
+		}
+		list.enableIndex();
+
+		assertTrue( "Failed to report a removal.", list.removeIf( item -> item % 3 == 0 ) );
+		assertArrayEquals( "Failed to keep the survivors.", new Object[] { 1, 2, 4, 5, 7, 8 }, list.toArray() );
+		assertEquals( "Failed to relink the tail.", Integer.valueOf( 8 ), list.get( 5 ) );
+		assertFalse( "Failed to unindex the removed elements.", list.contains( 9 ) );
+		assertFalse( "Failed to report no removal.", list.removeIf( item -> item > 100 ) );
+		list.add( 0, 0 );
+		assertEquals( "Failed to relink the head.", Integer.valueOf( 1 ), list.get( 1 ) );
+	}
 }
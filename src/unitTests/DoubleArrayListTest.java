@@ -0,0 +1,323 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyDoubleArrayList;
+import utilities.DoubleIterator;
+
+/**
+ * Class Description:
+ * Test for the primitive <code>double</code> array list implementation of the
+ * DoubleListADT.
+ */
+
+public class DoubleArrayListTest
+{
+	// Attributes
+	private MyDoubleArrayList myList;
+
+	/**
+	 * Initializes a new MyDoubleArrayList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new MyDoubleArrayList();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for constructor of MyDoubleArrayList class.
+	 */
+	@Test
+	public void testConstructor()
+	{
+		assertNotNull( "Failed to create the list", myList );
+		assertEquals( "Failed to return correct size", 0, myList.size() );
+		assertTrue( "Failed to report an empty list", myList.isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyDoubleArrayList#add(double)}
+	 * to append values past the initial capacity.
+	 */
+	@Test
+	public void testAdd_PastCapacity()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			assertTrue( "Failed to return true.", myList.add( (double) i ) );
+		}
+		assertEquals( "Failed to return correct size", 100, myList.size() );
+		for( int i = 0; i < 100; i++ )
+		{
+			assertEquals( "Failed to store value in order", (double) i, myList.get( i ), 0 );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyDoubleArrayList#add(int, double)}
+	 * to insert values at the front and the middle of the list.
+	 */
+	@Test
+	public void testAddIntValue_Middle()
+	{
+		myList.add( (double) 1 );
+		myList.add( (double) 3 );
+		myList.add( 0, (double) 0 );
+		myList.add( 2, (double) 2 );
+		myList.add( 4, (double) 4 );
+
+		assertArrayEquals( "Failed to insert values in order", new double[] { 0, 1, 2, 3, 4 }, myList.toArray(), 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyDoubleArrayList#add(int, double)}
+	 * to add a value to an invalid index and throw IndexOutOfBoundsException.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testAddIntValue_IndexOutOfBoundsException()
+	{
+		myList.add( (double) 1 );
+		myList.add( 2, (double) 2 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyDoubleArrayList#addAll(utilities.DoubleListADT)}
+	 * to append every value of another list.
+	 */
+	@Test
+	public void testAddAll()
+	{
+		MyDoubleArrayList other = new MyDoubleArrayList();
+		for( int i = 0; i < 25; i++ )
+		{
+			other.add( (double) i );
+		}
+		myList.add( (double) -1 );
+		myList.addAll( other );
+
+		assertEquals( "Failed to return correct size", 26, myList.size() );
+		assertEquals( "Failed to keep existing value", (double) -1, myList.get( 0 ), 0 );
+		assertEquals( "Failed to append last value", (double) 24, myList.get( 25 ), 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyDoubleArrayList#addAll(utilities.DoubleListADT)}
+	 * to throw NullPointerException for a null list.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testAddAll_NullPointerException()
+	{
+		myList.addAll( null );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyDoubleArrayList#get(int)}
+	 * to throw IndexOutOfBoundsException on an empty list.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testGet_IndexOutOfBoundsException()
+	{
+		myList.get( 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyDoubleArrayList#remove(int)}
+	 * to remove values by index, including through the shrink path.
+	 */
+	@Test
+	public void testRemoveInt()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			myList.add( (double) i );
+		}
+		for( int i = 0; i < 90; i++ )
+		{
+			assertEquals( "Failed to return removed value", (double) i, myList.remove( 0 ), 0 );
+		}
+		assertEquals( "Failed to return correct size", 10, myList.size() );
+		assertEquals( "Failed to shift remaining values", (double) 90, myList.get( 0 ), 0 );
+		assertEquals( "Failed to shift remaining values", (double) 99, myList.get( 9 ), 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyDoubleArrayList#removeValue(double)}
+	 * to remove the first occurrence of a value.
+	 */
+	@Test
+	public void testRemoveValue()
+	{
+		myList.add( (double) 5 );
+		myList.add( (double) 6 );
+		myList.add( (double) 5 );
+
+		assertTrue( "Failed to remove present value", myList.removeValue( (double) 5 ) );
+		assertFalse( "Failed to report missing value", myList.removeValue( (double) 7 ) );
+		assertArrayEquals( "Failed to remove first occurrence", new double[] { 6, 5 }, myList.toArray(), 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyDoubleArrayList#set(int, double)}
+	 * to replace a value and return the previous one.
+	 */
+	@Test
+	public void testSet()
+	{
+		myList.add( (double) 1 );
+		myList.add( (double) 2 );
+
+		assertEquals( "Failed to return replaced value", (double) 2, myList.set( 1, (double) 9 ), 0 );
+		assertEquals( "Failed to store new value", (double) 9, myList.get( 1 ), 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyDoubleArrayList#indexOf(double)} and
+	 * {@link implementations.MyDoubleArrayList#contains(double)}.
+	 */
+	@Test
+	public void testIndexOfAndContains()
+	{
+		myList.add( (double) 4 );
+		myList.add( (double) 8 );
+
+		assertEquals( "Failed to find value", 1, myList.indexOf( (double) 8 ) );
+		assertEquals( "Failed to report missing value", -1, myList.indexOf( (double) 3 ) );
+		assertTrue( "Failed to find value", myList.contains( (double) 4 ) );
+		assertFalse( "Failed to report missing value", myList.contains( (double) 3 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyDoubleArrayList#toArray(double[])}
+	 * to reuse a large enough array and allocate a new one otherwise.
+	 */
+	@Test
+	public void testToArrayHolder()
+	{
+		myList.add( (double) 1 );
+		myList.add( (double) 2 );
+		double[] big = new double[5];
+		double[] small = new double[1];
+
+		assertSame( "Failed to reuse the given array", big, myList.toArray( big ) );
+		assertArrayEquals( "Failed to allocate a new array", new double[] { 1, 2 }, myList.toArray( small ), 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyDoubleArrayList#clear()}.
+	 */
+	@Test
+	public void testClear()
+	{
+		myList.add( (double) 1 );
+		myList.clear();
+
+		assertEquals( "Failed to clear the list", 0, myList.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyDoubleArrayList#iterator()}
+	 * to walk every value and then throw NoSuchElementException.
+	 */
+	@Test
+	public void testIterator()
+	{
+		myList.add( (double) 1 );
+		myList.add( (double) 2 );
+		DoubleIterator it = myList.iterator();
+
+		assertEquals( "Failed to return first value", (double) 1, it.nextDouble(), 0 );
+		assertEquals( "Failed to return second value", (double) 2, it.nextDouble(), 0 );
+		assertFalse( "Failed to end the iteration", it.hasNext() );
+		try
+		{
+			it.nextDouble();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDoubleArrayList#sum()},
+	 * {@link implementations.MyDoubleArrayList#min()},
+	 * {@link implementations.MyDoubleArrayList#max()} and
+	 * {@link implementations.MyDoubleArrayList#countInRange(double, double)}
+	 * to match plain loops for every length, including ones that do not fill a group of four.
+	 */
+	@Test
+	public void testScans()
+	{
+		java.util.Random random = new java.util.Random( 24 );
+		for( int length = 1; length < 40; length++ )
+		{
+			myList.clear();
+			double sum = 0;
+			double min = Double.POSITIVE_INFINITY;
+			double max = Double.NEGATIVE_INFINITY;
+			int inRange = 0;
+			for( int i = 0; i < length; i++ )
+			{
+				double value = random.nextGaussian();
+				myList.add( value );
+				sum += value;
+				min = Math.min( min, value );
+				max = Math.max( max, value );
+				if( value >= -0.5 && value <= 0.5 )
+				{
+					inRange++;
+				}
+			}
+			assertEquals( "Failed to sum the values", sum, myList.sum(), 1e-9 );
+			assertEquals( "Failed to find the minimum", min, myList.min(), 0 );
+			assertEquals( "Failed to find the maximum", max, myList.max(), 0 );
+			assertEquals( "Failed to count the range", inRange, myList.countInRange( -0.5, 0.5 ) );
+			assertEquals( "Failed to find a value", length / 2, myList.indexOf( myList.get( length / 2 ) ) );
+		}
+		myList.add( Double.NaN );
+		assertTrue( "Failed to propagate NaN", Double.isNaN( myList.max() ) );
+		assertEquals( "Failed to leave NaN out of the range", myList.size() - 1, myList.countInRange( Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyDoubleArrayList#indexOf(double)}
+	 * to keep telling zeros apart and finding NaN.
+	 */
+	@Test
+	public void testIndexOf_SpecialValues()
+	{
+		for( int i = 1; i <= 9; i++ )
+		{
+			myList.add( i );
+		}
+		myList.add( -0.0 );
+		myList.add( 0.0 );
+		myList.add( Double.NaN );
+
+		assertEquals( "Failed to find negative zero", 9, myList.indexOf( -0.0 ) );
+		assertEquals( "Failed to find positive zero", 10, myList.indexOf( 0.0 ) );
+		assertEquals( "Failed to find NaN", 11, myList.indexOf( Double.NaN ) );
+		assertEquals( "Failed to find an ordinary value", 6, myList.indexOf( 7.0 ) );
+		assertEquals( "Failed to reject a missing value", -1, myList.indexOf( 7.5 ) );
+	}
+}
@@ -0,0 +1,338 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.MyGapArrayList;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the gap-buffer implementation of the ListADT and its cursor API.
+ */
+
+public class GapArrayListTest
+{
+	// Attributes
+	private MyGapArrayList<Integer> myList;
+
+	/**
+	 * Initializes a new MyGapArrayList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new MyGapArrayList<>();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for constructor of MyGapArrayList class.
+	 */
+	@Test
+	public void testConstructor()
+	{
+		assertEquals( "Failed to return correct size", 0, myList.size() );
+		assertEquals( "Failed to start the cursor at zero", 0, myList.getCursor() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyGapArrayList#add(java.lang.Object)}
+	 * to append items past the initial capacity.
+	 */
+	@Test
+	public void testAdd_PastCapacity()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			myList.add( i );
+		}
+		assertEquals( "Failed to return correct size", 100, myList.size() );
+		for( int i = 0; i < 100; i++ )
+		{
+			assertEquals( "Failed to store item in order", Integer.valueOf( i ), myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyGapArrayList#add(int, java.lang.Object)}
+	 * to throw NullPointerException for a null item.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testAddIntE_NullPointerException()
+	{
+		myList.add( 0, null );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyGapArrayList#add(int, java.lang.Object)}
+	 * to throw IndexOutOfBoundsException for an index past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testAddIntE_IndexOutOfBoundsException()
+	{
+		myList.add( 1, 1 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyGapArrayList#insert(java.lang.Object)}
+	 * to type at a cursor in the middle of the list.
+	 */
+	@Test
+	public void testInsert_AtCursor()
+	{
+		myList.add( 1 );
+		myList.add( 5 );
+		myList.moveCursor( 1 );
+		myList.insert( 2 );
+		myList.insert( 3 );
+		myList.insert( 4 );
+
+		assertEquals( "Failed to advance the cursor", 4, myList.getCursor() );
+		assertArrayEquals( "Failed to insert at the cursor", new Integer[] { 1, 2, 3, 4, 5 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyGapArrayList#deleteBefore()} and
+	 * {@link implementations.MyGapArrayList#deleteAfter()}
+	 * to remove on both sides of the cursor.
+	 */
+	@Test
+	public void testDelete_AroundCursor()
+	{
+		for( int i = 0; i < 5; i++ )
+		{
+			myList.add( i );
+		}
+		myList.moveCursor( 2 );
+
+		assertEquals( "Failed to return item before cursor", Integer.valueOf( 1 ), myList.deleteBefore() );
+		assertEquals( "Failed to return item after cursor", Integer.valueOf( 2 ), myList.deleteAfter() );
+		assertEquals( "Failed to move the cursor back", 1, myList.getCursor() );
+		assertArrayEquals( "Failed to delete around the cursor", new Integer[] { 0, 3, 4 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyGapArrayList#deleteBefore()}
+	 * to throw IndexOutOfBoundsException at the start of the list.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testDeleteBefore_IndexOutOfBoundsException()
+	{
+		myList.add( 1 );
+		myList.moveCursor( 0 );
+		myList.deleteBefore();
+	}
+
+	/**
+	 * Test method for {@link implementations.MyGapArrayList#moveCursor(int)}
+	 * to throw IndexOutOfBoundsException past the end of the list.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testMoveCursor_IndexOutOfBoundsException()
+	{
+		myList.moveCursor( 1 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyGapArrayList#remove(int)} and
+	 * {@link implementations.MyGapArrayList#add(int, java.lang.Object)}
+	 * to stay consistent with java.util.ArrayList under mixed edits.
+	 */
+	@Test
+	public void testAddRemove_MatchesArrayList()
+	{
+		java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+		java.util.Random random = new java.util.Random( 304 );
+		for( int i = 0; i < 2000; i++ )
+		{
+			if( expected.isEmpty() || random.nextInt( 3 ) != 0 )
+			{
+				int index = random.nextInt( expected.size() + 1 );
+				myList.add( index, i );
+				expected.add( index, i );
+			}
+			else
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to remove correct item", expected.remove( index ), myList.remove( index ) );
+			}
+		}
+
+		assertArrayEquals( "Failed to keep items in order", expected.toArray(), myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyGapArrayList#indexOf(java.lang.Object)}
+	 * to find items on both sides of the gap.
+	 */
+	@Test
+	public void testIndexOf_BothSidesOfGap()
+	{
+		for( int i = 0; i < 6; i++ )
+		{
+			myList.add( i );
+		}
+		myList.moveCursor( 3 );
+
+		assertEquals( "Failed to find item before gap", 1, myList.indexOf( 1 ) );
+		assertEquals( "Failed to find item after gap", 4, myList.indexOf( 4 ) );
+		assertEquals( "Failed to report missing item", -1, myList.indexOf( 9 ) );
+		assertTrue( "Failed to find item", myList.contains( 5 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyGapArrayList#set(int, java.lang.Object)}
+	 * to replace an item after the gap.
+	 */
+	@Test
+	public void testSet()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		myList.moveCursor( 0 );
+
+		assertEquals( "Failed to return replaced item", Integer.valueOf( 2 ), myList.set( 1, 7 ) );
+		assertEquals( "Failed to store new item", Integer.valueOf( 7 ), myList.get( 1 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyGapArrayList#addAll(utilities.ListADT)}
+	 * to append a list while the cursor is in the middle.
+	 */
+	@Test
+	public void testAddAll()
+	{
+		MyArrayList<Integer> other = new MyArrayList<>();
+		other.add( 3 );
+		other.add( 4 );
+		myList.add( 1 );
+		myList.add( 2 );
+		myList.moveCursor( 1 );
+		myList.addAll( other );
+
+		assertArrayEquals( "Failed to append list", new Integer[] { 1, 2, 3, 4 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyGapArrayList#addAll(utilities.ListADT)}
+	 * to append a list to itself.
+	 */
+	@Test
+	public void testAddAll_Self()
+	{
+		for( int i = 1; i <= 5; i++ )
+		{
+			myList.add( i );
+		}
+		myList.addAll( myList );
+
+		assertArrayEquals( "Failed to append list to itself",
+				new Integer[] { 1, 2, 3, 4, 5, 1, 2, 3, 4, 5 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyGapArrayList#iterator()}
+	 * to walk items on both sides of the gap.
+	 */
+	@Test
+	public void testIterator()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		myList.add( 3 );
+		myList.moveCursor( 1 );
+		Iterator<Integer> it = myList.iterator();
+
+		assertEquals( "Failed to return first item", Integer.valueOf( 1 ), it.next() );
+		assertEquals( "Failed to return second item", Integer.valueOf( 2 ), it.next() );
+		assertEquals( "Failed to return third item", Integer.valueOf( 3 ), it.next() );
+		assertFalse( "Failed to end the iteration", it.hasNext() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyGapArrayList#clear()}.
+	 */
+	@Test
+	public void testClear()
+	{
+		myList.add( 1 );
+		myList.clear();
+
+		assertEquals( "Failed to clear the list", 0, myList.size() );
+		assertEquals( "Failed to reset the cursor", 0, myList.getCursor() );
+	}
+
+	/**
+	 * Serializes an object and reads it back.
+	 */
+	@SuppressWarnings( "unchecked" )
+	private static <T> T roundTrip( T toCopy ) throws Exception
+	{
+		java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+		try( java.io.ObjectOutputStream out = new java.io.ObjectOutputStream( bytes ) )
+		{
+			out.writeObject( toCopy );
+		}
+		try( java.io.ObjectInputStream in = new java.io.ObjectInputStream( new java.io.ByteArrayInputStream( bytes.toByteArray() ) ) )
+		{
+			return (T) in.readObject();
+		}
+	}
+
+	/**
+	 * Test method for the serialized form of {@link implementations.MyGapArrayList}
+	 * to drop the gap and leave the cursor at the end.
+	 * @throws Exception if serialization fails
+	 */
+	@Test
+	public void testSerialization() throws Exception
+	{
+		MyGapArrayList<Integer> gapList = new MyGapArrayList<>();
+		for( int i = 0; i < 12; i++ )
+		{
+			gapList.add( i );
+		}
+		gapList.moveCursor( 4 );
+		MyGapArrayList<Integer> copy = roundTrip( gapList );
+
+		assertArrayEquals( "Failed to keep the elements in order.", gapList.toArray(), copy.toArray() );
+		assertEquals( "Failed to move the cursor to the end.", 12, copy.getCursor() );
+		copy.insert( 12 );
+		assertEquals( "Failed to insert after reading.", Integer.valueOf( 12 ), copy.get( 12 ) );
+		assertTrue( "Failed to read an empty list.", roundTrip( new MyGapArrayList<Integer>() ).isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyGapArrayList#removeIf(java.util.function.Predicate)}
+	 * to remove matches on both sides of the gap in one pass.
+	 */
+	@Test
+	public void testRemoveIf()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+		myList.moveCursor( 4 );
+
+		assertTrue( "Failed to report a removal", myList.removeIf( item -> item % 3 == 0 ) );
+		assertArrayEquals( "Failed to keep the survivors in order", new Integer[] { 1, 2, 4, 5, 7, 8 }, myList.toArray() );
+		assertEquals( "Failed to leave the cursor at the end", 6, myList.getCursor() );
+		assertFalse( "Failed to report no removal", myList.removeIf( item -> item > 100 ) );
+	}
+}
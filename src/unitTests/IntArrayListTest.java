@@ -0,0 +1,346 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyIntArrayList;
+import utilities.IntIterator;
+
+/**
+ * Class Description:
+ * Test for the primitive <code>int</code> array list implementation of the
+ * IntListADT.
+ */
+
+public class IntArrayListTest
+{
+	// Attributes
+	private MyIntArrayList myList;
+
+	/**
+	 * Initializes a new MyIntArrayList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new MyIntArrayList();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for constructor of MyIntArrayList class.
+	 */
+	@Test
+	public void testConstructor()
+	{
+		assertNotNull( "Failed to create the list", myList );
+		assertEquals( "Failed to return correct size", 0, myList.size() );
+		assertTrue( "Failed to report an empty list", myList.isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyIntArrayList#add(int)}
+	 * to append values past the initial capacity.
+	 */
+	@Test
+	public void testAdd_PastCapacity()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			assertTrue( "Failed to return true.", myList.add( i ) );
+		}
+		assertEquals( "Failed to return correct size", 100, myList.size() );
+		for( int i = 0; i < 100; i++ )
+		{
+			assertEquals( "Failed to store value in order", i, myList.get( i ), 0 );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyIntArrayList#add(int, int)}
+	 * to insert values at the front and the middle of the list.
+	 */
+	@Test
+	public void testAddIntValue_Middle()
+	{
+		myList.add( 1 );
+		myList.add( 3 );
+		myList.add( 0, 0 );
+		myList.add( 2, 2 );
+		myList.add( 4, 4 );
+
+		assertArrayEquals( "Failed to insert values in order", new int[] { 0, 1, 2, 3, 4 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyIntArrayList#add(int, int)}
+	 * to add a value to an invalid index and throw IndexOutOfBoundsException.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testAddIntValue_IndexOutOfBoundsException()
+	{
+		myList.add( 1 );
+		myList.add( 2, 2 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyIntArrayList#addAll(utilities.IntListADT)}
+	 * to append every value of another list.
+	 */
+	@Test
+	public void testAddAll()
+	{
+		MyIntArrayList other = new MyIntArrayList();
+		for( int i = 0; i < 25; i++ )
+		{
+			other.add( i );
+		}
+		myList.add( -1 );
+		myList.addAll( other );
+
+		assertEquals( "Failed to return correct size", 26, myList.size() );
+		assertEquals( "Failed to keep existing value", -1, myList.get( 0 ), 0 );
+		assertEquals( "Failed to append last value", 24, myList.get( 25 ), 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyIntArrayList#addAll(utilities.IntListADT)}
+	 * to throw NullPointerException for a null list.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testAddAll_NullPointerException()
+	{
+		myList.addAll( null );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyIntArrayList#get(int)}
+	 * to throw IndexOutOfBoundsException on an empty list.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testGet_IndexOutOfBoundsException()
+	{
+		myList.get( 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyIntArrayList#remove(int)}
+	 * to remove values by index, including through the shrink path.
+	 */
+	@Test
+	public void testRemoveInt()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			myList.add( i );
+		}
+		for( int i = 0; i < 90; i++ )
+		{
+			assertEquals( "Failed to return removed value", i, myList.remove( 0 ), 0 );
+		}
+		assertEquals( "Failed to return correct size", 10, myList.size() );
+		assertEquals( "Failed to shift remaining values", 90, myList.get( 0 ), 0 );
+		assertEquals( "Failed to shift remaining values", 99, myList.get( 9 ), 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyIntArrayList#removeValue(int)}
+	 * to remove the first occurrence of a value.
+	 */
+	@Test
+	public void testRemoveValue()
+	{
+		myList.add( 5 );
+		myList.add( 6 );
+		myList.add( 5 );
+
+		assertTrue( "Failed to remove present value", myList.removeValue( 5 ) );
+		assertFalse( "Failed to report missing value", myList.removeValue( 7 ) );
+		assertArrayEquals( "Failed to remove first occurrence", new int[] { 6, 5 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyIntArrayList#set(int, int)}
+	 * to replace a value and return the previous one.
+	 */
+	@Test
+	public void testSet()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+
+		assertEquals( "Failed to return replaced value", 2, myList.set( 1, 9 ), 0 );
+		assertEquals( "Failed to store new value", 9, myList.get( 1 ), 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyIntArrayList#indexOf(int)} and
+	 * {@link implementations.MyIntArrayList#contains(int)}.
+	 */
+	@Test
+	public void testIndexOfAndContains()
+	{
+		myList.add( 4 );
+		myList.add( 8 );
+
+		assertEquals( "Failed to find value", 1, myList.indexOf( 8 ) );
+		assertEquals( "Failed to report missing value", -1, myList.indexOf( 3 ) );
+		assertTrue( "Failed to find value", myList.contains( 4 ) );
+		assertFalse( "Failed to report missing value", myList.contains( 3 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyIntArrayList#toArray(int[])}
+	 * to reuse a large enough array and allocate a new one otherwise.
+	 */
+	@Test
+	public void testToArrayHolder()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		int[] big = new int[5];
+		int[] small = new int[1];
+
+		assertSame( "Failed to reuse the given array", big, myList.toArray( big ) );
+		assertArrayEquals( "Failed to allocate a new array", new int[] { 1, 2 }, myList.toArray( small ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyIntArrayList#clear()}.
+	 */
+	@Test
+	public void testClear()
+	{
+		myList.add( 1 );
+		myList.clear();
+
+		assertEquals( "Failed to clear the list", 0, myList.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyIntArrayList#iterator()}
+	 * to walk every value and then throw NoSuchElementException.
+	 */
+	@Test
+	public void testIterator()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+		IntIterator it = myList.iterator();
+
+		assertEquals( "Failed to return first value", 1, it.nextInt(), 0 );
+		assertEquals( "Failed to return second value", 2, it.nextInt(), 0 );
+		assertFalse( "Failed to end the iteration", it.hasNext() );
+		try
+		{
+			it.nextInt();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Serializes an object and reads it back.
+	 */
+	@SuppressWarnings( "unchecked" )
+	private static <T> T roundTrip( T toCopy ) throws Exception
+	{
+		java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+		try( java.io.ObjectOutputStream out = new java.io.ObjectOutputStream( bytes ) )
+		{
+			out.writeObject( toCopy );
+		}
+		try( java.io.ObjectInputStream in = new java.io.ObjectInputStream( new java.io.ByteArrayInputStream( bytes.toByteArray() ) ) )
+		{
+			return (T) in.readObject();
+		}
+	}
+
+	/**
+	 * Test method for the serialized form of {@link implementations.MyIntArrayList}
+	 * to keep the values and allow growth afterwards.
+	 * @throws Exception if serialization fails
+	 */
+	@Test
+	public void testSerialization() throws Exception
+	{
+		for( int i = 0; i < 25; i++ )
+		{
+			myList.add( i * 3 );
+		}
+		MyIntArrayList copy = roundTrip( myList );
+
+		assertArrayEquals( "Failed to keep the values.", myList.toArray(), copy.toArray() );
+		copy.add( 7 );
+		assertEquals( "Failed to grow after reading.", 26, copy.size() );
+		assertTrue( "Failed to read an empty list.", roundTrip( new MyIntArrayList() ).isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyIntArrayList#sum()},
+	 * {@link implementations.MyIntArrayList#min()},
+	 * {@link implementations.MyIntArrayList#max()} and
+	 * {@link implementations.MyIntArrayList#countInRange(int, int)}
+	 * to match plain loops for every length, including ones that do not fill a group of four.
+	 */
+	@Test
+	public void testScans()
+	{
+		java.util.Random random = new java.util.Random( 24 );
+		for( int length = 1; length < 40; length++ )
+		{
+			myList.clear();
+			long sum = 0;
+			int min = Integer.MAX_VALUE;
+			int max = Integer.MIN_VALUE;
+			int inRange = 0;
+			for( int i = 0; i < length; i++ )
+			{
+				int value = random.nextInt();
+				myList.add( value );
+				sum += value;
+				min = Math.min( min, value );
+				max = Math.max( max, value );
+				if( value >= -1000000000 && value <= 1000000000 )
+				{
+					inRange++;
+				}
+			}
+			assertEquals( "Failed to sum without overflow", sum, myList.sum() );
+			assertEquals( "Failed to find the minimum", min, myList.min() );
+			assertEquals( "Failed to find the maximum", max, myList.max() );
+			assertEquals( "Failed to count the range", inRange, myList.countInRange( -1000000000, 1000000000 ) );
+			assertEquals( "Failed to find the last value", length - 1, myList.indexOf( myList.get( length - 1 ) ) );
+		}
+		assertEquals( "Failed to count the full range", myList.size(), myList.countInRange( Integer.MIN_VALUE, Integer.MAX_VALUE ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyIntArrayList#min()}
+	 * to throw NoSuchElementException for an empty list.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testMin_Empty()
+	{
+		myList.min();
+	}
+}
@@ -0,0 +1,218 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.ListCodecs;
+import implementations.MyArrayList;
+import implementations.MyDLL;
+import implementations.MyDoubleArrayList;
+import implementations.MyIntArrayList;
+
+/**
+ * Class Description:
+ * Test for the binary list codecs used to checkpoint and restore lists.
+ */
+
+public class ListCodecsTest
+{
+	// Attributes
+	private ByteArrayOutputStream bytes;
+	private DataOutputStream out;
+
+	/**
+	 * Initializes an empty output stream before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		bytes = new ByteArrayOutputStream();
+		out = new DataOutputStream( bytes );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		bytes = null;
+		out = null;
+	}
+
+	private DataInputStream written()
+	{
+		return new DataInputStream( new ByteArrayInputStream( bytes.toByteArray() ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ListCodecs#writeList(java.io.DataOutput, utilities.ListADT, utilities.BinaryCodec)}
+	 * to write strings of any length and restore them into another list type.
+	 * @throws IOException if the stream fails
+	 */
+	@Test
+	public void testWriteList_Strings() throws IOException
+	{
+		StringBuilder longText = new StringBuilder();
+		for( int i = 0; i < 70000; i++ )
+		{
+			longText.append( 'x' );
+		}
+		MyArrayList<String> source = new MyArrayList<>();
+		source.add( "plain" );
+		source.add( "caf\u00e9 \u4e2d\u6587 \ud83d\ude00" );
+		source.add( "" );
+		source.add( longText.toString() );
+		ListCodecs.writeList( out, source, ListCodecs.STRING );
+		MyDLL<String> restored = new MyDLL<>();
+
+		assertEquals( "Failed to report the count.", 4, ListCodecs.readList( written(), restored, ListCodecs.STRING ) );
+		assertArrayEquals( "Failed to restore the strings.", source.toArray(), restored.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ListCodecs#readList(java.io.DataInput, utilities.ListADT, utilities.BinaryCodec)}
+	 * to append after the existing elements and use only the size and data bytes.
+	 * @throws IOException if the stream fails
+	 */
+	@Test
+	public void testReadList_Appends() throws IOException
+	{
+		MyDLL<Integer> source = new MyDLL<>();
+		source.add( 1 );
+		source.add( 2 );
+		ListCodecs.writeList( out, source, ListCodecs.INTEGER );
+		MyArrayList<Integer> restored = new MyArrayList<>();
+		restored.add( 0 );
+		ListCodecs.readList( written(), restored, ListCodecs.INTEGER );
+
+		assertEquals( "Failed to write compactly.", 4 + 2 * 4, bytes.size() );
+		assertArrayEquals( "Failed to append.", new Integer[] { 0, 1, 2 }, restored.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ListCodecs#readList(java.io.DataInput, utilities.ListADT, utilities.BinaryCodec)}
+	 * to throw EOFException for a truncated stream.
+	 * @throws IOException if the stream fails
+	 */
+	@Test( expected = EOFException.class )
+	public void testReadList_Truncated() throws IOException
+	{
+		out.writeInt( 3 );
+		out.writeLong( 1L );
+		ListCodecs.readList( written(), new MyArrayList<Long>(), ListCodecs.LONG );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ListCodecs#writeInts(java.io.DataOutput, utilities.IntListADT)} and
+	 * {@link implementations.ListCodecs#writeDoubles(java.io.DataOutput, utilities.DoubleListADT)}
+	 * to restore primitive lists value for value.
+	 * @throws IOException if the stream fails
+	 */
+	@Test
+	public void testWritePrimitives() throws IOException
+	{
+		MyIntArrayList ints = new MyIntArrayList();
+		MyDoubleArrayList doubles = new MyDoubleArrayList();
+		for( int i = 0; i < 100; i++ )
+		{
+			ints.add( i * i - 50 );
+			doubles.add( i / 7.0 );
+		}
+		doubles.add( Double.NaN );
+		ListCodecs.writeInts( out, ints );
+		ListCodecs.writeDoubles( out, doubles );
+		DataInputStream in = written();
+		MyIntArrayList restoredInts = new MyIntArrayList();
+		MyDoubleArrayList restoredDoubles = new MyDoubleArrayList();
+		ListCodecs.readInts( in, restoredInts );
+		ListCodecs.readDoubles( in, restoredDoubles );
+
+		assertArrayEquals( "Failed to restore the ints.", ints.toArray(), restoredInts.toArray() );
+		assertArrayEquals( "Failed to restore the doubles.", doubles.toArray(), restoredDoubles.toArray(), 0.0 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ListCodecs#readInts(java.io.DataInput, utilities.IntListADT)}
+	 * to throw NullPointerException for a null list.
+	 * @throws IOException if the stream fails
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testReadInts_NullPointerException() throws IOException
+	{
+		out.writeInt( 0 );
+		ListCodecs.readInts( written(), null );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ListCodecs#readList(java.io.DataInput, utilities.ListADT, utilities.BinaryCodec)}
+	 * to bound the space reserved for a huge count before the elements arrive.
+	 * @throws IOException if the stream fails
+	 */
+	@Test
+	public void testReadList_HugeCount() throws IOException
+	{
+		out.writeInt( Integer.MAX_VALUE );
+		out.writeLong( 1L );
+		MyArrayList<Long> into = new MyArrayList<>();
+		try
+		{
+			ListCodecs.readList( written(), into, ListCodecs.LONG );
+			fail( "Failed to report the truncated stream." );
+		}
+		catch( EOFException e )
+		{
+			assertTrue( "Failed to bound the reserved space.", into.capacity() <= 1 << 17 );
+			assertEquals( "Failed to keep the element read.", 1, into.size() );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ListCodecs#STRING}
+	 * to read a string longer than the pre-sized buffer and reject a huge length without allocating it.
+	 * @throws IOException if the stream fails
+	 */
+	@Test
+	public void testString_LongAndHugeLength() throws IOException
+	{
+		StringBuilder text = new StringBuilder();
+		for( int i = 0; i < 100000; i++ )
+		{
+			text.append( (char) ( 'a' + i % 26 ) );
+		}
+		ListCodecs.STRING.write( out, text.toString() );
+		out.writeInt( Integer.MAX_VALUE );
+		out.writeByte( 'x' );
+		DataInputStream in = written();
+
+		assertEquals( "Failed to read the long string.", text.toString(), ListCodecs.STRING.read( in ) );
+		try
+		{
+			ListCodecs.STRING.read( in );
+			fail( "Failed to report the truncated string." );
+		}
+		catch( EOFException e )
+		{
+			assertTrue( true );
+		}
+	}
+}
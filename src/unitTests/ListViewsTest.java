@@ -0,0 +1,208 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.ListViews;
+import implementations.MyArrayList;
+import implementations.MyDLL;
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * Class Description:
+ * Test for the lazy list and iterator views in ListViews.
+ */
+
+public class ListViewsTest
+{
+	// Attributes
+	private MyArrayList<Integer> numbers;
+
+	/**
+	 * Fills a list with the numbers 0 to 99 before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		numbers = new MyArrayList<>();
+		for( int i = 0; i < 100; i++ )
+		{
+			numbers.add( i );
+		}
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		numbers = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ListViews#map(ListADT, java.util.function.Function)}
+	 * to apply the function only to the elements that are read.
+	 */
+	@Test
+	public void testMap()
+	{
+		AtomicInteger calls = new AtomicInteger();
+		ListADT<String> view = ListViews.map( numbers, i -> {
+			calls.incrementAndGet();
+			return "n" + i;
+		} );
+
+		assertEquals( "Failed to keep the size", 100, view.size() );
+		assertEquals( "Failed to call the function lazily", 0, calls.get() );
+		assertEquals( "Failed to map by index", "n42", view.get( 42 ) );
+		assertEquals( "Failed to map only the element read", 1, calls.get() );
+		numbers.set( 42, 7 );
+		assertEquals( "Failed to read through to the source", "n7", view.get( 42 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ListViews#map(ListADT, java.util.function.Function)}
+	 * to throw NullPointerException when the inner function of a fused map returns null.
+	 */
+	@Test
+	public void testMap_FusedNull()
+	{
+		AtomicInteger calls = new AtomicInteger();
+		ListADT<Integer> inner = ListViews.map( numbers, i -> i == 3 ? null : i );
+		ListADT<String> view = ListViews.map( inner, i -> {
+			calls.incrementAndGet();
+			return "n" + i;
+		} );
+		try
+		{
+			view.get( 3 );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertEquals( "Failed to stop before the outer function", 0, calls.get() );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ListViews#skip(ListADT, int)} and
+	 * {@link implementations.ListViews#limit(ListADT, int)}
+	 * to index a fused range of the source.
+	 */
+	@Test
+	public void testSkipAndLimit()
+	{
+		ListADT<Integer> view = ListViews.limit( ListViews.skip( ListViews.limit( ListViews.skip( numbers, 10 ), 50 ), 5 ), 20 );
+
+		assertEquals( "Failed to compute the size", 20, view.size() );
+		assertEquals( "Failed to offset the first element", Integer.valueOf( 15 ), view.get( 0 ) );
+		assertEquals( "Failed to offset the last element", Integer.valueOf( 34 ), view.get( 19 ) );
+		Iterator<Integer> it = view.iterator();
+		for( int i = 15; i < 35; i++ )
+		{
+			assertEquals( "Failed to iterate the range", Integer.valueOf( i ), it.next() );
+		}
+		assertFalse( "Failed to stop at the limit", it.hasNext() );
+		assertTrue( "Failed to be empty past the end", ListViews.skip( numbers, 200 ).isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.ListViews#limit(ListADT, int)}
+	 * to throw IndexOutOfBoundsException past the limit.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testLimit_OutOfRange()
+	{
+		ListViews.limit( numbers, 10 ).get( 10 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ListViews#filter(ListADT, java.util.function.Predicate)}
+	 * to keep the matching elements and stop early under a limit.
+	 */
+	@Test
+	public void testFilter()
+	{
+		AtomicInteger tested = new AtomicInteger();
+		ListADT<Integer> even = ListViews.filter( ListViews.filter( numbers, i -> {
+			tested.incrementAndGet();
+			return i % 2 == 0;
+		} ), i -> i % 3 == 0 );
+
+		assertEquals( "Failed to count the matches", 17, even.size() );
+		assertEquals( "Failed to index the matches", Integer.valueOf( 18 ), even.get( 3 ) );
+		assertTrue( "Failed to find a match", even.contains( 96 ) );
+		assertFalse( "Failed to reject a non-match", even.contains( 4 ) );
+
+		tested.set( 0 );
+		Iterator<Integer> firstTwo = ListViews.limit( even.iterator(), 2 );
+		assertEquals( "Failed to return the first match", Integer.valueOf( 0 ), firstTwo.next() );
+		assertEquals( "Failed to return the second match", Integer.valueOf( 6 ), firstTwo.next() );
+		assertFalse( "Failed to stop at the limit", firstTwo.hasNext() );
+		assertEquals( "Failed to stop reading the source", 7, tested.get() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ListViews#concat(ListADT, ListADT)} and
+	 * {@link implementations.ListViews#zip(ListADT, ListADT, java.util.function.BiFunction)}
+	 * to index across both sources.
+	 */
+	@Test
+	public void testConcatAndZip()
+	{
+		MyDLL<Integer> tail = new MyDLL<>();
+		tail.add( 100 );
+		tail.add( 101 );
+		ListADT<Integer> all = ListViews.concat( numbers, tail );
+		assertEquals( "Failed to add the sizes", 102, all.size() );
+		assertEquals( "Failed to index the first list", Integer.valueOf( 99 ), all.get( 99 ) );
+		assertEquals( "Failed to index the second list", Integer.valueOf( 101 ), all.get( 101 ) );
+
+		ListADT<Integer> sums = ListViews.zip( numbers, ListViews.skip( all, 1 ), Integer::sum );
+		assertEquals( "Failed to use the shorter size", 100, sums.size() );
+		assertEquals( "Failed to combine by index", Integer.valueOf( 199 ), sums.get( 99 ) );
+		Object[] array = sums.toArray();
+		assertEquals( "Failed to combine while iterating", 2 * 50 + 1, array[50] );
+	}
+
+	/**
+	 * Test method for the iterator overloads in {@link implementations.ListViews}
+	 * to chain map, skip, concat and zip lazily.
+	 */
+	@Test
+	public void testIterators()
+	{
+		Iterator<Integer> squares = ListViews.map( ListViews.skip( numbers.iterator(), 98 ), i -> i * i );
+		Iterator<Integer> joined = ListViews.concat( squares, ListViews.limit( numbers.iterator(), 1 ) );
+		Iterator<String> zipped = ListViews.zip( joined, numbers.iterator(), ( a, b ) -> a + ":" + b );
+
+		assertEquals( "Failed to zip the first pair", "9604:0", zipped.next() );
+		assertEquals( "Failed to zip the second pair", "9801:1", zipped.next() );
+		assertEquals( "Failed to continue into the second iterator", "0:2", zipped.next() );
+		assertFalse( "Failed to end with the shorter iterator", zipped.hasNext() );
+	}
+
+	/**
+	 * Test method for {@link implementations.ListViews#map(ListADT, java.util.function.Function)}
+	 * to reject changes to the view.
+	 */
+	@Test( expected = UnsupportedOperationException.class )
+	public void testView_ReadOnly()
+	{
+		ListViews.map( numbers, i -> i + 1 ).add( 5 );
+	}
+}
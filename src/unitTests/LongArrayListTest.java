@@ -0,0 +1,307 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyLongArrayList;
+import utilities.LongIterator;
+
+/**
+ * Class Description:
+ * Test for the primitive <code>long</code> array list implementation of the
+ * LongListADT.
+ */
+
+public class LongArrayListTest
+{
+	// Attributes
+	private MyLongArrayList myList;
+
+	/**
+	 * Initializes a new MyLongArrayList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new MyLongArrayList();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for constructor of MyLongArrayList class.
+	 */
+	@Test
+	public void testConstructor()
+	{
+		assertNotNull( "Failed to create the list", myList );
+		assertEquals( "Failed to return correct size", 0, myList.size() );
+		assertTrue( "Failed to report an empty list", myList.isEmpty() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLongArrayList#add(long)}
+	 * to append values past the initial capacity.
+	 */
+	@Test
+	public void testAdd_PastCapacity()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			assertTrue( "Failed to return true.", myList.add( (long) i ) );
+		}
+		assertEquals( "Failed to return correct size", 100, myList.size() );
+		for( int i = 0; i < 100; i++ )
+		{
+			assertEquals( "Failed to store value in order", (long) i, myList.get( i ), 0 );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLongArrayList#add(int, long)}
+	 * to insert values at the front and the middle of the list.
+	 */
+	@Test
+	public void testAddIntValue_Middle()
+	{
+		myList.add( (long) 1 );
+		myList.add( (long) 3 );
+		myList.add( 0, (long) 0 );
+		myList.add( 2, (long) 2 );
+		myList.add( 4, (long) 4 );
+
+		assertArrayEquals( "Failed to insert values in order", new long[] { 0, 1, 2, 3, 4 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLongArrayList#add(int, long)}
+	 * to add a value to an invalid index and throw IndexOutOfBoundsException.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testAddIntValue_IndexOutOfBoundsException()
+	{
+		myList.add( (long) 1 );
+		myList.add( 2, (long) 2 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLongArrayList#addAll(utilities.LongListADT)}
+	 * to append every value of another list.
+	 */
+	@Test
+	public void testAddAll()
+	{
+		MyLongArrayList other = new MyLongArrayList();
+		for( int i = 0; i < 25; i++ )
+		{
+			other.add( (long) i );
+		}
+		myList.add( (long) -1 );
+		myList.addAll( other );
+
+		assertEquals( "Failed to return correct size", 26, myList.size() );
+		assertEquals( "Failed to keep existing value", (long) -1, myList.get( 0 ), 0 );
+		assertEquals( "Failed to append last value", (long) 24, myList.get( 25 ), 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLongArrayList#addAll(utilities.LongListADT)}
+	 * to throw NullPointerException for a null list.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testAddAll_NullPointerException()
+	{
+		myList.addAll( null );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLongArrayList#get(int)}
+	 * to throw IndexOutOfBoundsException on an empty list.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testGet_IndexOutOfBoundsException()
+	{
+		myList.get( 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLongArrayList#remove(int)}
+	 * to remove values by index, including through the shrink path.
+	 */
+	@Test
+	public void testRemoveInt()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			myList.add( (long) i );
+		}
+		for( int i = 0; i < 90; i++ )
+		{
+			assertEquals( "Failed to return removed value", (long) i, myList.remove( 0 ), 0 );
+		}
+		assertEquals( "Failed to return correct size", 10, myList.size() );
+		assertEquals( "Failed to shift remaining values", (long) 90, myList.get( 0 ), 0 );
+		assertEquals( "Failed to shift remaining values", (long) 99, myList.get( 9 ), 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLongArrayList#removeValue(long)}
+	 * to remove the first occurrence of a value.
+	 */
+	@Test
+	public void testRemoveValue()
+	{
+		myList.add( (long) 5 );
+		myList.add( (long) 6 );
+		myList.add( (long) 5 );
+
+		assertTrue( "Failed to remove present value", myList.removeValue( (long) 5 ) );
+		assertFalse( "Failed to report missing value", myList.removeValue( (long) 7 ) );
+		assertArrayEquals( "Failed to remove first occurrence", new long[] { 6, 5 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLongArrayList#set(int, long)}
+	 * to replace a value and return the previous one.
+	 */
+	@Test
+	public void testSet()
+	{
+		myList.add( (long) 1 );
+		myList.add( (long) 2 );
+
+		assertEquals( "Failed to return replaced value", (long) 2, myList.set( 1, (long) 9 ), 0 );
+		assertEquals( "Failed to store new value", (long) 9, myList.get( 1 ), 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLongArrayList#indexOf(long)} and
+	 * {@link implementations.MyLongArrayList#contains(long)}.
+	 */
+	@Test
+	public void testIndexOfAndContains()
+	{
+		myList.add( (long) 4 );
+		myList.add( (long) 8 );
+
+		assertEquals( "Failed to find value", 1, myList.indexOf( (long) 8 ) );
+		assertEquals( "Failed to report missing value", -1, myList.indexOf( (long) 3 ) );
+		assertTrue( "Failed to find value", myList.contains( (long) 4 ) );
+		assertFalse( "Failed to report missing value", myList.contains( (long) 3 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLongArrayList#toArray(long[])}
+	 * to reuse a large enough array and allocate a new one otherwise.
+	 */
+	@Test
+	public void testToArrayHolder()
+	{
+		myList.add( (long) 1 );
+		myList.add( (long) 2 );
+		long[] big = new long[5];
+		long[] small = new long[1];
+
+		assertSame( "Failed to reuse the given array", big, myList.toArray( big ) );
+		assertArrayEquals( "Failed to allocate a new array", new long[] { 1, 2 }, myList.toArray( small ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLongArrayList#clear()}.
+	 */
+	@Test
+	public void testClear()
+	{
+		myList.add( (long) 1 );
+		myList.clear();
+
+		assertEquals( "Failed to clear the list", 0, myList.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLongArrayList#iterator()}
+	 * to walk every value and then throw NoSuchElementException.
+	 */
+	@Test
+	public void testIterator()
+	{
+		myList.add( (long) 1 );
+		myList.add( (long) 2 );
+		LongIterator it = myList.iterator();
+
+		assertEquals( "Failed to return first value", (long) 1, it.nextLong(), 0 );
+		assertEquals( "Failed to return second value", (long) 2, it.nextLong(), 0 );
+		assertFalse( "Failed to end the iteration", it.hasNext() );
+		try
+		{
+			it.nextLong();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyLongArrayList#sum()},
+	 * {@link implementations.MyLongArrayList#min()},
+	 * {@link implementations.MyLongArrayList#max()} and
+	 * {@link implementations.MyLongArrayList#countInRange(long, long)}
+	 * to match plain loops for every length, including ones that do not fill a group of four.
+	 */
+	@Test
+	public void testScans()
+	{
+		java.util.Random random = new java.util.Random( 24 );
+		for( int length = 1; length < 40; length++ )
+		{
+			myList.clear();
+			long sum = 0;
+			long min = Long.MAX_VALUE;
+			long max = Long.MIN_VALUE;
+			int inRange = 0;
+			for( int i = 0; i < length; i++ )
+			{
+				long value = random.nextLong();
+				myList.add( value );
+				sum += value;
+				min = Math.min( min, value );
+				max = Math.max( max, value );
+				if( value >= 0 )
+				{
+					inRange++;
+				}
+			}
+			assertEquals( "Failed to sum the values", sum, myList.sum() );
+			assertEquals( "Failed to find the minimum", min, myList.min() );
+			assertEquals( "Failed to find the maximum", max, myList.max() );
+			assertEquals( "Failed to count the range", inRange, myList.countInRange( 0, Long.MAX_VALUE ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MyLongArrayList#countInRange(long, long)}
+	 * to throw IllegalArgumentException for reversed bounds.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testCountInRange_Reversed()
+	{
+		myList.countInRange( 5, 4 );
+	}
+}
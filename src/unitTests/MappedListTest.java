@@ -0,0 +1,274 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.MyMappedList;
+import implementations.RecordCodecs;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the memory-mapped, file-backed implementation of the ListADT.
+ */
+
+public class MappedListTest
+{
+	// Attributes
+	private Path file;
+	private MyMappedList<Long> myList;
+
+	/**
+	 * Opens a new MyMappedList on an empty temporary file before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		file = Files.createTempFile( "mapped", ".list" );
+		myList = new MyMappedList<>( file, RecordCodecs.LONG );
+	}
+
+	/**
+	 * Closes the list and deletes its file after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList.close();
+		Files.deleteIfExists( file );
+		myList = null;
+		file = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyMappedList#add(int, java.lang.Object)}
+	 * to append, insert and read back records past the initial mapping.
+	 */
+	@Test
+	public void testAdd_Grows()
+	{
+		for( long i = 0; i < 1000; i++ )
+		{
+			myList.add( i );
+		}
+		myList.add( 0, -1L );
+		myList.add( 500, -2L );
+
+		assertEquals( "Failed to add all records.", 1002, myList.size() );
+		assertEquals( "Failed to insert at the front.", Long.valueOf( -1 ), myList.get( 0 ) );
+		assertEquals( "Failed to insert in the middle.", Long.valueOf( -2 ), myList.get( 500 ) );
+		assertEquals( "Failed to move the later records.", Long.valueOf( 999 ), myList.get( 1001 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyMappedList#remove(int)} and
+	 * {@link implementations.MyMappedList#set(int, java.lang.Object)}
+	 * to edit records in place.
+	 */
+	@Test
+	public void testRemoveAndSet()
+	{
+		for( long i = 0; i < 5; i++ )
+		{
+			myList.add( i );
+		}
+
+		assertEquals( "Failed to return the old record.", Long.valueOf( 2 ), myList.set( 2, 20L ) );
+		assertEquals( "Failed to remove the record.", Long.valueOf( 1 ), myList.remove( 1 ) );
+		assertEquals( "Failed to remove by value.", Long.valueOf( 20 ), myList.remove( Long.valueOf( 20 ) ) );
+		assertArrayEquals( "Failed to close the gaps.", new Object[] { 0L, 3L, 4L }, myList.toArray() );
+		Iterator<Long> it = myList.iterator();
+		assertEquals( "Failed to iterate from the start.", Long.valueOf( 0 ), it.next() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyMappedList#close()}
+	 * to keep the list in the file and cut the file to its records.
+	 * @throws IOException if the file fails
+	 */
+	@Test
+	public void testClose_Reopen() throws IOException
+	{
+		MyArrayList<Long> source = new MyArrayList<>();
+		for( long i = 0; i < 300; i++ )
+		{
+			source.add( i * i );
+		}
+		myList.addAll( source );
+		myList.truncate( 200 );
+		myList.close();
+
+		assertTrue( "Failed to report closed.", myList.isClosed() );
+		assertEquals( "Failed to cut the file.", 16 + 200 * 8, Files.size( file ) );
+		myList = new MyMappedList<>( file, RecordCodecs.LONG );
+		assertEquals( "Failed to restore the size.", 200, myList.size() );
+		assertEquals( "Failed to restore the records.", Long.valueOf( 199 * 199 ), myList.get( 199 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyMappedList#force()}
+	 * to commit the size so that a reader sees only committed records.
+	 * @throws IOException if the file fails
+	 */
+	@Test
+	public void testForce_CommitsSize() throws IOException
+	{
+		myList.add( 1L );
+		myList.add( 2L );
+		myList.force();
+		myList.add( 3L );
+
+		MyMappedList<Long> reader = new MyMappedList<>( file, RecordCodecs.LONG );
+		try
+		{
+			assertEquals( "Failed to ignore the uncommitted record.", 2, reader.size() );
+			assertEquals( "Failed to read the committed record.", Long.valueOf( 2 ), reader.get( 1 ) );
+		}
+		finally
+		{
+			reader.close();
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyMappedList#truncate(int)}
+	 * to commit the smaller size before later appends overwrite the dropped records.
+	 * @throws IOException if the file fails
+	 */
+	@Test
+	public void testTruncate_CommitsSize() throws IOException
+	{
+		myList.add( 1L );
+		myList.add( 2L );
+		myList.add( 3L );
+		myList.force();
+		myList.truncate( 1 );
+		myList.add( 4L );
+
+		MyMappedList<Long> reader = new MyMappedList<>( file, RecordCodecs.LONG );
+		try
+		{
+			assertEquals( "Failed to commit the truncated size.", 1, reader.size() );
+			assertEquals( "Failed to keep the committed record.", Long.valueOf( 1 ), reader.get( 0 ) );
+		}
+		finally
+		{
+			reader.close();
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyMappedList#addAll(utilities.ListADT)}
+	 * to append the list to itself once.
+	 */
+	@Test
+	public void testAddAll_Self()
+	{
+		for( long i = 1; i <= 5; i++ )
+		{
+			myList.add( i );
+		}
+		myList.addAll( myList );
+
+		assertArrayEquals( "Failed to append the list to itself.", new Object[] { 1L, 2L, 3L, 4L, 5L, 1L, 2L, 3L, 4L, 5L }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyMappedList#MyMappedList(java.nio.file.Path, utilities.RecordCodec)}
+	 * to store fixed-width strings.
+	 * @throws IOException if the file fails
+	 */
+	@Test
+	public void testStringRecords() throws IOException
+	{
+		Path strings = Files.createTempFile( "mapped", ".list" );
+		MyMappedList<String> names = new MyMappedList<>( strings, RecordCodecs.string( 12 ) );
+		try
+		{
+			names.add( "alpha" );
+			names.add( "" );
+			names.add( "caf\u00e9" );
+			assertEquals( "Failed to size the records.", 14, names.recordWidth() );
+			assertArrayEquals( "Failed to read the strings.", new Object[] { "alpha", "", "caf\u00e9" }, names.toArray() );
+		}
+		finally
+		{
+			names.close();
+			Files.deleteIfExists( strings );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyMappedList#MyMappedList(java.nio.file.Path, utilities.RecordCodec)}
+	 * to throw IOException for a file with another record width.
+	 * @throws IOException if the file fails
+	 */
+	@Test( expected = IOException.class )
+	public void testOpen_WrongWidth() throws IOException
+	{
+		myList.add( 1L );
+		myList.close();
+		new MyMappedList<>( file, RecordCodecs.INTEGER );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyMappedList#get(int)}
+	 * to throw IllegalStateException once the list is closed.
+	 * @throws IOException if the file fails
+	 */
+	@Test( expected = IllegalStateException.class )
+	public void testGet_Closed() throws IOException
+	{
+		myList.add( 1L );
+		myList.close();
+		myList.get( 0 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyMappedList#truncate(int)}
+	 * to throw IllegalArgumentException for a size above the current size.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testTruncate_IllegalArgumentException()
+	{
+		myList.truncate( 1 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyMappedList#removeIf(java.util.function.Predicate)}
+	 * to move each run of surviving records once.
+	 */
+	@Test
+	public void testRemoveIf()
+	{
+		for( long i = 0; i < 20; i++ )
+		{
+			myList.add( i );
+		}
+
+		assertTrue( "Failed to report a removal.", myList.removeIf( item -> item % 5 > 1 ) );
+		assertArrayEquals( "Failed to keep the survivors in order.", new Object[] { 0L, 1L, 5L, 6L, 10L, 11L, 15L, 16L }, myList.toArray() );
+		assertFalse( "Failed to report no removal.", myList.removeIf( item -> item < 0 ) );
+	}
+}
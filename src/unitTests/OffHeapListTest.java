@@ -0,0 +1,225 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyOffHeapList;
+import implementations.RecordCodecs;
+import implementations.ScalingGrowthPolicy;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the off-heap, direct-memory implementation of the ListADT.
+ */
+
+public class OffHeapListTest
+{
+	// Attributes
+	private MyOffHeapList<Integer> myList;
+
+	/**
+	 * Initializes a new MyOffHeapList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new MyOffHeapList<>( RecordCodecs.INTEGER );
+	}
+
+	/**
+	 * Frees the list after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList.close();
+		myList = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyOffHeapList#add(java.lang.Object)}
+	 * to grow the buffer geometrically and keep every record.
+	 */
+	@Test
+	public void testAdd_Grows()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			myList.add( i );
+		}
+
+		assertEquals( "Failed to add all elements.", 100, myList.size() );
+		assertEquals( "Failed to grow like MyArrayList.", 109, myList.capacity() );
+		assertEquals( "Failed to report the direct memory.", 109 * 4, myList.offHeapBytes() );
+		assertEquals( "Failed to keep the last element.", Integer.valueOf( 99 ), myList.get( 99 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyOffHeapList#remove(int)}
+	 * to shrink the buffer once enough elements are gone.
+	 */
+	@Test
+	public void testRemove_Shrinks()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			myList.add( i );
+		}
+		while( myList.size() > 5 )
+		{
+			myList.remove( 0 );
+		}
+
+		assertEquals( "Failed to shrink the buffer.", 22, myList.capacity() );
+		assertArrayEquals( "Failed to keep the remaining elements.", new Object[] { 95, 96, 97, 98, 99 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyOffHeapList#addAll(utilities.ListADT)}
+	 * to append the list to itself once.
+	 */
+	@Test
+	public void testAddAll_Self()
+	{
+		for( int i = 1; i <= 5; i++ )
+		{
+			myList.add( i );
+		}
+		myList.addAll( myList );
+
+		assertArrayEquals( "Failed to append the list to itself.", new Object[] { 1, 2, 3, 4, 5, 1, 2, 3, 4, 5 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for the ListADT operations of
+	 * {@link implementations.MyOffHeapList}
+	 * to match java.util.ArrayList over a random sequence of edits.
+	 */
+	@Test
+	public void testRandomEdits()
+	{
+		Random random = new Random( 15 );
+		java.util.List<Integer> expected = new java.util.ArrayList<>();
+		for( int step = 0; step < 5000; step++ )
+		{
+			int op = random.nextInt( 4 );
+			int value = random.nextInt( 50 );
+			if( op == 0 || expected.isEmpty() )
+			{
+				int index = random.nextInt( expected.size() + 1 );
+				myList.add( index, value );
+				expected.add( index, value );
+			}
+			else if( op == 1 )
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to remove the same element.", expected.remove( index ), myList.remove( index ) );
+			}
+			else if( op == 2 )
+			{
+				assertEquals( "Failed to remove the same value.", expected.remove( Integer.valueOf( value ) ) ? Integer.valueOf( value ) : null, myList.remove( Integer.valueOf( value ) ) );
+			}
+			else
+			{
+				myList.add( value );
+				expected.add( value );
+			}
+		}
+		assertArrayEquals( "Failed to match ArrayList.", expected.toArray(), myList.toArray() );
+		Iterator<Integer> it = myList.iterator();
+		for( Integer value : expected )
+		{
+			assertEquals( "Failed to iterate in order.", value, it.next() );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyOffHeapList#MyOffHeapList(utilities.RecordCodec, utilities.GrowthPolicy)}
+	 * to store wider records with a custom growth policy.
+	 */
+	@Test
+	public void testStringRecords()
+	{
+		MyOffHeapList<String> names = new MyOffHeapList<>( RecordCodecs.string( 8 ), ScalingGrowthPolicy.neverShrink( 2 ) );
+		names.add( "b" );
+		names.add( 0, "a" );
+		names.add( "c" );
+		names.set( 2, "cc" );
+		names.remove( 1 );
+
+		assertArrayEquals( "Failed to store the strings.", new Object[] { "a", "cc" }, names.toArray() );
+		assertTrue( "Failed to find the string.", names.contains( "cc" ) );
+		names.close();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyOffHeapList#close()}
+	 * to release the memory and allow a second close.
+	 */
+	@Test
+	public void testClose()
+	{
+		myList.add( 1 );
+		myList.close();
+		myList.close();
+
+		assertTrue( "Failed to report closed.", myList.isClosed() );
+		assertEquals( "Failed to release the memory.", 0, myList.offHeapBytes() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyOffHeapList#get(int)}
+	 * to throw IllegalStateException once the list is closed.
+	 */
+	@Test( expected = IllegalStateException.class )
+	public void testGet_Closed()
+	{
+		myList.add( 1 );
+		myList.close();
+		myList.get( 0 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyOffHeapList#add(java.lang.Object)}
+	 * to throw NullPointerException for a null element.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testAdd_NullPointerException()
+	{
+		myList.add( null );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyOffHeapList#removeIf(java.util.function.Predicate)}
+	 * to move each run of survivors once and shrink the buffer.
+	 */
+	@Test
+	public void testRemoveIf()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			myList.add( i );
+		}
+
+		assertTrue( "Failed to report a removal.", myList.removeIf( item -> item % 10 > 1 ) );
+		assertArrayEquals( "Failed to keep the survivors in order.", new Object[] { 0, 1, 10, 11, 20, 21, 30, 31, 40, 41, 50, 51, 60, 61, 70, 71, 80, 81, 90, 91 }, myList.toArray() );
+		assertTrue( "Failed to shrink the buffer.", myList.capacity() < 109 );
+		assertFalse( "Failed to report no removal.", myList.removeIf( item -> item < 0 ) );
+	}
+}
@@ -0,0 +1,236 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.MyPersistentVector;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the persistent (immutable, structurally shared) implementation of the ListADT.
+ */
+
+public class PersistentVectorTest
+{
+	// Attributes
+	private MyPersistentVector<Integer> empty;
+
+	/**
+	 * Gets the empty vector before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		empty = MyPersistentVector.empty();
+	}
+
+	/**
+	 * Appends <code>count</code> elements one version at a time.
+	 */
+	private MyPersistentVector<Integer> appended( int count )
+	{
+		MyPersistentVector<Integer> vector = empty;
+		for( int i = 0; i < count; i++ )
+		{
+			vector = vector.plus( i );
+		}
+		return vector;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyPersistentVector#plus(java.lang.Object)}
+	 * to grow the trie past three levels and read every element back.
+	 */
+	@Test
+	public void testPlus_DeepTrie()
+	{
+		MyPersistentVector<Integer> vector = appended( 40000 );
+
+		assertEquals( "Failed to count the elements.", 40000, vector.size() );
+		for( int i = 0; i < 40000; i++ )
+		{
+			assertEquals( "Failed to read element " + i + ".", Integer.valueOf( i ), vector.get( i ) );
+		}
+		Iterator<Integer> it = vector.iterator();
+		for( int i = 0; i < 40000; i++ )
+		{
+			assertEquals( "Failed to iterate in order.", Integer.valueOf( i ), it.next() );
+		}
+		assertFalse( "Failed to end the iteration.", it.hasNext() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyPersistentVector#with(int, java.lang.Object)}
+	 * to leave every older version unchanged.
+	 */
+	@Test
+	public void testWith_OldVersionsUnchanged()
+	{
+		MyPersistentVector<Integer> first = appended( 2000 );
+		MyPersistentVector<Integer> second = first.with( 5, -5 ).with( 1990, -1990 );
+		MyPersistentVector<Integer> third = second.plus( 2000 );
+
+		assertEquals( "Failed to keep the first version.", Integer.valueOf( 5 ), first.get( 5 ) );
+		assertEquals( "Failed to keep the first version's tail.", Integer.valueOf( 1990 ), first.get( 1990 ) );
+		assertEquals( "Failed to replace in the trie.", Integer.valueOf( -5 ), second.get( 5 ) );
+		assertEquals( "Failed to replace in the tail.", Integer.valueOf( -1990 ), second.get( 1990 ) );
+		assertEquals( "Failed to keep the second version's size.", 2000, second.size() );
+		assertEquals( "Failed to carry the change forward.", Integer.valueOf( -5 ), third.get( 5 ) );
+		assertEquals( "Failed to append.", Integer.valueOf( 2000 ), third.get( 2000 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyPersistentVector#minusLast()}
+	 * to collapse the trie level by level back to empty.
+	 */
+	@Test
+	public void testMinusLast_ToEmpty()
+	{
+		MyPersistentVector<Integer> full = appended( 33000 );
+		MyPersistentVector<Integer> vector = full;
+		for( int size = 33000; size > 0; size-- )
+		{
+			assertEquals( "Failed to keep the last element.", Integer.valueOf( size - 1 ), vector.get( size - 1 ) );
+			vector = vector.minusLast();
+		}
+
+		assertTrue( "Failed to empty the vector.", vector.isEmpty() );
+		assertEquals( "Failed to keep the full version.", Integer.valueOf( 32999 ), full.get( 32999 ) );
+		assertEquals( "Failed to grow again after emptying.", Integer.valueOf( 7 ), vector.plus( 7 ).get( 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyPersistentVector#minusLast()}
+	 * to throw NoSuchElementException on the empty vector.
+	 */
+	@Test( expected = NoSuchElementException.class )
+	public void testMinusLast_Empty()
+	{
+		empty.minusLast();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyPersistentVector.Builder}
+	 * to match a vector built one version at a time and leave its source unchanged.
+	 */
+	@Test
+	public void testBuilder()
+	{
+		MyPersistentVector.Builder<Integer> builder = MyPersistentVector.builder();
+		for( int i = 0; i < 5000; i++ )
+		{
+			builder.add( i );
+		}
+		MyPersistentVector<Integer> built = builder.build();
+		MyPersistentVector<Integer> edited = built.toBuilder().set( 0, -1 ).set( 4999, -2 ).add( 5000 ).build();
+
+		assertArrayEquals( "Failed to match appending.", appended( 5000 ).toArray(), built.toArray() );
+		assertEquals( "Failed to leave the source unchanged.", Integer.valueOf( 0 ), built.get( 0 ) );
+		assertEquals( "Failed to leave the source's tail unchanged.", Integer.valueOf( 4999 ), built.get( 4999 ) );
+		assertEquals( "Failed to edit in the trie.", Integer.valueOf( -1 ), edited.get( 0 ) );
+		assertEquals( "Failed to edit in the tail.", Integer.valueOf( -2 ), edited.get( 4999 ) );
+		assertEquals( "Failed to append.", 5001, edited.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyPersistentVector.Builder#build()}
+	 * to close the builder so the built vector can never change.
+	 */
+	@Test( expected = IllegalStateException.class )
+	public void testBuilder_Closed()
+	{
+		MyPersistentVector.Builder<Integer> builder = MyPersistentVector.builder();
+		builder.add( 1 );
+		builder.build();
+		builder.add( 2 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyPersistentVector#of(utilities.ListADT)}
+	 * to copy a list and match it after random versioned edits.
+	 */
+	@Test
+	public void testOf_RandomEdits()
+	{
+		MyArrayList<Integer> source = new MyArrayList<>();
+		for( int i = 0; i < 3000; i++ )
+		{
+			source.add( i );
+		}
+		MyPersistentVector<Integer> vector = MyPersistentVector.of( source );
+		Random random = new Random( 17 );
+		for( int step = 0; step < 3000; step++ )
+		{
+			int op = random.nextInt( 3 );
+			if( op == 0 )
+			{
+				int index = random.nextInt( source.size() );
+				source.set( index, -step );
+				vector = vector.with( index, -step );
+			}
+			else if( op == 1 )
+			{
+				source.add( step );
+				vector = vector.plus( step );
+			}
+			else
+			{
+				source.remove( source.size() - 1 );
+				vector = vector.minusLast();
+			}
+		}
+		assertArrayEquals( "Failed to match the array list.", source.toArray(), vector.toArray() );
+		assertEquals( "Failed to search the vector.", source.indexOf( source.get( 1234 ) ), vector.indexOf( source.get( 1234 ) ) );
+	}
+
+	/**
+	 * Test method for the serialized form of {@link implementations.MyPersistentVector}
+	 * to read back an equal vector.
+	 * @throws Exception if serialization fails
+	 */
+	@Test
+	@SuppressWarnings( "unchecked" )
+	public void testSerialization() throws Exception
+	{
+		MyPersistentVector<Integer> vector = appended( 1100 );
+		java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+		try( java.io.ObjectOutputStream out = new java.io.ObjectOutputStream( bytes ) )
+		{
+			out.writeObject( vector );
+		}
+		MyPersistentVector<Integer> copy;
+		try( java.io.ObjectInputStream in = new java.io.ObjectInputStream( new java.io.ByteArrayInputStream( bytes.toByteArray() ) ) )
+		{
+			copy = (MyPersistentVector<Integer>) in.readObject();
+		}
+
+		assertArrayEquals( "Failed to keep the elements.", vector.toArray(), copy.toArray() );
+		assertEquals( "Failed to append after reading.", Integer.valueOf( 1100 ), copy.plus( 1100 ).get( 1100 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyPersistentVector#add(java.lang.Object)}
+	 * to throw UnsupportedOperationException, as the vector is immutable.
+	 */
+	@Test( expected = UnsupportedOperationException.class )
+	public void testAdd_Unsupported()
+	{
+		empty.add( 1 );
+	}
+}
@@ -613,4 +613,21 @@ public class QueueTest
 			assertEquals("Failed to return -1 for not found", expectedIndex, actualIndex);
 		} 
  
+
+	/**
+	 * Test method for {@link implementations.MyQueue#stream()} and
+	 * {@link implementations.MyQueue#parallelStream()}
+	 * to stream the queue from front to back.
+	 */
+	@Test
+	public void testStream()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+
+		Object[] expected = { one, two, three };
+		assertArrayEquals( "Failed to stream from the front.", expected, queue.stream().toArray() );
+		assertArrayEquals( "Failed to stream in parallel from the front.", expected, queue.parallelStream().toArray() );
+	}
 }
@@ -0,0 +1,301 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.MySegmentedList;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the chunked (tiered-vector) implementation of the ListADT.
+ */
+
+public class SegmentedListTest
+{
+	// Attributes
+	private MySegmentedList<Integer> myList;
+
+	/**
+	 * Initializes a new MySegmentedList instance with small chunks before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new MySegmentedList<>( 4 );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for constructor of MySegmentedList class.
+	 */
+	@Test
+	public void testConstructor()
+	{
+		assertEquals( "Failed to return correct size", 0, myList.size() );
+		assertEquals( "Failed to round the chunk size", 8, new MySegmentedList<Integer>( 5 ).chunkSize() );
+	}
+
+	/**
+	 * Test method for constructor of MySegmentedList class
+	 * to throw IllegalArgumentException for a chunk size below one.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testConstructor_IllegalArgumentException()
+	{
+		new MySegmentedList<Integer>( 0 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MySegmentedList#add(java.lang.Object)}
+	 * to append items across many chunks.
+	 */
+	@Test
+	public void testAdd_ManyChunks()
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			myList.add( i );
+		}
+		assertEquals( "Failed to return correct size", 1000, myList.size() );
+		for( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( "Failed to store item in order", Integer.valueOf( i ), myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MySegmentedList#add(int, java.lang.Object)}
+	 * to throw NullPointerException for a null item.
+	 */
+	@Test( expected = NullPointerException.class )
+	public void testAddIntE_NullPointerException()
+	{
+		myList.add( 0, null );
+	}
+
+	/**
+	 * Test method for {@link implementations.MySegmentedList#get(int)}
+	 * to throw IndexOutOfBoundsException past the end.
+	 */
+	@Test( expected = IndexOutOfBoundsException.class )
+	public void testGet_IndexOutOfBoundsException()
+	{
+		myList.add( 1 );
+		myList.get( 1 );
+	}
+
+	/**
+	 * Test method for {@link implementations.MySegmentedList#add(int, java.lang.Object)} and
+	 * {@link implementations.MySegmentedList#remove(int)}
+	 * to stay consistent with java.util.ArrayList under mixed edits.
+	 */
+	@Test
+	public void testAddRemove_MatchesArrayList()
+	{
+		for( int chunkSize : new int[] { 1, 4, 16 } )
+		{
+			MySegmentedList<Integer> segmented = new MySegmentedList<>( chunkSize );
+			java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+			java.util.Random random = new java.util.Random( 304 );
+			for( int i = 0; i < 3000; i++ )
+			{
+				boolean grow = i < 1500 ? random.nextInt( 3 ) != 0 : random.nextInt( 3 ) == 0;
+				if( expected.isEmpty() || grow )
+				{
+					int index = random.nextInt( expected.size() + 1 );
+					segmented.add( index, i );
+					expected.add( index, i );
+				}
+				else
+				{
+					int index = random.nextInt( expected.size() );
+					assertEquals( "Failed to remove correct item", expected.remove( index ), segmented.remove( index ) );
+				}
+			}
+			assertArrayEquals( "Failed to keep items in order", expected.toArray(), segmented.toArray() );
+		}
+	}
+
+	/**
+	 * Test method for {@link implementations.MySegmentedList#remove(int)}
+	 * to empty the list from the front and then reuse it.
+	 */
+	@Test
+	public void testRemoveInt_ToEmpty()
+	{
+		for( int i = 0; i < 50; i++ )
+		{
+			myList.add( i );
+		}
+		for( int i = 0; i < 50; i++ )
+		{
+			assertEquals( "Failed to remove from the front", Integer.valueOf( i ), myList.remove( 0 ) );
+		}
+		assertTrue( "Failed to empty the list", myList.isEmpty() );
+		myList.add( 7 );
+		assertEquals( "Failed to reuse the list", Integer.valueOf( 7 ), myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MySegmentedList#set(int, java.lang.Object)},
+	 * {@link implementations.MySegmentedList#indexOf(java.lang.Object)} and
+	 * {@link implementations.MySegmentedList#remove(java.lang.Object)}.
+	 */
+	@Test
+	public void testSetIndexOfRemoveE()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+
+		assertEquals( "Failed to return replaced item", Integer.valueOf( 6 ), myList.set( 6, 60 ) );
+		assertEquals( "Failed to find item", 6, myList.indexOf( 60 ) );
+		assertTrue( "Failed to find item", myList.contains( 9 ) );
+		assertEquals( "Failed to remove by item", Integer.valueOf( 60 ), myList.remove( Integer.valueOf( 60 ) ) );
+		assertNull( "Failed to report missing item", myList.remove( Integer.valueOf( 60 ) ) );
+		assertEquals( "Failed to shift later items", Integer.valueOf( 7 ), myList.get( 6 ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MySegmentedList#addAll(utilities.ListADT)},
+	 * {@link implementations.MySegmentedList#iterator()} and
+	 * {@link implementations.MySegmentedList#toArray(java.lang.Object[])}.
+	 */
+	@Test
+	public void testAddAllIteratorToArray()
+	{
+		MyArrayList<Integer> other = new MyArrayList<>();
+		for( int i = 0; i < 9; i++ )
+		{
+			other.add( i );
+		}
+		myList.addAll( other );
+		Iterator<Integer> it = myList.iterator();
+		int expected = 0;
+		while( it.hasNext() )
+		{
+			assertEquals( "Failed to iterate in order", Integer.valueOf( expected++ ), it.next() );
+		}
+
+		assertEquals( "Failed to iterate every item", 9, expected );
+		assertArrayEquals( "Failed to copy items", other.toArray(), myList.toArray( new Integer[0] ) );
+	}
+
+	/**
+	 * Test method for {@link implementations.MySegmentedList#clear()}.
+	 */
+	@Test
+	public void testClear()
+	{
+		for( int i = 0; i < 20; i++ )
+		{
+			myList.add( i );
+		}
+		myList.clear();
+
+		assertEquals( "Failed to clear the list", 0, myList.size() );
+		assertFalse( "Failed to clear the list", myList.contains( 3 ) );
+	}
+
+	/**
+	 * Serializes an object and reads it back.
+	 */
+	@SuppressWarnings( "unchecked" )
+	private static <T> T roundTrip( T toCopy ) throws Exception
+	{
+		java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+		try( java.io.ObjectOutputStream out = new java.io.ObjectOutputStream( bytes ) )
+		{
+			out.writeObject( toCopy );
+		}
+		try( java.io.ObjectInputStream in = new java.io.ObjectInputStream( new java.io.ByteArrayInputStream( bytes.toByteArray() ) ) )
+		{
+			return (T) in.readObject();
+		}
+	}
+
+	/**
+	 * Test method for the serialized form of {@link implementations.MySegmentedList}
+	 * to keep the elements and chunk size when chunk heads have moved.
+	 * @throws Exception if serialization fails
+	 */
+	@Test
+	public void testSerialization() throws Exception
+	{
+		for( int i = 0; i < 11; i++ )
+		{
+			myList.add( i );
+		}
+		myList.remove( 1 );
+		myList.add( 0, -1 );
+		MySegmentedList<Integer> copy = roundTrip( myList );
+
+		assertArrayEquals( "Failed to keep the elements in order.", myList.toArray(), copy.toArray() );
+		assertEquals( "Failed to keep the chunk size.", 4, copy.chunkSize() );
+		copy.add( 5, 50 );
+		copy.remove( 0 );
+		assertEquals( "Failed to edit after reading.", Integer.valueOf( 50 ), copy.get( 4 ) );
+		assertEquals( "Failed to keep the tail.", Integer.valueOf( 10 ), copy.get( 10 ) );
+	}
+
+	/**
+	 * Test method for the default
+	 * {@link utilities.ListADT#removeIf(java.util.function.Predicate)} and
+	 * {@link utilities.ListADT#replaceAll(java.util.function.UnaryOperator)}
+	 * on a list that does not override them.
+	 */
+	@Test
+	public void testDefaultRemoveIfAndReplaceAll()
+	{
+		for( int i = 0; i < 20; i++ )
+		{
+			myList.add( i );
+		}
+		myList.removeIf( item -> item % 4 != 0 );
+		myList.replaceAll( item -> item / 4 );
+
+		assertArrayEquals( "Failed to apply both operations.", new Object[] { 0, 1, 2, 3, 4 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySegmentedList#removeIf(java.util.function.Predicate)}
+	 * to compact the survivors across chunks whose heads have moved.
+	 */
+	@Test
+	public void testRemoveIf()
+	{
+		java.util.List<Integer> expected = new java.util.ArrayList<>();
+		for( int i = 0; i < 30; i++ )
+		{
+			myList.add( i );
+			expected.add( i );
+		}
+		myList.remove( 1 );
+		expected.remove( 1 );
+		myList.add( 0, 99 );
+		expected.add( 0, 99 );
+		expected.removeIf( item -> item % 3 == 0 );
+
+		assertTrue( "Failed to report a removal.", myList.removeIf( item -> item % 3 == 0 ) );
+		assertArrayEquals( "Failed to keep the survivors in order.", expected.toArray(), myList.toArray() );
+		myList.add( 100 );
+		assertEquals( "Failed to append after compacting.", Integer.valueOf( 100 ), myList.get( expected.size() ) );
+	}
+}
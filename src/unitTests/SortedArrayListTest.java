@@ -0,0 +1,194 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.MySortedArrayList;
+import utilities.Iterator;
+
+/**
+ * Class Description:
+ * Test for the sorted, binary-searched implementation of the ListADT.
+ */
+
+public class SortedArrayListTest
+{
+	// Attributes
+	private MySortedArrayList<Integer> myList;
+
+	/**
+	 * Initializes a new naturally ordered MySortedArrayList before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new MySortedArrayList<>();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySortedArrayList#add(java.lang.Object)}
+	 * to keep random insertions and removals in sorted order.
+	 */
+	@Test
+	public void testAdd_RandomOrder()
+	{
+		Random random = new Random( 18 );
+		java.util.List<Integer> expected = new java.util.ArrayList<>();
+		for( int step = 0; step < 3000; step++ )
+		{
+			int value = random.nextInt( 500 );
+			if( random.nextInt( 3 ) == 0 )
+			{
+				Integer removed = myList.remove( Integer.valueOf( value ) );
+				assertEquals( "Failed to remove the same value.", expected.remove( Integer.valueOf( value ) ), removed != null );
+			}
+			else
+			{
+				myList.add( value );
+				expected.add( value );
+			}
+		}
+		java.util.Collections.sort( expected );
+
+		assertArrayEquals( "Failed to keep the list sorted.", expected.toArray(), myList.toArray() );
+		assertEquals( "Failed to find the first occurrence.", expected.indexOf( expected.get( 100 ) ), myList.indexOf( expected.get( 100 ) ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySortedArrayList#floor(java.lang.Object)} and
+	 * {@link implementations.MySortedArrayList#ceiling(java.lang.Object)}
+	 * to find the nearest elements on either side.
+	 */
+	@Test
+	public void testFloorAndCeiling()
+	{
+		for( int i = 10; i <= 50; i += 10 )
+		{
+			myList.add( i );
+		}
+
+		assertEquals( "Failed to find an exact floor.", Integer.valueOf( 30 ), myList.floor( 30 ) );
+		assertEquals( "Failed to find the floor between elements.", Integer.valueOf( 30 ), myList.floor( 35 ) );
+		assertNull( "Failed to report no floor.", myList.floor( 5 ) );
+		assertEquals( "Failed to find the ceiling between elements.", Integer.valueOf( 40 ), myList.ceiling( 35 ) );
+		assertNull( "Failed to report no ceiling.", myList.ceiling( 51 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySortedArrayList#range(java.lang.Object, java.lang.Object)}
+	 * to copy the half-open range of elements.
+	 */
+	@Test
+	public void testRange()
+	{
+		for( int i = 0; i < 20; i++ )
+		{
+			myList.add( i / 2 );
+		}
+		MySortedArrayList<Integer> range = myList.range( 3, 6 );
+
+		assertArrayEquals( "Failed to copy the range.", new Object[] { 3, 3, 4, 4, 5, 5 }, range.toArray() );
+		assertEquals( "Failed to copy an empty range.", 0, myList.range( 20, 30 ).size() );
+		range.add( 0 );
+		assertEquals( "Failed to keep the copy sorted.", Integer.valueOf( 0 ), range.get( 0 ) );
+		assertEquals( "Failed to leave the list unchanged.", 20, myList.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySortedArrayList#range(java.lang.Object, java.lang.Object)}
+	 * to throw IllegalArgumentException for a reversed range.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testRange_Reversed()
+	{
+		myList.range( 5, 1 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySortedArrayList#addAll(utilities.ListADT)}
+	 * to merge unsorted elements in, keeping equal elements in the order they were added.
+	 */
+	@Test
+	public void testAddAll_MergesStably()
+	{
+		MySortedArrayList<String> byLength = new MySortedArrayList<>( Comparator.comparingInt( String::length ) );
+		byLength.add( "bb" );
+		byLength.add( "dddd" );
+		MyArrayList<String> incoming = new MyArrayList<>();
+		incoming.add( "ccc" );
+		incoming.add( "a" );
+		incoming.add( "xx" );
+		incoming.add( "yyyy" );
+		byLength.addAll( incoming );
+
+		assertArrayEquals( "Failed to merge in order.", new Object[] { "a", "bb", "xx", "ccc", "dddd", "yyyy" }, byLength.toArray() );
+		assertTrue( "Failed to search by the comparator.", byLength.contains( "zzz" ) );
+		Iterator<String> it = byLength.iterator();
+		assertEquals( "Failed to iterate in order.", "a", it.next() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySortedArrayList#add(int, java.lang.Object)}
+	 * to accept an index that keeps the list sorted.
+	 */
+	@Test
+	public void testAddIndex_InOrder()
+	{
+		myList.add( 1 );
+		myList.add( 3 );
+		myList.add( 1, 2 );
+		myList.set( 0, 0 );
+
+		assertArrayEquals( "Failed to insert at the index.", new Object[] { 0, 2, 3 }, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySortedArrayList#add(int, java.lang.Object)}
+	 * to throw IllegalArgumentException for an index that would break the order.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testAddIndex_OutOfOrder()
+	{
+		myList.add( 1 );
+		myList.add( 3 );
+		myList.add( 0, 2 );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySortedArrayList#set(int, java.lang.Object)}
+	 * to throw IllegalArgumentException for an element that would break the order.
+	 */
+	@Test( expected = IllegalArgumentException.class )
+	public void testSet_OutOfOrder()
+	{
+		myList.add( 1 );
+		myList.add( 3 );
+		myList.set( 0, 4 );
+	}
+}
@@ -10,6 +10,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import utilities.Iterator;
+import implementations.ArrayPool;
 import implementations.MyStack;
 
 /**
@@ -649,4 +650,47 @@ public class StackTest
 	{
 		assertFalse(stack.stackOverflow());
 	}
+
+	/**
+	 * Test method for {@link implementations.MyStack#stream()} and
+	 * {@link implementations.MyStack#parallelStream()}
+	 * to stream the stack from the top down.
+	 */
+	@Test
+	public void testStream()
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+
+		Object[] expected = { three, two, one };
+		assertArrayEquals( "Failed to stream from the top.", expected, stack.stream().toArray() );
+		assertArrayEquals( "Failed to stream in parallel from the top.", expected, stack.parallelStream().toArray() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyStack#release()}
+	 * to empty a pooled stack and let the next stack reuse its array.
+	 */
+	@Test
+	public void testRelease()
+	{
+		ArrayPool pool = new ArrayPool();
+		MyStack<Integer> pooled = new MyStack<>( pool );
+		for( int i = 0; i < 50; i++ )
+		{
+			pooled.push( i );
+		}
+		pooled.release();
+		assertTrue( "Failed to empty the stack.", pooled.isEmpty() );
+
+		pool.resetStatistics();
+		MyStack<Integer> next = new MyStack<>( pool );
+		for( int i = 0; i < 50; i++ )
+		{
+			next.push( i );
+		}
+		assertEquals( "Failed to keep the top element.", Integer.valueOf( 49 ), next.peek() );
+		assertTrue( "Failed to borrow most arrays from the pool.", pool.hitRate() > 0.5 );
+	}
 }
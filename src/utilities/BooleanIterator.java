@@ -0,0 +1,29 @@
+package utilities;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A mono-directional iterator over a sequence of primitive <code>boolean</code>
+ * values. This is the primitive counterpart of {@link Iterator}: the values are
+ * returned unboxed, so walking a primitive list never allocates a wrapper
+ * object per element.
+ */
+public interface BooleanIterator
+{
+	/**
+	 * Returns <code>true</code> if the iteration has more elements. (In other
+	 * words, returns <code>true</code> if <code>nextBoolean()</code> would return an
+	 * element rather than throwing an exception.)
+	 * 
+	 * @return <code>true</code> if the iterator has more elements.
+	 */
+	public boolean hasNext();
+
+	/**
+	 * Returns the next value in the iteration.
+	 * 
+	 * @return The next value in the iteration.
+	 * @throws NoSuchElementException If the iteration has no more elements.
+	 */
+	public boolean nextBoolean() throws NoSuchElementException;
+}
@@ -0,0 +1,33 @@
+package utilities;
+
+import java.io.Serializable;
+
+/**
+ * Decides how an array-backed list sizes its backing array.
+ * Implementations must be stateless so one policy can be shared by many lists,
+ * and serializable so that the lists using them can be.
+ */
+public interface GrowthPolicy extends Serializable {
+
+    /**
+     * Returns the capacity a new or cleared list starts with.
+     * @return the initial capacity, never negative
+     */
+    int initialCapacity();
+
+    /**
+     * Returns the capacity to grow to when the list needs more room.
+     * @param capacity the current capacity
+     * @param required the number of elements the array must be able to hold
+     * @return a new capacity that is at least <code>required</code> and larger than <code>capacity</code>
+     */
+    int grow(int capacity, int required);
+
+    /**
+     * Returns the capacity to shrink to after an element is removed.
+     * @param capacity the current capacity
+     * @param size the number of elements left in the list
+     * @return a capacity of at least <code>size</code>; <code>capacity</code> itself if the array should be kept
+     */
+    int shrink(int capacity, int size);
+}
@@ -1,6 +1,7 @@
 package utilities;
 
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
 /**
  * This interface will provide an mono-directional iterator for any of the data
@@ -31,4 +32,21 @@ public interface Iterator<E>
 	 * @throws NoSuchElementException If the iteration has no more elements.
 	 */
 	public E next() throws NoSuchElementException;
+
+	/**
+	 * Performs the given action on each remaining element, in order, until all
+	 * elements have been processed or the action throws an exception. The
+	 * default implementation calls <code>next()</code> in a loop; implementors
+	 * that can walk their storage directly should override it.
+	 * 
+	 * @param action The action to perform on each element.
+	 * @throws NullPointerException If the action is <code>null</code>.
+	 */
+	public default void forEachRemaining( Consumer<? super E> action ) throws NullPointerException
+	{
+		if( action == null )
+			throw new NullPointerException( "action cannot be null" );
+		while( hasNext() )
+			action.accept( next() );
+	}
 }
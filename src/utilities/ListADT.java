@@ -1,6 +1,14 @@
 package utilities;
 
 import java.io.Serializable;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <p>
@@ -183,4 +191,118 @@ public interface ListADT<E> extends Serializable
 	 *         <code>java.util.Iterator</code>.
 	 */
 	public Iterator<E> iterator();
+
+	/**
+	 * Performs the given action on each element of the list, in proper
+	 * sequence, until all elements have been processed or the action throws an
+	 * exception.
+	 * 
+	 * @param action The action to perform on each element.
+	 * @throws NullPointerException If the action is <code>null</code>.
+	 */
+	public default void forEach( Consumer<? super E> action ) throws NullPointerException
+	{
+		iterator().forEachRemaining( action );
+	}
+
+	/**
+	 * Replaces each element of the list with the result of applying the
+	 * operator to it. The default implementation uses <code>get</code> and
+	 * <code>set</code>, which is O(n<sup>2</sup>) for lists without fast random
+	 * access; implementors should override it.
+	 * 
+	 * @param operator The operator to apply to each element.
+	 * @throws NullPointerException If the operator is <code>null</code> or
+	 *                              returns <code>null</code>.
+	 */
+	public default void replaceAll( UnaryOperator<E> operator ) throws NullPointerException
+	{
+		if( operator == null )
+			throw new NullPointerException( "operator cannot be null" );
+		for( int i = 0; i < size(); i++ )
+			set( i, operator.apply( get( i ) ) );
+	}
+
+	/**
+	 * Removes every element of the list that satisfies the given predicate. The
+	 * predicate sees the elements in proper sequence. The default
+	 * implementation calls <code>remove(int)</code> for each match, which
+	 * shifts the rest of the list every time; implementors should override it
+	 * with a single pass.
+	 * 
+	 * @param filter The predicate that returns <code>true</code> for the
+	 *               elements to remove.
+	 * @return <code>true</code> if any element was removed.
+	 * @throws NullPointerException If the predicate is <code>null</code>.
+	 */
+	public default boolean removeIf( Predicate<? super E> filter ) throws NullPointerException
+	{
+		if( filter == null )
+			throw new NullPointerException( "filter cannot be null" );
+		boolean removed = false;
+		int i = 0;
+		while( i < size() )
+		{
+			if( filter.test( get( i ) ) )
+			{
+				remove( i );
+				removed = true;
+			}
+			else
+			{
+				i++;
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Returns a <code>java.util.Spliterator</code> over the elements in this list,
+	 * in proper sequence. The default implementation wraps <code>iterator()</code>
+	 * and splits by copying batches of elements into arrays; implementors that
+	 * can split their storage directly should override it.
+	 * 
+	 * @return A spliterator that reports at least <code>ORDERED</code> and
+	 *         <code>SIZED</code>.
+	 */
+	public default Spliterator<E> spliterator()
+	{
+		final Iterator<E> it = iterator();
+		java.util.Iterator<E> adapter = new java.util.Iterator<E>()
+		{
+			@Override
+			public boolean hasNext()
+			{
+				return it.hasNext();
+			}
+
+			@Override
+			public E next() throws NoSuchElementException
+			{
+				return it.next();
+			}
+		};
+		return Spliterators.spliterator( adapter, size(), Spliterator.ORDERED );
+	}
+
+	/**
+	 * Returns a sequential <code>Stream</code> over the elements in this list.
+	 * 
+	 * @return A sequential stream backed by <code>spliterator()</code>.
+	 */
+	public default Stream<E> stream()
+	{
+		return StreamSupport.stream( spliterator(), false );
+	}
+
+	/**
+	 * Returns a possibly parallel <code>Stream</code> over the elements in this
+	 * list. The list must not be modified while the stream is running.
+	 * 
+	 * @return A parallel stream backed by <code>spliterator()</code>.
+	 */
+	public default Stream<E> parallelStream()
+	{
+		return StreamSupport.stream( spliterator(), true );
+	}
 }
@@ -0,0 +1,156 @@
+package utilities;
+
+import java.io.Serializable;
+
+/**
+ * <p>
+ * The <code>LongListADT</code> interface is the primitive <code>long</code>
+ * counterpart of {@link ListADT}. Values are stored and returned unboxed, so
+ * implementors must never wrap an element in a <code>Long</code> on the way in
+ * or out of the list.
+ * </p>
+ * <p>
+ * Because a primitive value can never be <code>null</code>, none of the methods
+ * in this interface throw <code>NullPointerException</code> for their element
+ * arguments. Removing by value is named <code>removeValue</code> so that it
+ * cannot be confused with removing by index.
+ * </p>
+ */
+public interface LongListADT extends Serializable
+{
+	/**
+	 * The size method will return the current element count contained in the list.
+	 * 
+	 * @return The current element count.
+	 */
+	public int size();
+
+	/**
+	 * Removes all of the elements from this list. This list will be empty after
+	 * this call returns.
+	 */
+	public void clear();
+
+	/**
+	 * Inserts the specified value at the specified position in this list. Shifts
+	 * the value currently at that position (if any) and any subsequent values to
+	 * the right (adds one to their indices).
+	 * 
+	 * @param index The index at which the specified value is to be inserted.
+	 * @param toAdd The value to be inserted.
+	 * @return <code>true</code> if the value is added successfully.
+	 * @throws IndexOutOfBoundsException If the index is out of range: i.e.
+	 *                                   (<code>index < 0 || index > size()</code>).
+	 */
+	public boolean add( int index, long toAdd ) throws IndexOutOfBoundsException;
+
+	/**
+	 * Appends the specified value to the end of this list.
+	 * 
+	 * @param toAdd Value to be appended to this list.
+	 * @return true if the value is appended successfully.
+	 */
+	public boolean add( long toAdd );
+
+	/**
+	 * Appends all of the values in the specified list to the end of this list, in
+	 * the order that they are returned by the specified list's iterator.
+	 * 
+	 * @param toAdd The list of values to be added.
+	 * @return true If the operation is successful.
+	 * @throws NullPointerException If the specified list is <code>null</code>.
+	 */
+	public boolean addAll( LongListADT toAdd ) throws NullPointerException;
+
+	/**
+	 * Returns the value at the specified position in this list.
+	 * 
+	 * @param index Index of the value to return.
+	 * @return The value at the specified position in this list.
+	 * @throws IndexOutOfBoundsException If the index is out of range: i.e.
+	 *                                   (<code>index < 0 || index >= size()</code>).
+	 */
+	public long get( int index ) throws IndexOutOfBoundsException;
+
+	/**
+	 * Removes the value at the specified position in this list. Shifts any
+	 * subsequent values to the left (subtracts one from their indices).
+	 * 
+	 * @param index The index of the value to remove.
+	 * @return The removed value.
+	 * @throws IndexOutOfBoundsException If the index is out of range: i.e.
+	 *                                   (<code>index < 0 || index >= size()</code>).
+	 */
+	public long remove( int index ) throws IndexOutOfBoundsException;
+
+	/**
+	 * Removes the first occurrence in this list of the specified value. If this
+	 * list does not contain the value, it is unchanged.
+	 * 
+	 * @param toRemove The value to be removed from this list.
+	 * @return <code>true</code> if the list contained the value.
+	 */
+	public boolean removeValue( long toRemove );
+
+	/**
+	 * Replaces the value at the specified position in this list with the
+	 * specified value.
+	 * 
+	 * @param index    The index of the value to replace.
+	 * @param toChange Value to be stored at the specified position.
+	 * @return The value previously at the specified position.
+	 * @throws IndexOutOfBoundsException If the index is out of range: i.e.
+	 *                                   (<code>index < 0 || index >= size()</code>).
+	 */
+	public long set( int index, long toChange ) throws IndexOutOfBoundsException;
+
+	/**
+	 * Returns <code>true</code> if this list contains no elements.
+	 * 
+	 * @return <code>true</code> if this list contains no elements.
+	 */
+	public boolean isEmpty();
+
+	/**
+	 * Returns true if this list contains the specified value.
+	 * 
+	 * @param toFind The value whose presence in this list is to be tested.
+	 * @return <code>true</code> if this list contains the specified value.
+	 */
+	public boolean contains( long toFind );
+
+	/**
+	 * Returns the index of the first occurrence of the specified value in this
+	 * list, or -1 if this list does not contain the value.
+	 * 
+	 * @param toFind The value to search for.
+	 * @return The lowest index of the value, or -1 if it is not present.
+	 */
+	public int indexOf( long toFind );
+
+	/**
+	 * Returns an array containing all of the values in this list in proper
+	 * sequence. The values are copied into <code>toHold</code> if it is big
+	 * enough; otherwise, a new array is allocated for this purpose.
+	 * 
+	 * @param toHold The array into which the values of this list are to be stored.
+	 * @return An array containing the values of this list.
+	 * @throws NullPointerException If the specified array is <code>null</code>.
+	 */
+	public long[] toArray( long[] toHold ) throws NullPointerException;
+
+	/**
+	 * Returns a new array containing all of the values in this list in proper
+	 * sequence.
+	 * 
+	 * @return An array containing all of the values in this list.
+	 */
+	public long[] toArray();
+
+	/**
+	 * Returns an iterator over the values in this list, in proper sequence.
+	 * 
+	 * @return A primitive iterator over the values in this list.
+	 */
+	public LongIterator iterator();
+}
@@ -0,0 +1,41 @@
+package utilities;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Stores elements of one type as fixed-width records in a byte buffer.
+ * Every element takes exactly {@link #width()} bytes, so a list can find the
+ * record for any index by multiplication alone.
+ * <p>
+ * Implementations must use only the absolute <code>get</code> and
+ * <code>put</code> methods of the buffer, so that the buffer's position and
+ * limit are never changed.
+ * </p>
+ *
+ * @param <E> the type of elements the codec handles
+ */
+public interface RecordCodec<E> {
+
+    /**
+     * Returns the number of bytes every record takes.
+     * @return the record width, at least 1
+     */
+    int width();
+
+    /**
+     * Writes one element as a record.
+     * @param buffer  the buffer to write to
+     * @param offset  the index of the record's first byte in the buffer
+     * @param element the element to write, never null
+     * @throws IllegalArgumentException if the element does not fit in a record
+     */
+    void write(ByteBuffer buffer, int offset, E element) throws IllegalArgumentException;
+
+    /**
+     * Reads the element stored in one record.
+     * @param buffer the buffer to read from
+     * @param offset the index of the record's first byte in the buffer
+     * @return the element read, never null
+     */
+    E read(ByteBuffer buffer, int offset);
+}
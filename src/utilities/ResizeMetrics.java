@@ -0,0 +1,51 @@
+package utilities;
+
+/**
+ * Read-only counters describing how an array-backed list has resized and
+ * moved its backing array. The counters cover every list the metrics are
+ * attached to, from when they were attached or last reset.
+ */
+public interface ResizeMetrics {
+
+    /**
+     * Returns how many times a backing array was replaced by a larger one.
+     * @return the number of grows
+     */
+    long getResizeCount();
+
+    /**
+     * Returns how many times a backing array was replaced by a smaller one.
+     * @return the number of shrinks
+     */
+    long getShrinkCount();
+
+    /**
+     * Returns how many bytes of element references were copied into new
+     * backing arrays, assuming 4-byte compressed references.
+     * @return the number of bytes copied by resizes
+     */
+    long getBytesCopied();
+
+    /**
+     * Returns the largest backing array seen, in elements.
+     * @return the peak capacity
+     */
+    long getPeakCapacity();
+
+    /**
+     * Returns the total number of unused slots that resizes left in the new
+     * backing arrays, right after each resize.
+     * @return the wasted slots allocated by resizes
+     */
+    long getWastedSlots();
+
+    /**
+     * Returns how many elements were moved one slot or more within a backing
+     * array to open or close a gap.
+     * @return the number of element shifts
+     */
+    long getElementShifts();
+
+    /** Sets every counter back to zero. */
+    void reset();
+}